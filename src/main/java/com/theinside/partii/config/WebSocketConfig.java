@@ -0,0 +1,47 @@
+package com.theinside.partii.config;
+
+import com.theinside.partii.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.StompWebSocketEndpointRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP over WebSocket for live contribution boards.
+ * Uses the in-memory simple broker; clients subscribe to {@code /topic/events/{eventId}/contributions}
+ * and only receive, so no application destinations are mapped.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    public static final String ENDPOINT = "/partii/ws";
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final AppProperties appProperties;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        StompWebSocketEndpointRegistration endpoint = registry.addEndpoint(ENDPOINT);
+        if (appProperties.frontendUrl() != null) {
+            endpoint.setAllowedOrigins(appProperties.frontendUrl());
+        }
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        // Deltas must reach each subscriber in the order they were sequenced
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -0,0 +1,42 @@
+package com.theinside.partii.controller;
+
+import com.theinside.partii.security.PasswordHashing;
+import com.theinside.partii.security.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Admin-only REST controller exposing the state of authentication safeguards.
+ */
+@RestController
+@RequestMapping("/partii/api/v1/admin/security")
+@RequiredArgsConstructor
+public class AdminSecurityController {
+
+    private final PasswordHashing passwordHashing;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * GET /api/v1/admin/security/password-hashing
+     * Pool size, backlog, throughput and refusals of the password hashing bulkhead.
+     */
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PasswordHashing.Stats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashing.stats());
+    }
+
+    /**
+     * GET /api/v1/admin/security/rate-limits
+     * Requests allowed and refused per rate limit policy on this instance since startup.
+     */
+    @GetMapping("/rate-limits")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, RateLimiter.PolicyStats>> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimiter.stats());
+    }
+}
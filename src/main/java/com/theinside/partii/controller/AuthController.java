@@ -10,6 +10,7 @@ import com.theinside.partii.dto.ResendOtpRequest;
 import com.theinside.partii.dto.ResetPasswordRequest;
 import com.theinside.partii.dto.SignupRequest;
 import com.theinside.partii.dto.VerifyEmailRequest;
+import com.theinside.partii.security.RateLimit;
 import com.theinside.partii.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import static com.theinside.partii.enums.RateLimitAlgorithm.TOKEN_BUCKET;
+import static com.theinside.partii.enums.RateLimitKey.EMAIL;
+import static com.theinside.partii.enums.RateLimitKey.IP;
 import static com.theinside.partii.utils.CustomMessages.LOGGED_OUT_SUCCESSFULLY;
 
 @RestController
@@ -32,6 +36,7 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/signup")
+    @RateLimit(name = "signup", key = IP, limit = 10, window = "PT1H")
     public ResponseEntity<AuthResponse> signup(@Valid @RequestBody SignupRequest request) {
         log.info("Signup request received");
         AuthResponse response = authService.signup(request);
@@ -39,6 +44,8 @@ public class AuthController {
     }
 
     @PostMapping("/login")
+    @RateLimit(name = "login-email", key = EMAIL, limit = 10, window = "PT15M", algorithm = TOKEN_BUCKET)
+    @RateLimit(name = "login-ip", key = IP, limit = 30, window = "PT1M", algorithm = TOKEN_BUCKET)
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         log.info("Login request received");
         AuthResponse response = authService.login(request);
@@ -46,6 +53,7 @@ public class AuthController {
     }
 
     @PostMapping("/verify-email")
+    @RateLimit(name = "verify-email", key = IP, limit = 30, window = "PT1M", algorithm = TOKEN_BUCKET)
     public ResponseEntity<GenericMessageResponse> verifyEmail(@Valid @RequestBody VerifyEmailRequest request) {
         log.info("Email verification request received");
         GenericMessageResponse response = authService.verifyEmail(request);
@@ -53,6 +61,8 @@ public class AuthController {
     }
 
     @PostMapping("/resend-otp")
+    @RateLimit(name = "resend-otp-email", key = EMAIL, limit = 5, window = "PT1H", sharedStoreOnly = true)
+    @RateLimit(name = "resend-otp", key = IP, limit = 20, window = "PT1H")
     public ResponseEntity<GenericMessageResponse> resendOtp(@Valid @RequestBody ResendOtpRequest request) {
         log.info("Resend OTP request received");
         GenericMessageResponse response = authService.resendOtp(request.email());
@@ -74,6 +84,8 @@ public class AuthController {
     }
 
     @PostMapping("/forgot-password")
+    @RateLimit(name = "forgot-password-email", key = EMAIL, limit = 3, window = "PT1H", sharedStoreOnly = true)
+    @RateLimit(name = "forgot-password", key = IP, limit = 20, window = "PT1H")
     public ResponseEntity<GenericMessageResponse> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
         log.info("Forgot password request received");
         GenericMessageResponse response = authService.forgotPassword(request.email());
@@ -81,6 +93,7 @@ public class AuthController {
     }
 
     @PostMapping("/reset-password")
+    @RateLimit(name = "reset-password", key = IP, limit = 10, window = "PT1M", algorithm = TOKEN_BUCKET)
     public ResponseEntity<GenericMessageResponse> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
         log.info("Reset password request received");
         GenericMessageResponse response = authService.resetPassword(
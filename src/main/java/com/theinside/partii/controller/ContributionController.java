@@ -4,6 +4,8 @@ import com.theinside.partii.dto.*;
 import com.theinside.partii.security.SecurityUser;
 import com.theinside.partii.service.ContributionService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -49,7 +51,7 @@ public class ContributionController {
 
     /**
      * GET /events/{eventId}/contributions
-     * List contribution items for an event with optional filters.
+     * List contribution items for an event; any combination of the optional filters applies.
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -69,6 +71,31 @@ public class ContributionController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * GET /events/{eventId}/contributions/cursor
+     * List contribution items with keyset pagination. Filters combine; sort is PRIORITY (default) or CREATED_AT.
+     * Use cursor from response to fetch next page.
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<ContributionItemResponse>> listItemsKeyset(
+        @PathVariable Long eventId,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) String type,
+        @RequestParam(required = false) String priority,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.debug("Listing contributions for event {} with cursor pagination, status={}, category={}, type={}, priority={}, sort={}",
+                eventId, status, category, type, priority, sort);
+        CursorPage<ContributionItemResponse> items = contributionService.listItemsKeyset(
+                eventId, user.getUserId(), status, category, type, priority, sort, cursor, limit);
+        return ResponseEntity.ok(items);
+    }
+
     /**
      * GET /events/{eventId}/contributions/{itemId}
      * Get a single contribution item by ID.
@@ -118,6 +145,88 @@ public class ContributionController {
         return ResponseEntity.noContent().build();
     }
 
+    // ===== Bulk Endpoints =====
+
+    /**
+     * POST /events/{eventId}/contributions/bulk
+     * Create several contribution items in one request.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ContributionItemResponse>> bulkCreateItems(
+        @PathVariable Long eventId,
+        @Valid @RequestBody BulkCreateContributionItemsRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} creating {} contribution items for event {}", user.getUserId(), request.items().size(), eventId);
+        List<ContributionItemResponse> response = contributionService.bulkCreateItems(eventId, user.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * PUT /events/{eventId}/contributions/bulk
+     * Update several available contribution items in one request.
+     */
+    @PutMapping("/bulk")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ContributionItemResponse>> bulkUpdateItems(
+        @PathVariable Long eventId,
+        @Valid @RequestBody BulkUpdateContributionItemsRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} updating {} contribution items for event {}", user.getUserId(), request.items().size(), eventId);
+        List<ContributionItemResponse> response = contributionService.bulkUpdateItems(eventId, user.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /events/{eventId}/contributions/bulk/delete
+     * Delete several available contribution items in one request.
+     */
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> bulkDeleteItems(
+        @PathVariable Long eventId,
+        @Valid @RequestBody BulkContributionItemIdsRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} deleting {} contribution items for event {}", user.getUserId(), request.itemIds().size(), eventId);
+        contributionService.bulkDeleteItems(eventId, user.getUserId(), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * POST /events/{eventId}/contributions/bulk/complete
+     * Mark several confirmed contribution items as completed in one request.
+     */
+    @PostMapping("/bulk/complete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ContributionItemResponse>> bulkCompleteItems(
+        @PathVariable Long eventId,
+        @Valid @RequestBody BulkContributionItemIdsRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} completing {} contribution items for event {}", user.getUserId(), request.itemIds().size(), eventId);
+        List<ContributionItemResponse> response = contributionService.bulkCompleteItems(eventId, user.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /events/{eventId}/contributions/apply-template/{templateId}
+     * Copy one of the organizer's templates onto the event's contribution list.
+     */
+    @PostMapping("/apply-template/{templateId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContributionSummaryResponse> applyTemplate(
+        @PathVariable Long eventId,
+        @PathVariable Long templateId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} applying contribution template {} to event {}", user.getUserId(), templateId, eventId);
+        ContributionSummaryResponse response = contributionService.applyTemplate(eventId, templateId, user.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
     // ===== Lifecycle Endpoints =====
 
     /**
@@ -265,4 +374,35 @@ public class ContributionController {
         List<String> categories = contributionService.getCategories(eventId, user.getUserId());
         return ResponseEntity.ok(categories);
     }
+
+    /**
+     * GET /events/{eventId}/contributions/categories/summary
+     * Item, claimed and cost totals for each category in an event.
+     */
+    @GetMapping("/categories/summary")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ContributionCategorySummary>> getCategorySummaries(
+        @PathVariable Long eventId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.debug("Getting contribution category summaries for event {}", eventId);
+        List<ContributionCategorySummary> summaries = contributionService.getCategorySummaries(eventId, user.getUserId());
+        return ResponseEntity.ok(summaries);
+    }
+
+    /**
+     * GET /events/{eventId}/contributions/board
+     * Snapshot of the live board with the broadcast sequence it reflects.
+     * Subscribe to /topic/events/{eventId}/contributions first, then load this and apply newer deltas.
+     */
+    @GetMapping("/board")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContributionBoardSnapshot> getBoardSnapshot(
+        @PathVariable Long eventId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.debug("Getting contribution board snapshot for event {}", eventId);
+        ContributionBoardSnapshot snapshot = contributionService.getBoardSnapshot(eventId, user.getUserId());
+        return ResponseEntity.ok(snapshot);
+    }
 }
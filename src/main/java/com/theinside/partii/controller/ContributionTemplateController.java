@@ -0,0 +1,101 @@
+package com.theinside.partii.controller;
+
+import com.theinside.partii.dto.ContributionTemplateResponse;
+import com.theinside.partii.dto.CreateContributionTemplateRequest;
+import com.theinside.partii.dto.SaveEventAsTemplateRequest;
+import com.theinside.partii.security.SecurityUser;
+import com.theinside.partii.service.ContributionTemplateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the current user's reusable contribution templates.
+ * Applying a template to an event is handled by {@link ContributionController}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/partii/api/v1/contribution-templates")
+@RequiredArgsConstructor
+public class ContributionTemplateController {
+
+    private final ContributionTemplateService templateService;
+
+    /**
+     * POST /contribution-templates
+     * Create a template from an explicit item list.
+     */
+    @PostMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContributionTemplateResponse> createTemplate(
+        @Valid @RequestBody CreateContributionTemplateRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} creating contribution template '{}'", user.getUserId(), request.name());
+        ContributionTemplateResponse response = templateService.createTemplate(user.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * POST /contribution-templates/from-event/{eventId}
+     * Save an event's current contribution list as a template.
+     */
+    @PostMapping("/from-event/{eventId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContributionTemplateResponse> saveEventAsTemplate(
+        @PathVariable Long eventId,
+        @Valid @RequestBody SaveEventAsTemplateRequest request,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} saving event {} as contribution template '{}'", user.getUserId(), eventId, request.name());
+        ContributionTemplateResponse response = templateService.saveEventAsTemplate(eventId, user.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * GET /contribution-templates
+     * List the current user's templates with their items.
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<ContributionTemplateResponse>> listTemplates(
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        return ResponseEntity.ok(templateService.listTemplates(user.getUserId()));
+    }
+
+    /**
+     * GET /contribution-templates/{templateId}
+     * Get one of the current user's templates.
+     */
+    @GetMapping("/{templateId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ContributionTemplateResponse> getTemplate(
+        @PathVariable Long templateId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        return ResponseEntity.ok(templateService.getTemplate(templateId, user.getUserId()));
+    }
+
+    /**
+     * DELETE /contribution-templates/{templateId}
+     * Delete one of the current user's templates.
+     */
+    @DeleteMapping("/{templateId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> deleteTemplate(
+        @PathVariable Long templateId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.info("User {} deleting contribution template {}", user.getUserId(), templateId);
+        templateService.deleteTemplate(templateId, user.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
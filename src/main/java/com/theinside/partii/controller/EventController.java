@@ -1,9 +1,11 @@
 package com.theinside.partii.controller;
 
+import com.theinside.partii.dto.CloneEventRequest;
 import com.theinside.partii.dto.CreateEventRequest;
 import com.theinside.partii.dto.CursorPage;
 import com.theinside.partii.dto.EventResponse;
 import com.theinside.partii.dto.UpdateEventRequest;
+import com.theinside.partii.enums.AttendeeStatus;
 import com.theinside.partii.security.SecurityUser;
 import com.theinside.partii.service.EventService;
 import jakarta.validation.Valid;
@@ -21,6 +23,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST controller for event operations.
@@ -123,6 +126,22 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/events/{id}/clone
+     * Clone an event and its contribution list into a new draft.
+     */
+    @PostMapping("/{id}/clone")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<EventResponse> cloneEvent(
+        @PathVariable Long id,
+        @AuthenticationPrincipal SecurityUser user,
+        @Valid @RequestBody CloneEventRequest request
+    ) {
+        log.info("Cloning event: {} by user: {}", id, user.getUserId());
+        EventResponse response = eventService.cloneEvent(id, user.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     /**
      * PATCH /api/events/{id}/cancel
      * Cancel an event.
@@ -194,6 +213,20 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * GET /api/events/my-events/status?ids=1,2,3
+     * Get the current user's attendee status for up to 100 events in one call.
+     * Events the user has not requested to join are omitted.
+     */
+    @GetMapping("/my-events/status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<Long, AttendeeStatus>> getMyEventStatuses(
+        @AuthenticationPrincipal SecurityUser user,
+        @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(eventService.getMyEventStatuses(user.getUserId(), ids));
+    }
+
     /**
      * GET /api/events/health.
      * Health check endpoint for event service.
@@ -0,0 +1,141 @@
+package com.theinside.partii.controller;
+
+import com.theinside.partii.dto.EventPaymentTotalsResponse;
+import com.theinside.partii.dto.PaymentImportResponse;
+import com.theinside.partii.dto.PaymentLedgerEntryResponse;
+import com.theinside.partii.dto.PaymentResponse;
+import com.theinside.partii.dto.RecordPaymentRequest;
+import com.theinside.partii.dto.SettlementResponse;
+import com.theinside.partii.enums.PaymentImportFormat;
+import com.theinside.partii.exception.BadRequestException;
+import com.theinside.partii.security.SecurityUser;
+import com.theinside.partii.service.PaymentService;
+import com.theinside.partii.service.SettlementService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * REST controller for attendee payments.
+ * Handles recording payments to the ledger and reading event payment totals.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/partii/api/v1/events/{eventId}/payments")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final PaymentService paymentService;
+    private final SettlementService settlementService;
+
+    /**
+     * POST /events/{eventId}/payments/{userId}
+     * Record a payment from an approved attendee. Organizer only.
+     * Replays with the same idempotency key return the original entry.
+     */
+    @PostMapping("/{userId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<PaymentResponse> recordPayment(
+        @PathVariable Long eventId,
+        @PathVariable Long userId,
+        @Valid @RequestBody RecordPaymentRequest request,
+        @AuthenticationPrincipal SecurityUser organizer
+    ) {
+        log.info("Organizer {} recording payment for user {} in event {}", organizer.getUserId(), userId, eventId);
+        PaymentResponse response = paymentService.recordPayment(eventId, userId, organizer.getUserId(), request);
+        return ResponseEntity.status(response.replayed() ? HttpStatus.OK : HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * POST /events/{eventId}/payments/import
+     * Record payments in bulk from a CSV or NDJSON file. Organizer only.
+     * The format is taken from the format parameter, or inferred from the file name.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<PaymentImportResponse> importPayments(
+        @PathVariable Long eventId,
+        @RequestParam("file") MultipartFile file,
+        @RequestParam(required = false) String format,
+        @AuthenticationPrincipal SecurityUser organizer
+    ) throws IOException {
+        log.info("Organizer {} importing payments for event {} from {}", organizer.getUserId(), eventId,
+            file.getOriginalFilename());
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(paymentService.importPayments(
+                eventId, organizer.getUserId(), input, resolveFormat(format, file.getOriginalFilename())));
+        }
+    }
+
+    /**
+     * GET /events/{eventId}/payments/totals
+     * Get the running payment totals for an event. Organizer only.
+     */
+    @GetMapping("/totals")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<EventPaymentTotalsResponse> getPaymentTotals(
+        @PathVariable Long eventId,
+        @AuthenticationPrincipal SecurityUser organizer
+    ) {
+        log.debug("Getting payment totals for event {}", eventId);
+        return ResponseEntity.ok(paymentService.getPaymentTotals(eventId, organizer.getUserId()));
+    }
+
+    /**
+     * GET /events/{eventId}/payments/settlement
+     * Get each participant's balance and the minimal transfers that settle the event.
+     * Organizer and approved attendees only.
+     */
+    @GetMapping("/settlement")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SettlementResponse> getSettlement(
+        @PathVariable Long eventId,
+        @AuthenticationPrincipal SecurityUser user
+    ) {
+        log.debug("Getting settlement for event {}", eventId);
+        return ResponseEntity.ok(settlementService.getSettlement(eventId, user.getUserId()));
+    }
+
+    /**
+     * GET /events/{eventId}/payments
+     * List payment ledger entries for an event, newest first. Organizer only.
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<PaymentLedgerEntryResponse>> getLedger(
+        @PathVariable Long eventId,
+        @PageableDefault(size = 50) Pageable pageable,
+        @AuthenticationPrincipal SecurityUser organizer
+    ) {
+        log.debug("Listing payment ledger for event {}", eventId);
+        return ResponseEntity.ok(paymentService.getLedger(eventId, organizer.getUserId(), pageable));
+    }
+
+    private PaymentImportFormat resolveFormat(String format, String filename) {
+        if (format != null) {
+            try {
+                return PaymentImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported import format: " + format);
+            }
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl")
+            ? PaymentImportFormat.NDJSON
+            : PaymentImportFormat.CSV;
+    }
+}
@@ -5,6 +5,8 @@ import com.theinside.partii.security.SecurityUser;
 import com.theinside.partii.service.ContributionService;
 import com.theinside.partii.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,8 +15,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST controller for user operations.
  * Handles profile management, blocking, and reporting.
@@ -133,15 +133,18 @@ public class UserController {
 
     /**
      * GET /api/users/me/contributions
-     * Get the current user's active contributions across all events.
+     * Get what the current user is bringing across all upcoming events, soonest event first.
+     * Use cursor from response to fetch next page.
      */
     @GetMapping("/me/contributions")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ContributionItemResponse>> getMyContributions(
-        @AuthenticationPrincipal SecurityUser user
+    public ResponseEntity<CursorPage<MyContributionResponse>> getMyContributions(
+        @AuthenticationPrincipal SecurityUser user,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit
     ) {
-        log.debug("Getting active contributions for user {}", user.getUserId());
-        return ResponseEntity.ok(contributionService.getMyContributions(user.getUserId()));
+        log.debug("Getting active contributions for user {}, cursor: {}, limit: {}", user.getUserId(), cursor, limit);
+        return ResponseEntity.ok(contributionService.getMyContributions(user.getUserId(), cursor, limit));
     }
     /**
      * GET /api/users/health
@@ -1,6 +1,7 @@
 package com.theinside.partii.dto;
 
 import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.AttendeeStatusReason;
 import com.theinside.partii.enums.PaymentStatus;
 
 import java.math.BigDecimal;
@@ -15,6 +16,7 @@ public record AttendeeResponse(
     String displayName,
     String profilePictureUrl,
     AttendeeStatus status,
+    AttendeeStatusReason statusReason,
     BigDecimal paymentAmount,
     PaymentStatus paymentStatus,
     BigDecimal amountPaid,
@@ -0,0 +1,17 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO naming the contribution items a bulk delete or complete applies to.
+ */
+public record BulkContributionItemIdsRequest(
+
+    @NotEmpty(message = "At least one item id is required")
+    @Size(max = 500, message = "Cannot target more than 500 items at once")
+    List<@NotNull Long> itemIds
+) {}
@@ -0,0 +1,17 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for adding several contribution items to an event in one call.
+ */
+public record BulkCreateContributionItemsRequest(
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "Cannot create more than 500 items at once")
+    List<@Valid CreateContributionItemRequest> items
+) {}
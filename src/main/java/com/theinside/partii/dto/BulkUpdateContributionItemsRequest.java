@@ -0,0 +1,30 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for editing several contribution items in one call.
+ */
+public record BulkUpdateContributionItemsRequest(
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "Cannot update more than 500 items at once")
+    List<@Valid ItemUpdate> items
+) {
+    /**
+     * Partial update for one item; only non-null fields are applied.
+     */
+    public record ItemUpdate(
+        @NotNull(message = "Item id is required")
+        Long id,
+
+        @NotNull(message = "Changes are required")
+        @Valid
+        UpdateContributionItemRequest changes
+    ) {}
+}
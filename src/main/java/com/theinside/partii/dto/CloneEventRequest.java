@@ -0,0 +1,20 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO for cloning an event. Deadlines move with the event date; the title defaults to the source's.
+ */
+public record CloneEventRequest(
+
+    @Size(min = 3, max = 100, message = "Title must be between 3 and 100 characters")
+    String title,
+
+    @NotNull(message = "Event date is required")
+    @Future(message = "Event date must be in the future")
+    LocalDateTime eventDate
+) {}
@@ -0,0 +1,24 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.ContributionBoardChange;
+import com.theinside.partii.enums.ContributionStatus;
+
+/**
+ * A committed change to one item, broadcast on the event's board topic.
+ * Clients apply deltas in sequence order; a gap in {@code sequence} or a different {@code epoch}
+ * means messages were missed and the board must be reloaded from the snapshot.
+ *
+ * @param item full item for CREATED and UPDATED, otherwise null
+ */
+public record ContributionBoardDelta(
+    Long eventId,
+    long epoch,
+    long sequence,
+    ContributionBoardChange change,
+    Long itemId,
+    ContributionStatus status,
+    Long assignedToUserId,
+    String assignedToDisplayName,
+    boolean completed,
+    ContributionItemResponse item
+) {}
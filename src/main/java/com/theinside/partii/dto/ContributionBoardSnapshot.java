@@ -0,0 +1,15 @@
+package com.theinside.partii.dto;
+
+import java.util.List;
+
+/**
+ * Every item on an event's board, stamped with the broadcast position it reflects.
+ * Deltas at or below {@code sequence} are already included; later ones carry absolute item state,
+ * so re-applying one the snapshot already reflects is harmless.
+ */
+public record ContributionBoardSnapshot(
+    Long eventId,
+    long epoch,
+    long sequence,
+    List<ContributionItemResponse> items
+) {}
@@ -0,0 +1,11 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+
+public record ContributionCategorySummary(
+    String category,
+    long itemCount,
+    long claimedCount,
+    BigDecimal totalEstimatedCost,
+    BigDecimal claimedCost
+) {}
@@ -0,0 +1,51 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.ContributionSort;
+import com.theinside.partii.enums.Priority;
+
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Cursor for keyset pagination of contribution items.
+ * Carries the sort it was issued for so it cannot be replayed against a different ordering.
+ */
+public record ContributionCursor(
+    ContributionSort sort,
+    Priority priority,
+    Instant createdAt,
+    Long id
+) {
+    /**
+     * Encode cursor to Base64 string for API responses.
+     * Format: "sort|priority|createdAt|id"
+     */
+    public String encode() {
+        String raw = sort + "|" + priority + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes());
+    }
+
+    /**
+     * Decode Base64 cursor string back to ContributionCursor.
+     */
+    public static ContributionCursor decode(String encodedCursor) {
+        if (encodedCursor == null || encodedCursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encodedCursor));
+            String[] parts = decoded.split("\\|");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor format");
+            }
+            return new ContributionCursor(
+                ContributionSort.valueOf(parts[0]),
+                Priority.valueOf(parts[1]),
+                Instant.parse(parts[2]),
+                Long.parseLong(parts[3])
+            );
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor: " + encodedCursor, e);
+        }
+    }
+}
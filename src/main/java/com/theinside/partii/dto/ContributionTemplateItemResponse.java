@@ -0,0 +1,18 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.ContributionType;
+import com.theinside.partii.enums.Priority;
+
+import java.math.BigDecimal;
+
+public record ContributionTemplateItemResponse(
+    Long id,
+    String name,
+    String category,
+    ContributionType type,
+    Integer quantity,
+    Integer timeCommitment,
+    BigDecimal estimatedCost,
+    Priority priority,
+    String notes
+) {}
@@ -0,0 +1,13 @@
+package com.theinside.partii.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record ContributionTemplateResponse(
+    Long id,
+    String name,
+    String description,
+    List<ContributionTemplateItemResponse> items,
+    Instant createdAt,
+    Instant updatedAt
+) {}
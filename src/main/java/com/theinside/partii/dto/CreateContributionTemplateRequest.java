@@ -0,0 +1,25 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating a reusable contribution template from an explicit item list.
+ */
+public record CreateContributionTemplateRequest(
+
+    @NotBlank(message = "Template name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    String name,
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    String description,
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 500, message = "A template cannot have more than 500 items")
+    List<@Valid CreateContributionItemRequest> items
+) {}
@@ -0,0 +1,14 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Response DTO for an event's running payment totals.
+ */
+public record EventPaymentTotalsResponse(
+    Long eventId,
+    BigDecimal totalPaid,
+    long entryCount,
+    Instant updatedAt
+) {}
@@ -0,0 +1,31 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.ContributionStatus;
+import com.theinside.partii.enums.ContributionType;
+import com.theinside.partii.enums.Priority;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * An item the current user is bringing, with the event it is for.
+ */
+public record MyContributionResponse(
+    Long itemId,
+    Long eventId,
+    String eventTitle,
+    LocalDateTime eventDate,
+    String eventLocation,
+    String name,
+    String category,
+    ContributionType type,
+    Integer quantity,
+    Integer timeCommitment,
+    BigDecimal estimatedCost,
+    Priority priority,
+    ContributionStatus status,
+    boolean completed,
+    Instant claimedAt,
+    Instant confirmedAt
+) {}
@@ -0,0 +1,15 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * A participant's position in an event's settlement.
+ * A positive balance is owed to the participant; a negative balance is owed by them.
+ */
+public record ParticipantBalanceResponse(
+    Long userId,
+    boolean organizer,
+    BigDecimal contributed,
+    BigDecimal share,
+    BigDecimal balance
+) {}
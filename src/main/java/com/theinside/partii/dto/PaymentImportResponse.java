@@ -0,0 +1,16 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Response DTO for a bulk payment import, with a report entry for every row.
+ */
+public record PaymentImportResponse(
+    long totalRows,
+    long applied,
+    long duplicates,
+    long failed,
+    BigDecimal amountApplied,
+    List<PaymentImportRowResult> rows
+) {}
@@ -0,0 +1,17 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.PaymentImportRowStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-row outcome of a bulk payment import.
+ */
+public record PaymentImportRowResult(
+    long line,
+    PaymentImportRowStatus status,
+    Long attendeeId,
+    BigDecimal amount,
+    String reference,
+    String message
+) {}
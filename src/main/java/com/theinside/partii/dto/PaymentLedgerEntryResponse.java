@@ -0,0 +1,17 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Response DTO for a single payment ledger entry.
+ */
+public record PaymentLedgerEntryResponse(
+    Long id,
+    Long attendeeId,
+    BigDecimal amount,
+    String reference,
+    String idempotencyKey,
+    Long recordedBy,
+    Instant createdAt
+) {}
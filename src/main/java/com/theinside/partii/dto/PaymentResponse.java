@@ -0,0 +1,23 @@
+package com.theinside.partii.dto;
+
+import com.theinside.partii.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Response DTO for a recorded payment, including the attendee's updated running total.
+ * {@code replayed} is true when the idempotency key matched an existing ledger entry.
+ */
+public record PaymentResponse(
+    Long entryId,
+    Long eventId,
+    Long userId,
+    BigDecimal amount,
+    String reference,
+    String idempotencyKey,
+    Instant recordedAt,
+    BigDecimal amountPaid,
+    PaymentStatus paymentStatus,
+    boolean replayed
+) {}
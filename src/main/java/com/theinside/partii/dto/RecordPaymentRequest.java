@@ -0,0 +1,23 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for recording a payment received from an attendee.
+ */
+public record RecordPaymentRequest(
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 10, fraction = 2, message = "Invalid amount format")
+    BigDecimal amount,
+
+    @Size(max = 100, message = "Reference cannot exceed 100 characters")
+    String reference,
+
+    @NotBlank(message = "Idempotency key is required")
+    @Size(max = 100, message = "Idempotency key cannot exceed 100 characters")
+    String idempotencyKey
+) {}
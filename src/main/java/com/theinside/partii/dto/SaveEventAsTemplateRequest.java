@@ -0,0 +1,17 @@
+package com.theinside.partii.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for saving an event's current contribution list as a template.
+ */
+public record SaveEventAsTemplateRequest(
+
+    @NotBlank(message = "Template name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    String name,
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    String description
+) {}
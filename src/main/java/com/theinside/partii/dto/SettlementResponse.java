@@ -0,0 +1,18 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for an event's cost split: each participant's balance and
+ * the minimal set of transfers that settles them.
+ */
+public record SettlementResponse(
+    Long eventId,
+    String currency,
+    BigDecimal totalCost,
+    List<ParticipantBalanceResponse> balances,
+    List<SettlementTransferResponse> transfers,
+    Instant computedAt
+) {}
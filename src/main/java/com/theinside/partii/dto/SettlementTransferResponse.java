@@ -0,0 +1,12 @@
+package com.theinside.partii.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * A single payment that settles part of an event's balances.
+ */
+public record SettlementTransferResponse(
+    Long fromUserId,
+    Long toUserId,
+    BigDecimal amount
+) {}
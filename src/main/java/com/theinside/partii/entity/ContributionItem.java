@@ -6,6 +6,7 @@ import com.theinside.partii.enums.Priority;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -17,10 +18,10 @@ import java.time.Instant;
 @Table(
     name = "contribution_items",
     indexes = {
-        @Index(name = "idx_contributions_event", columnList = "event_id"),
+        @Index(name = "idx_contributions_event_status_priority_created", columnList = "event_id, status, priority, created_at, id"),
         @Index(name = "idx_contributions_assigned_to", columnList = "assigned_to"),
         @Index(name = "idx_contributions_status", columnList = "status"),
-        @Index(name = "idx_contributions_category", columnList = "category")
+        @Index(name = "idx_contributions_event_category", columnList = "event_id, category")
     }
 )
 @Getter
@@ -28,10 +29,15 @@ import java.time.Instant;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate
 public class ContributionItem {
 
+    /**
+     * Sequence-backed so inserts can be JDBC-batched; ids are handed out 50 at a time by the pooled optimizer.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contribution_items_seq")
+    @SequenceGenerator(name = "contribution_items_seq", sequenceName = "contribution_items_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -129,6 +135,13 @@ public class ContributionItem {
     @Column(name = "confirmed_at")
     private Instant confirmedAt;
 
+    /**
+     * When the organizer was last alerted that this MUST_HAVE item is still open.
+     * Cleared whenever the item becomes available again so a released item is alerted anew.
+     */
+    @Column(name = "must_have_alerted_at")
+    private Instant mustHaveAlertedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
@@ -192,6 +205,7 @@ public class ContributionItem {
         this.status = ContributionStatus.AVAILABLE;
         this.claimedAt = null;
         this.confirmedAt = null;
+        this.mustHaveAlertedAt = null;
     }
 
     /**
@@ -215,6 +229,7 @@ public class ContributionItem {
         this.claimedAt = null;
         this.confirmedAt = null;
         this.completed = false;
+        this.mustHaveAlertedAt = null;
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.theinside.partii.entity;
+
+import com.theinside.partii.enums.ContributionType;
+import com.theinside.partii.enums.Priority;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * One line of a {@link ContributionTemplate}; carries only the item definition, never claim state.
+ */
+@Entity
+@Table(
+    name = "contribution_template_items",
+    indexes = {
+        @Index(name = "idx_contribution_template_items_template", columnList = "template_id, id")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContributionTemplateItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false, updatable = false)
+    private ContributionTemplate template;
+
+    @NotBlank(message = "Item name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Size(max = 50, message = "Category cannot exceed 50 characters")
+    @Column(length = 50)
+    private String category;
+
+    @NotNull(message = "Contribution type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ContributionType type;
+
+    @Min(value = 1, message = "Quantity must be at least 1")
+    @Column
+    @Builder.Default
+    private Integer quantity = 1;
+
+    @Min(value = 0, message = "Time commitment cannot be negative")
+    @Column(name = "time_commitment")
+    private Integer timeCommitment;
+
+    @DecimalMin(value = "0.0", message = "Estimated cost cannot be negative")
+    @Digits(integer = 10, fraction = 2, message = "Invalid estimated cost format")
+    @Column(name = "estimated_cost", precision = 12, scale = 2)
+    private BigDecimal estimatedCost;
+
+    @NotNull(message = "Priority is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 15)
+    @Builder.Default
+    private Priority priority = Priority.NICE_TO_HAVE;
+
+    @Size(max = 500, message = "Notes cannot exceed 500 characters")
+    @Column(length = 500)
+    private String notes;
+}
@@ -7,7 +7,7 @@ import java.time.Instant;
 
 /**
  * Entity for storing email verification OTP tokens.
- * Tokens are hashed for security - even if DB is compromised, OTPs remain protected.
+ * OTPs are stored as peppered HMACs (see TokenHasher) - even if DB is compromised, OTPs remain protected.
  */
 @Entity
 @Table(name = "email_verification_tokens", indexes = {
@@ -37,6 +37,13 @@ public class EmailVerificationToken {
     @Builder.Default
     private boolean used = false;
 
+    /**
+     * Wrong codes entered against this token; it stops accepting any once the limit is reached.
+     */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
@@ -1,6 +1,7 @@
 package com.theinside.partii.entity;
 
 import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.AttendeeStatusReason;
 import com.theinside.partii.enums.PaymentStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -54,6 +55,16 @@ public class EventAttendee {
     @Builder.Default
     private AttendeeStatus status = AttendeeStatus.PENDING;
 
+    /**
+     * Why the request was closed automatically, if it was.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_reason", length = 30)
+    private AttendeeStatusReason statusReason;
+
+    @Column(name = "status_changed_at")
+    private Instant statusChangedAt;
+
     /**
      * The amount this attendee is expected to pay.
      */
@@ -124,6 +135,16 @@ public class EventAttendee {
         this.status = AttendeeStatus.WAITLIST;
     }
 
+    /**
+     * Reopens an expired request as a new pending or waitlisted one.
+     * @param status The status the new request starts in
+     */
+    public void reopen(AttendeeStatus status) {
+        this.status = status;
+        this.statusReason = null;
+        this.statusChangedAt = Instant.now();
+    }
+
     /**
      * Removes an approved attendee from the event.
      */
@@ -141,7 +162,19 @@ public class EventAttendee {
         }
 
         this.amountPaid = this.amountPaid.add(amount);
+        updatePaymentStatus();
+    }
+
+    /**
+     * Overwrites the amount paid with a total rebuilt from the payment ledger.
+     * @param ledgerTotal The sum of all ledger entries for this attendee
+     */
+    public void applyLedgerTotal(BigDecimal ledgerTotal) {
+        this.amountPaid = ledgerTotal != null ? ledgerTotal : BigDecimal.ZERO;
+        updatePaymentStatus();
+    }
 
+    private void updatePaymentStatus() {
         if (this.paymentAmount.compareTo(BigDecimal.ZERO) > 0) {
             if (this.amountPaid.compareTo(this.paymentAmount) >= 0) {
                 this.paymentStatus = PaymentStatus.PAID;
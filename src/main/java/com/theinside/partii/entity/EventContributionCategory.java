@@ -0,0 +1,73 @@
+package com.theinside.partii.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One category on an event's contribution board with its item totals.
+ * Adjusted by delta alongside {@link EventContributionCounters}; the row is dropped once no item references it,
+ * so an event's rows are exactly its distinct categories.
+ */
+@Entity
+@Table(name = "event_contribution_categories")
+@IdClass(EventContributionCategory.Key.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventContributionCategory {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "category", length = 50)
+    private String category;
+
+    /**
+     * Number of items in the category; the row's reference count.
+     */
+    @Column(name = "item_count", nullable = false)
+    @Builder.Default
+    private long itemCount = 0;
+
+    /**
+     * Items someone has taken on: claimed, assigned or confirmed.
+     */
+    @Column(name = "claimed_count", nullable = false)
+    @Builder.Default
+    private long claimedCount = 0;
+
+    @Column(name = "total_estimated_cost", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalEstimatedCost = BigDecimal.ZERO;
+
+    @Column(name = "claimed_cost", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal claimedCost = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long eventId;
+        private String category;
+    }
+}
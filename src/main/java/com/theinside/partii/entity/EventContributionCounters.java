@@ -0,0 +1,73 @@
+package com.theinside.partii.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Per-event contribution counters backing the contribution summary.
+ * Adjusted by delta in the same transaction as every item change so a summary read is a single-row lookup.
+ */
+@Entity
+@Table(name = "event_contribution_counters")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventContributionCounters {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "total_items", nullable = false)
+    @Builder.Default
+    private long totalItems = 0;
+
+    @Column(name = "available_count", nullable = false)
+    @Builder.Default
+    private long availableCount = 0;
+
+    @Column(name = "claimed_count", nullable = false)
+    @Builder.Default
+    private long claimedCount = 0;
+
+    @Column(name = "assigned_count", nullable = false)
+    @Builder.Default
+    private long assignedCount = 0;
+
+    @Column(name = "confirmed_count", nullable = false)
+    @Builder.Default
+    private long confirmedCount = 0;
+
+    @Column(name = "completed_count", nullable = false)
+    @Builder.Default
+    private long completedCount = 0;
+
+    @Column(name = "unclaimed_must_have_count", nullable = false)
+    @Builder.Default
+    private long unclaimedMustHaveCount = 0;
+
+    @Column(name = "total_estimated_cost", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalEstimatedCost = BigDecimal.ZERO;
+
+    /**
+     * Estimated cost of items that are claimed or confirmed.
+     */
+    @Column(name = "claimed_cost", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal claimedCost = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.theinside.partii.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Running payment totals for an event, maintained alongside the payment ledger.
+ * Updated in the same transaction as each ledger entry so reads are a single-row lookup.
+ */
+@Entity
+@Table(name = "event_payment_totals")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPaymentTotals {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "total_paid", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "entry_count", nullable = false)
+    @Builder.Default
+    private long entryCount = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
@@ -7,11 +7,13 @@ import java.time.Instant;
 
 /**
  * Entity for storing password reset tokens.
- * Tokens are hashed for security - even if DB is compromised, tokens remain protected.
+ * Tokens are stored as peppered HMACs (see TokenHasher) - even if DB is compromised, tokens remain protected,
+ * and a token is found directly by its hash.
  */
 @Entity
 @Table(name = "password_reset_tokens", indexes = {
         @Index(name = "idx_prt_email", columnList = "email"),
+        @Index(name = "idx_prt_token_hash", columnList = "tokenHash", unique = true),
         @Index(name = "idx_prt_expires_at", columnList = "expiresAt")
 })
 @Getter
@@ -0,0 +1,83 @@
+package com.theinside.partii.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Immutable record of a single payment received from an attendee.
+ * Entries are append-only; corrections are recorded as new entries, never as updates.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "payment_ledger",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_payment_ledger_event_idempotency",
+            columnNames = {"event_id", "idempotency_key"}
+        )
+    },
+    indexes = {
+        @Index(name = "idx_payment_ledger_event", columnList = "event_id, id"),
+        @Index(name = "idx_payment_ledger_attendee", columnList = "attendee_id"),
+        @Index(name = "idx_payment_ledger_event_reference", columnList = "event_id, reference")
+    }
+)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false, updatable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "attendee_id", nullable = false, updatable = false)
+    private EventAttendee attendee;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 10, fraction = 2, message = "Invalid amount format")
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal amount;
+
+    /**
+     * Client-supplied key that makes recording the same payment twice a no-op.
+     */
+    @NotBlank(message = "Idempotency key is required")
+    @Size(max = 100, message = "Idempotency key cannot exceed 100 characters")
+    @Column(name = "idempotency_key", nullable = false, length = 100, updatable = false)
+    private String idempotencyKey;
+
+    /**
+     * External payment reference (e.g. mobile-money transaction ID).
+     */
+    @Size(max = 100, message = "Reference cannot exceed 100 characters")
+    @Column(length = 100, updatable = false)
+    private String reference;
+
+    /**
+     * The user (organizer) who recorded the payment.
+     */
+    @Column(name = "recorded_by", nullable = false, updatable = false)
+    private Long recordedBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+}
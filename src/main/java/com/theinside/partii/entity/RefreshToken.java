@@ -18,7 +18,11 @@ import java.util.UUID;
 @Getter
 @Setter
 @Builder
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_token", columnList = "token", unique = true),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "userId")
+})
 public class RefreshToken {
 
     @Id
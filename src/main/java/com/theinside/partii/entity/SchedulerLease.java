@@ -0,0 +1,30 @@
+package com.theinside.partii.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A named, expiring lease that elects one node to run a cluster-wide job.
+ * The holder renews it on every run; another node takes over once it lapses.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
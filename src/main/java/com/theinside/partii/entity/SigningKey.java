@@ -0,0 +1,61 @@
+package com.theinside.partii.entity;
+
+import com.theinside.partii.enums.SigningAlgorithm;
+import com.theinside.partii.enums.SigningKeyStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A key pair in the shared JWT key ring, so every node signs and verifies with the same keys.
+ * The private key is stored AES-GCM encrypted.
+ */
+@Entity
+@Table(name = "signing_keys")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKey {
+
+    @Id
+    @Column(length = 64)
+    private String kid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SigningKeyStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SigningAlgorithm algorithm;
+
+    /**
+     * Base64 X.509 encoding of the public key.
+     */
+    @Column(name = "public_key", nullable = false, length = 4000)
+    private String publicKey;
+
+    /**
+     * Base64 of the AES-GCM nonce followed by the encrypted PKCS#8 private key.
+     */
+    @Column(name = "encrypted_private_key", nullable = false, length = 4000)
+    private String encryptedPrivateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * When a NEXT key takes over signing.
+     */
+    @Column(name = "activates_at")
+    private Instant activatesAt;
+
+    @Column(name = "activated_at")
+    private Instant activatedAt;
+
+    @Column(name = "retired_at")
+    private Instant retiredAt;
+}
@@ -3,6 +3,8 @@ package com.theinside.partii.entity;
 import com.theinside.partii.enums.AccountStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -50,6 +52,7 @@ public class User {
     private LocalDate dob;
 
     @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.SMALLINT)
     private AccountStatus accountStatus;
 
     private boolean isVerified = false;
@@ -77,6 +80,13 @@ public class User {
     private Instant updatedAt;
 
     private Instant deletedAt;
+
+    /**
+     * Bumped to revoke every access token issued before; tokens carry the epoch they were issued under.
+     */
+    @Column(name = "token_epoch", nullable = false)
+    private long tokenEpoch;
+
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
@@ -27,5 +27,11 @@ public enum AttendeeStatus {
     /**
      * Attendee was removed by the organizer after being approved.
      */
-    REMOVED
+    REMOVED,
+
+    /**
+     * Request lapsed unanswered because the event stopped accepting attendees.
+     * The user may request to join again if the event reopens.
+     */
+    EXPIRED
 }
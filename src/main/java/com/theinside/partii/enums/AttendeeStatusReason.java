@@ -0,0 +1,16 @@
+package com.theinside.partii.enums;
+
+/**
+ * Why an attendee request was closed by the system rather than by the organizer.
+ */
+public enum AttendeeStatusReason {
+    /**
+     * The event's join deadline passed while the request was still open.
+     */
+    JOIN_DEADLINE_PASSED,
+
+    /**
+     * The event ended, was cancelled or was archived while the request was still open.
+     */
+    EVENT_CLOSED
+}
@@ -0,0 +1,31 @@
+package com.theinside.partii.enums;
+
+/**
+ * Kind of change carried by a contribution board delta.
+ */
+public enum ContributionBoardChange {
+    /**
+     * A new item was added; the delta carries the full item.
+     */
+    CREATED,
+
+    /**
+     * Item details were edited; the delta carries the full item.
+     */
+    UPDATED,
+
+    /**
+     * The item moved through its lifecycle (claimed, assigned, confirmed, released, completed).
+     */
+    STATUS_CHANGED,
+
+    /**
+     * The item was removed from the event.
+     */
+    DELETED,
+
+    /**
+     * Many items changed at once; the delta carries no item and clients reload the board snapshot.
+     */
+    RELOAD
+}
@@ -0,0 +1,17 @@
+package com.theinside.partii.enums;
+
+/**
+ * Orderings supported by keyset listing of contribution items.
+ * Every ordering ends on the item id so the cursor is unambiguous.
+ */
+public enum ContributionSort {
+    /**
+     * Must-have items first, then oldest first.
+     */
+    PRIORITY,
+
+    /**
+     * Oldest first.
+     */
+    CREATED_AT
+}
@@ -0,0 +1,40 @@
+package com.theinside.partii.enums;
+
+/**
+ * The caller's standing on a single event, as seen by authorization checks.
+ */
+public enum EventRole {
+    /**
+     * The user organizes the event.
+     */
+    ORGANIZER,
+
+    /**
+     * The user is an approved attendee.
+     */
+    APPROVED,
+
+    /**
+     * The user has an open join request, either pending or on the waitlist.
+     */
+    PENDING,
+
+    /**
+     * The user has no open or approved relationship with the event.
+     */
+    NONE;
+
+    /**
+     * Maps an attendee row's status to a role; declined, removed and expired requests grant nothing.
+     */
+    public static EventRole of(AttendeeStatus status) {
+        if (status == null) {
+            return NONE;
+        }
+        return switch (status) {
+            case APPROVED -> APPROVED;
+            case PENDING, WAITLIST -> PENDING;
+            case DECLINED, REMOVED, EXPIRED -> NONE;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.theinside.partii.enums;
+
+/**
+ * Supported upload formats for bulk payment imports.
+ */
+public enum PaymentImportFormat {
+    /**
+     * Comma-separated values with a header row.
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON, one object per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,31 @@
+package com.theinside.partii.enums;
+
+/**
+ * Outcome of a single row in a bulk payment import.
+ */
+public enum PaymentImportRowStatus {
+    /**
+     * Payment was recorded to the ledger.
+     */
+    APPLIED,
+
+    /**
+     * A payment with the same reference was already recorded; nothing was changed.
+     */
+    DUPLICATE,
+
+    /**
+     * No attendee of this event matched the row.
+     */
+    NOT_FOUND,
+
+    /**
+     * The matched attendee is not approved for the event.
+     */
+    NOT_APPROVED,
+
+    /**
+     * The row could not be parsed or failed validation.
+     */
+    INVALID
+}
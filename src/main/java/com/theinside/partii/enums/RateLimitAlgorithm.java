@@ -0,0 +1,18 @@
+package com.theinside.partii.enums;
+
+/**
+ * How a rate limit counts requests against its window.
+ */
+public enum RateLimitAlgorithm {
+    /**
+     * At most {@code limit} requests in any trailing window, estimated from the current and previous fixed windows.
+     * Suits hard caps such as emails sent per hour.
+     */
+    SLIDING_WINDOW,
+
+    /**
+     * A bucket of {@code limit} tokens refilled evenly over the window. Allows a burst up to the bucket size, then
+     * the steady rate; suits interactive endpoints such as login.
+     */
+    TOKEN_BUCKET
+}
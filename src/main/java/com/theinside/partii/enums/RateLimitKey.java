@@ -0,0 +1,13 @@
+package com.theinside.partii.enums;
+
+/**
+ * What a rate limit counts requests per.
+ */
+public enum RateLimitKey {
+    /** The client address as seen by the server. */
+    IP,
+    /** An email address taken from the request, lower-cased. */
+    EMAIL,
+    /** The authenticated user; anonymous callers are counted per IP instead. */
+    USER
+}
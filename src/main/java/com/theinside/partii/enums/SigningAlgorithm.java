@@ -0,0 +1,11 @@
+package com.theinside.partii.enums;
+
+/**
+ * JWS algorithm a signing key is generated for. Names match their JOSE identifiers.
+ */
+public enum SigningAlgorithm {
+    /** RSASSA-PKCS1-v1_5 with SHA-256 over a 2048-bit RSA key. */
+    RS256,
+    /** ECDSA with SHA-256 over a P-256 key; far cheaper to sign with than RS256, with much smaller keys. */
+    ES256
+}
@@ -0,0 +1,13 @@
+package com.theinside.partii.enums;
+
+/**
+ * Lifecycle of a JWT signing key. Keys in every status verify tokens; only ACTIVE signs.
+ */
+public enum SigningKeyStatus {
+    /** Generated ahead of activation and already published, so every node can verify it before it signs. */
+    NEXT,
+    /** Signs new tokens. */
+    ACTIVE,
+    /** Replaced, but still verifies tokens issued before the rotation. */
+    RETIRED
+}
@@ -0,0 +1,19 @@
+package com.theinside.partii.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * The request was refused to protect the service; the client may retry after {@link #getRetryAfter()}.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -1,24 +1,34 @@
 package com.theinside.partii.repository;
 
 import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.entity.User;
 import com.theinside.partii.enums.ContributionStatus;
 import com.theinside.partii.enums.ContributionType;
 import com.theinside.partii.enums.Priority;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for ContributionItem entity with custom query methods.
+ * Filtered listings go through {@link com.theinside.partii.specification.ContributionItemSpecifications}.
  */
 @Repository
-public interface ContributionItemRepository extends JpaRepository<ContributionItem, Long> {
+public interface ContributionItemRepository extends JpaRepository<ContributionItem, Long>, JpaSpecificationExecutor<ContributionItem> {
 
     // ===== Basic Queries =====
 
@@ -36,8 +46,6 @@ public interface ContributionItemRepository extends JpaRepository<ContributionIt
 
     List<ContributionItem> findByEventIdAndStatus(Long eventId, ContributionStatus status);
 
-    Page<ContributionItem> findByEventIdAndStatus(Long eventId, ContributionStatus status, Pageable pageable);
-
     List<ContributionItem> findByEventIdAndStatusIn(Long eventId, List<ContributionStatus> statuses);
 
     @Query("""
@@ -52,23 +60,29 @@ public interface ContributionItemRepository extends JpaRepository<ContributionIt
 
     List<ContributionItem> findByEventIdAndCategory(Long eventId, String category);
 
-    Page<ContributionItem> findByEventIdAndCategory(Long eventId, String category, Pageable pageable);
-
-    @Query("SELECT DISTINCT ci.category FROM ContributionItem ci WHERE ci.event.id = :eventId AND ci.category IS NOT NULL")
-    List<String> findDistinctCategoriesByEventId(@Param("eventId") Long eventId);
+    /**
+     * Category totals for every event with categorized items, used by the counters repair job.
+     */
+    @Query("""
+        SELECT ci.event.id AS eventId, ci.category AS category,
+            COUNT(ci) AS itemCount,
+            SUM(CASE WHEN ci.status <> 'AVAILABLE' THEN 1 ELSE 0 END) AS claimedCount,
+            COALESCE(SUM(ci.estimatedCost), 0) AS totalEstimatedCost,
+            COALESCE(SUM(CASE WHEN ci.status <> 'AVAILABLE' THEN ci.estimatedCost ELSE 0 END), 0) AS claimedCost
+        FROM ContributionItem ci
+        WHERE ci.category IS NOT NULL
+        GROUP BY ci.event.id, ci.category
+        """)
+    List<CategoryAggregate> aggregateCategoriesAllEvents();
 
     // ===== Type Queries =====
 
     List<ContributionItem> findByEventIdAndType(Long eventId, ContributionType type);
 
-    Page<ContributionItem> findByEventIdAndType(Long eventId, ContributionType type, Pageable pageable);
-
     // ===== Priority Queries =====
 
     List<ContributionItem> findByEventIdAndPriority(Long eventId, Priority priority);
 
-    Page<ContributionItem> findByEventIdAndPriority(Long eventId, Priority priority, Pageable pageable);
-
     @Query("""
         SELECT ci FROM ContributionItem ci
         WHERE ci.event.id = :eventId
@@ -94,17 +108,92 @@ public interface ContributionItemRepository extends JpaRepository<ContributionIt
         """)
     long countUnclaimedMustHaveItems(@Param("eventId") Long eventId);
 
+    /**
+     * Every summary counter for one event in a single scan, used when no counters row exists.
+     */
+    @Query("""
+        SELECT ci.event.id AS eventId,
+            COUNT(ci) AS totalItems,
+            SUM(CASE WHEN ci.status = 'AVAILABLE' THEN 1 ELSE 0 END) AS availableCount,
+            SUM(CASE WHEN ci.status = 'CLAIMED' THEN 1 ELSE 0 END) AS claimedCount,
+            SUM(CASE WHEN ci.status = 'ASSIGNED' THEN 1 ELSE 0 END) AS assignedCount,
+            SUM(CASE WHEN ci.status = 'CONFIRMED' THEN 1 ELSE 0 END) AS confirmedCount,
+            SUM(CASE WHEN ci.completed = true THEN 1 ELSE 0 END) AS completedCount,
+            SUM(CASE WHEN ci.priority = 'MUST_HAVE' AND ci.status = 'AVAILABLE' THEN 1 ELSE 0 END) AS unclaimedMustHaveCount,
+            COALESCE(SUM(ci.estimatedCost), 0) AS totalEstimatedCost,
+            COALESCE(SUM(CASE WHEN ci.status IN ('CLAIMED', 'CONFIRMED') THEN ci.estimatedCost ELSE 0 END), 0) AS claimedCost
+        FROM ContributionItem ci
+        WHERE ci.event.id = :eventId
+        GROUP BY ci.event.id
+        """)
+    Optional<ContributionAggregate> aggregateByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Summary counters for every event with items, used by the counters repair job.
+     */
+    @Query("""
+        SELECT ci.event.id AS eventId,
+            COUNT(ci) AS totalItems,
+            SUM(CASE WHEN ci.status = 'AVAILABLE' THEN 1 ELSE 0 END) AS availableCount,
+            SUM(CASE WHEN ci.status = 'CLAIMED' THEN 1 ELSE 0 END) AS claimedCount,
+            SUM(CASE WHEN ci.status = 'ASSIGNED' THEN 1 ELSE 0 END) AS assignedCount,
+            SUM(CASE WHEN ci.status = 'CONFIRMED' THEN 1 ELSE 0 END) AS confirmedCount,
+            SUM(CASE WHEN ci.completed = true THEN 1 ELSE 0 END) AS completedCount,
+            SUM(CASE WHEN ci.priority = 'MUST_HAVE' AND ci.status = 'AVAILABLE' THEN 1 ELSE 0 END) AS unclaimedMustHaveCount,
+            COALESCE(SUM(ci.estimatedCost), 0) AS totalEstimatedCost,
+            COALESCE(SUM(CASE WHEN ci.status IN ('CLAIMED', 'CONFIRMED') THEN ci.estimatedCost ELSE 0 END), 0) AS claimedCost
+        FROM ContributionItem ci
+        GROUP BY ci.event.id
+        """)
+    List<ContributionAggregate> aggregateAllEvents();
+
     // ===== User's Contributions =====
 
+    /**
+     * One keyset page of the items a user is bringing to events that are still on, soonest event first.
+     * Reads only the columns the "my contributions" view shows, so neither entity is loaded.
+     * Fetches limit+1 to determine if there's a next page.
+     */
     @Query("""
-        SELECT ci FROM ContributionItem ci
-        JOIN FETCH ci.event e
+        SELECT ci.id AS itemId, e.id AS eventId, e.title AS eventTitle, e.eventDate AS eventDate,
+            e.locationAddress AS eventLocation, ci.name AS name, ci.category AS category, ci.type AS type,
+            ci.quantity AS quantity, ci.timeCommitment AS timeCommitment, ci.estimatedCost AS estimatedCost,
+            ci.priority AS priority, ci.status AS status, ci.completed AS completed,
+            ci.claimedAt AS claimedAt, ci.confirmedAt AS confirmedAt
+        FROM ContributionItem ci
+        JOIN ci.event e
         WHERE ci.assignedTo.id = :userId
-        AND ci.status IN ('CLAIMED', 'CONFIRMED')
+        AND ci.status IN ('ASSIGNED', 'CLAIMED', 'CONFIRMED')
         AND e.status IN ('ACTIVE', 'FULL')
-        ORDER BY e.eventDate ASC
+        AND (CAST(:afterDate AS timestamp) IS NULL OR e.eventDate > :afterDate
+            OR (e.eventDate = :afterDate AND ci.id > :afterId))
+        ORDER BY e.eventDate ASC, ci.id ASC
         """)
-    List<ContributionItem> findActiveContributionsByUser(@Param("userId") Long userId);
+    List<MyContributionRow> findActiveContributionsByUserKeyset(
+        @Param("userId") Long userId,
+        @Param("afterDate") LocalDateTime afterDate,
+        @Param("afterId") Long afterId,
+        Limit limit
+    );
+
+    interface MyContributionRow {
+        Long getItemId();
+        Long getEventId();
+        String getEventTitle();
+        LocalDateTime getEventDate();
+        String getEventLocation();
+        String getName();
+        String getCategory();
+        ContributionType getType();
+        Integer getQuantity();
+        Integer getTimeCommitment();
+        BigDecimal getEstimatedCost();
+        Priority getPriority();
+        ContributionStatus getStatus();
+        Boolean getCompleted();
+        Instant getClaimedAt();
+        Instant getConfirmedAt();
+    }
 
     @Query("""
         SELECT ci FROM ContributionItem ci
@@ -128,6 +217,19 @@ public interface ContributionItemRepository extends JpaRepository<ContributionIt
         """)
     BigDecimal sumClaimedCostByEventId(@Param("eventId") Long eventId);
 
+    /**
+     * Estimated cost of confirmed items per contributor, used as each user's in-kind contribution.
+     */
+    @Query("""
+        SELECT ci.assignedTo.id AS userId, SUM(ci.estimatedCost) AS total
+        FROM ContributionItem ci
+        WHERE ci.event.id = :eventId
+        AND ci.status = 'CONFIRMED'
+        AND ci.estimatedCost IS NOT NULL
+        GROUP BY ci.assignedTo.id
+        """)
+    List<UserCostTotal> sumConfirmedCostByUser(@Param("eventId") Long eventId);
+
     // ===== Completion Queries =====
 
     List<ContributionItem> findByEventIdAndCompletedTrue(Long eventId);
@@ -146,23 +248,208 @@ public interface ContributionItemRepository extends JpaRepository<ContributionIt
     // ===== Alert Queries =====
 
     /**
-     * Find MUST_HAVE items that are not yet claimed or confirmed,
-     * for events happening within the specified number of days.
+     * One keyset page of an event's open MUST_HAVE items that have not been alerted yet, in id order.
+     * Served by the partial index on unalerted must-haves.
      */
     @Query("""
-        SELECT ci FROM ContributionItem ci
-        JOIN ci.event e
-        WHERE ci.priority = 'MUST_HAVE'
-        AND ci.status = 'AVAILABLE'
-        AND e.status = 'ACTIVE'
-        AND e.eventDate <= :deadline
-        ORDER BY e.eventDate ASC
+        SELECT ci.id AS id, ci.name AS name
+        FROM ContributionItem ci
+        WHERE ci.event.id = :eventId
+        AND ci.priority = com.theinside.partii.enums.Priority.MUST_HAVE
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        AND ci.mustHaveAlertedAt IS NULL
+        AND ci.id > :afterItemId
+        ORDER BY ci.id ASC
         """)
-    List<ContributionItem> findUnclaimedMustHaveItemsBeforeDeadline(
-        @Param("deadline") java.time.LocalDateTime deadline
+    List<MustHaveAlertItem> findUnalertedMustHaveItems(
+        @Param("eventId") Long eventId,
+        @Param("afterItemId") Long afterItemId,
+        Limit limit
+    );
+
+    /**
+     * Records that the organizer has been alerted about these items.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.mustHaveAlertedAt = :now
+        WHERE ci.event.id = :eventId
+        AND ci.id IN :itemIds
+        AND ci.mustHaveAlertedAt IS NULL
+        """)
+    int markMustHaveAlerted(
+        @Param("eventId") Long eventId,
+        @Param("itemIds") Collection<Long> itemIds,
+        @Param("now") Instant now
+    );
+
+    // ===== State Transitions =====
+    // Each transition is a single conditional UPDATE; 0 rows updated means another request got there first.
+
+    /**
+     * Locks the items for an edit, touching only those still available. The edit is flushed under the lock,
+     * so a claim cannot commit between the status check and the write.
+     */
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.updatedAt = :now
+        WHERE ci.id IN :itemIds
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        """)
+    int touchIfAvailable(@Param("itemIds") Collection<Long> itemIds, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        DELETE FROM ContributionItem ci
+        WHERE ci.id IN :itemIds
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        """)
+    int deleteIfAvailable(@Param("itemIds") Collection<Long> itemIds);
+
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.CLAIMED,
+            ci.assignedTo = :user, ci.claimedAt = :now, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        """)
+    int claimIfAvailable(@Param("itemId") Long itemId, @Param("user") User user, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.ASSIGNED,
+            ci.assignedTo = :user, ci.claimedAt = :now, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        """)
+    int assignIfAvailable(@Param("itemId") Long itemId, @Param("user") User user, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.CONFIRMED,
+            ci.confirmedAt = :now, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.CLAIMED
+        """)
+    int confirmIfClaimed(@Param("itemId") Long itemId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.CONFIRMED,
+            ci.confirmedAt = :now, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.ASSIGNED
+        AND ci.assignedTo.id = :userId
+        """)
+    int acceptIfAssignedTo(@Param("itemId") Long itemId, @Param("userId") Long userId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE,
+            ci.assignedTo = null, ci.claimedAt = null, ci.confirmedAt = null,
+            ci.mustHaveAlertedAt = null, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = com.theinside.partii.enums.ContributionStatus.ASSIGNED
+        AND ci.assignedTo.id = :userId
+        """)
+    int declineIfAssignedTo(@Param("itemId") Long itemId, @Param("userId") Long userId, @Param("now") Instant now);
+
+    /**
+     * Releases the item only if it is still in the state the caller read, so the counter delta derived from that
+     * state is the one actually applied.
+     */
+    @Modifying
+    @Query("""
+        UPDATE ContributionItem ci
+        SET ci.status = com.theinside.partii.enums.ContributionStatus.AVAILABLE,
+            ci.assignedTo = null, ci.claimedAt = null, ci.confirmedAt = null,
+            ci.completed = false, ci.mustHaveAlertedAt = null, ci.updatedAt = :now
+        WHERE ci.id = :itemId
+        AND ci.status = :expected
+        AND ci.status <> com.theinside.partii.enums.ContributionStatus.AVAILABLE
+        AND ci.completed = :completed
+        """)
+    int releaseIfHeld(@Param("itemId") Long itemId, @Param("expected") ContributionStatus expected,
+                      @Param("completed") boolean completed, @Param("now") Instant now);
+
+    // ===== Set-based Copies =====
+    // Each copy is a single INSERT ... SELECT; copied items start AVAILABLE with no claim state.
+    // Native because HQL inserts with a pooled sequence assign ids one row at a time through a temp table.
+    // Every nextval reserves a whole allocation block, so these ids can never collide with Hibernate's.
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO contribution_items (id, event_id, name, category, type, quantity, time_commitment,
+            estimated_cost, priority, notes, status, completed, created_at, updated_at)
+        SELECT nextval('contribution_items_id_seq'), :targetEventId, name, category, type, quantity, time_commitment,
+            estimated_cost, priority, notes, 'AVAILABLE', FALSE, :now, :now
+        FROM contribution_items
+        WHERE event_id = :sourceEventId
+        ORDER BY id
+        """, nativeQuery = true)
+    int copyFromEvent(
+        @Param("sourceEventId") Long sourceEventId,
+        @Param("targetEventId") Long targetEventId,
+        @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO contribution_items (id, event_id, name, category, type, quantity, time_commitment,
+            estimated_cost, priority, notes, status, completed, created_at, updated_at)
+        SELECT nextval('contribution_items_id_seq'), :targetEventId, name, category, type, quantity, time_commitment,
+            estimated_cost, priority, notes, 'AVAILABLE', FALSE, :now, :now
+        FROM contribution_template_items
+        WHERE template_id = :templateId
+        ORDER BY id
+        """, nativeQuery = true)
+    int copyFromTemplate(
+        @Param("templateId") Long templateId,
+        @Param("targetEventId") Long targetEventId,
+        @Param("now") Instant now
     );
 
     // ===== Deletion =====
 
     void deleteByEventId(Long eventId);
+
+    interface ContributionAggregate {
+        Long getEventId();
+        long getTotalItems();
+        long getAvailableCount();
+        long getClaimedCount();
+        long getAssignedCount();
+        long getConfirmedCount();
+        long getCompletedCount();
+        long getUnclaimedMustHaveCount();
+        BigDecimal getTotalEstimatedCost();
+        BigDecimal getClaimedCost();
+    }
+
+    interface CategoryAggregate {
+        Long getEventId();
+        String getCategory();
+        long getItemCount();
+        long getClaimedCount();
+        BigDecimal getTotalEstimatedCost();
+        BigDecimal getClaimedCost();
+    }
+
+    interface MustHaveAlertItem {
+        Long getId();
+        String getName();
+    }
+
+    interface UserCostTotal {
+        Long getUserId();
+        BigDecimal getTotal();
+    }
 }
@@ -0,0 +1,78 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.ContributionTemplateItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for ContributionTemplateItem entity.
+ */
+@Repository
+public interface ContributionTemplateItemRepository extends JpaRepository<ContributionTemplateItem, Long> {
+
+    List<ContributionTemplateItem> findByTemplateIdOrderByIdAsc(Long templateId);
+
+    List<ContributionTemplateItem> findByTemplateIdInOrderByIdAsc(Collection<Long> templateIds);
+
+    /**
+     * Copies an event's item definitions into the template in a single INSERT ... SELECT.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO ContributionTemplateItem (template, name, category, type, quantity, timeCommitment,
+            estimatedCost, priority, notes)
+        SELECT t, ci.name, ci.category, ci.type, ci.quantity, ci.timeCommitment,
+            ci.estimatedCost, ci.priority, ci.notes
+        FROM ContributionItem ci, ContributionTemplate t
+        WHERE ci.event.id = :eventId
+        AND t.id = :templateId
+        """)
+    int copyFromEvent(@Param("eventId") Long eventId, @Param("templateId") Long templateId);
+
+    /**
+     * What applying the template adds to an event's counters.
+     */
+    @Query("""
+        SELECT COUNT(ti) AS itemCount,
+            COALESCE(SUM(CASE WHEN ti.priority = com.theinside.partii.enums.Priority.MUST_HAVE THEN 1 ELSE 0 END), 0) AS mustHaveCount,
+            COALESCE(SUM(ti.estimatedCost), 0) AS estimatedCost
+        FROM ContributionTemplateItem ti
+        WHERE ti.template.id = :templateId
+        """)
+    TemplateTotals totalsByTemplateId(@Param("templateId") Long templateId);
+
+    /**
+     * What applying the template adds to each of an event's categories.
+     */
+    @Query("""
+        SELECT ti.category AS category, COUNT(ti) AS itemCount, COALESCE(SUM(ti.estimatedCost), 0) AS estimatedCost
+        FROM ContributionTemplateItem ti
+        WHERE ti.template.id = :templateId
+        AND ti.category IS NOT NULL
+        GROUP BY ti.category
+        """)
+    List<TemplateCategoryTotals> totalsByCategory(@Param("templateId") Long templateId);
+
+    @Modifying
+    @Query("DELETE FROM ContributionTemplateItem ti WHERE ti.template.id = :templateId")
+    int deleteByTemplateId(@Param("templateId") Long templateId);
+
+    interface TemplateCategoryTotals {
+        String getCategory();
+        long getItemCount();
+        BigDecimal getEstimatedCost();
+    }
+
+    interface TemplateTotals {
+        long getItemCount();
+        long getMustHaveCount();
+        BigDecimal getEstimatedCost();
+    }
+}
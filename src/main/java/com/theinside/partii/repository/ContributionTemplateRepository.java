@@ -0,0 +1,21 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.ContributionTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for ContributionTemplate entity.
+ */
+@Repository
+public interface ContributionTemplateRepository extends JpaRepository<ContributionTemplate, Long> {
+
+    List<ContributionTemplate> findByOwnerIdOrderByNameAsc(Long ownerId);
+
+    Optional<ContributionTemplate> findByIdAndOwnerId(Long id, Long ownerId);
+
+    boolean existsByOwnerIdAndName(Long ownerId, String name);
+}
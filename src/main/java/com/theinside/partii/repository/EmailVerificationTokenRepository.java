@@ -19,6 +19,19 @@ public interface EmailVerificationTokenRepository extends JpaRepository<EmailVer
     Optional<EmailVerificationToken> findFirstByEmailAndUsedFalseAndExpiresAtAfterOrderByCreatedAtDesc(
             String email, Instant now);
 
+    /**
+     * Spends one of the token's attempts, if it has any left. Counted before the code is checked and atomically,
+     * so parallel guesses cannot exceed the limit.
+     *
+     * @return 1 if an attempt was available, 0 otherwise
+     */
+    @Modifying
+    @Query("""
+        UPDATE EmailVerificationToken t SET t.attempts = t.attempts + 1
+        WHERE t.id = :id AND t.used = false AND t.attempts < :maxAttempts
+        """)
+    int claimAttempt(Long id, int maxAttempts);
+
     /**
      * Count recent tokens for rate limiting (tokens created in last N minutes).
      */
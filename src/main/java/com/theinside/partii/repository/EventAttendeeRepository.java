@@ -2,15 +2,22 @@ package com.theinside.partii.repository;
 
 import com.theinside.partii.entity.EventAttendee;
 import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.AttendeeStatusReason;
 import com.theinside.partii.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,8 +41,44 @@ public interface EventAttendeeRepository extends JpaRepository<EventAttendee, Lo
 
     boolean existsByEventIdAndUserId(Long eventId, Long userId);
 
+    /**
+     * Loads an attendee with a row lock, serializing concurrent payment writes for the same attendee.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ea FROM EventAttendee ea WHERE ea.event.id = :eventId AND ea.user.id = :userId")
+    Optional<EventAttendee> findByEventIdAndUserIdForUpdate(
+        @Param("eventId") Long eventId,
+        @Param("userId") Long userId
+    );
+
     boolean existsByEventIdAndUserIdAndStatus(Long eventId, Long userId, AttendeeStatus status);
 
+    @Query("SELECT ea.user.id FROM EventAttendee ea WHERE ea.event.id = :eventId AND ea.status = :status")
+    List<Long> findUserIdsByEventIdAndStatus(
+        @Param("eventId") Long eventId,
+        @Param("status") AttendeeStatus status
+    );
+
+    @Query("SELECT ea.status FROM EventAttendee ea WHERE ea.event.id = :eventId AND ea.user.id = :userId")
+    Optional<AttendeeStatus> findStatusByEventIdAndUserId(
+        @Param("eventId") Long eventId,
+        @Param("userId") Long userId
+    );
+
+    /**
+     * The user's attendee status in each of the given events, for rendering feed cards in one query.
+     */
+    @Query("""
+        SELECT ea.event.id AS eventId, ea.status AS status
+        FROM EventAttendee ea
+        WHERE ea.user.id = :userId
+        AND ea.event.id IN :eventIds
+        """)
+    List<MembershipStatus> findStatusesByUserIdAndEventIds(
+        @Param("userId") Long userId,
+        @Param("eventIds") Collection<Long> eventIds
+    );
+
     // ===== Status Queries =====
 
     List<EventAttendee> findByEventIdAndStatus(Long eventId, AttendeeStatus status);
@@ -91,6 +134,33 @@ public interface EventAttendeeRepository extends JpaRepository<EventAttendee, Lo
         """)
     BigDecimal sumPaymentAmountByEvent(@Param("eventId") Long eventId);
 
+    /**
+     * Matches attendees of an event by attendee id or (case-insensitive) user email in a single lookup.
+     */
+    @Query("""
+        SELECT ea.id AS id, LOWER(u.email) AS email, ea.status AS status
+        FROM EventAttendee ea
+        JOIN ea.user u
+        WHERE ea.event.id = :eventId
+        AND (ea.id IN :ids OR LOWER(u.email) IN :emails)
+        """)
+    List<AttendeeMatch> findImportMatches(
+        @Param("eventId") Long eventId,
+        @Param("ids") Collection<Long> ids,
+        @Param("emails") Collection<String> emails
+    );
+
+    /**
+     * Payment inputs for every approved attendee, used to build an event's settlement.
+     */
+    @Query("""
+        SELECT ea.user.id AS userId, ea.paymentAmount AS paymentAmount, ea.amountPaid AS amountPaid
+        FROM EventAttendee ea
+        WHERE ea.event.id = :eventId
+        AND ea.status = 'APPROVED'
+        """)
+    List<SettlementInput> findSettlementInputs(@Param("eventId") Long eventId);
+
     // ===== Waitlist Queries =====
 
     @Query("""
@@ -175,9 +245,70 @@ public interface EventAttendeeRepository extends JpaRepository<EventAttendee, Lo
         """)
     long countPendingRequestsForOrganizer(@Param("organizerId") Long organizerId);
 
+    // ===== Expiry Sweep =====
+
+    /**
+     * Locks a chunk of open (pending or waitlisted) requests for events that have ended, been cancelled
+     * or been archived. Rows locked by another sweeper are skipped rather than waited on.
+     */
+    @Query(value = """
+        SELECT ea.id FROM event_attendees ea
+        JOIN events e ON e.id = ea.event_id
+        WHERE ea.status IN ('PENDING', 'WAITLIST')
+        AND e.status IN ('PAST', 'CANCELLED', 'ARCHIVED')
+        ORDER BY ea.id
+        LIMIT :limit
+        FOR UPDATE OF ea SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> lockOpenRequestsForClosedEvents(@Param("limit") int limit);
+
+    /**
+     * Locks a chunk of open requests for events whose join deadline has passed.
+     */
+    @Query(value = """
+        SELECT ea.id FROM event_attendees ea
+        JOIN events e ON e.id = ea.event_id
+        WHERE ea.status IN ('PENDING', 'WAITLIST')
+        AND e.join_deadline < :now
+        ORDER BY ea.id
+        LIMIT :limit
+        FOR UPDATE OF ea SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> lockOpenRequestsPastJoinDeadline(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE EventAttendee ea
+        SET ea.status = :status, ea.statusReason = :reason, ea.statusChangedAt = :now
+        WHERE ea.id IN :ids
+        """)
+    int updateStatusByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") AttendeeStatus status,
+        @Param("reason") AttendeeStatusReason reason,
+        @Param("now") Instant now
+    );
+
     // ===== Deletion =====
 
     void deleteByEventId(Long eventId);
 
     void deleteByEventIdAndUserId(Long eventId, Long userId);
+
+    interface MembershipStatus {
+        Long getEventId();
+        AttendeeStatus getStatus();
+    }
+
+    interface AttendeeMatch {
+        Long getId();
+        String getEmail();
+        AttendeeStatus getStatus();
+    }
+
+    interface SettlementInput {
+        Long getUserId();
+        BigDecimal getPaymentAmount();
+        BigDecimal getAmountPaid();
+    }
 }
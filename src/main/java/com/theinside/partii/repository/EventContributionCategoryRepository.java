@@ -0,0 +1,96 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.EventContributionCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for the per-event contribution category index.
+ */
+@Repository
+public interface EventContributionCategoryRepository
+        extends JpaRepository<EventContributionCategory, EventContributionCategory.Key> {
+
+    List<EventContributionCategory> findByEventIdOrderByCategoryAsc(Long eventId);
+
+    @Query("""
+        SELECT c.category FROM EventContributionCategory c
+        WHERE c.eventId = :eventId
+        ORDER BY c.category ASC
+        """)
+    List<String> findCategoryNamesByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Creates a zeroed row for the category if one does not exist yet.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO event_contribution_categories (event_id, category, item_count, claimed_count,
+            total_estimated_cost, claimed_cost, updated_at)
+        VALUES (:eventId, :category, 0, 0, 0, 0, CURRENT_TIMESTAMP)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") Long eventId, @Param("category") String category);
+
+    /**
+     * Atomically adds the given deltas to one category's totals.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EventContributionCategory c
+        SET c.itemCount = c.itemCount + :items,
+            c.claimedCount = c.claimedCount + :claimed,
+            c.totalEstimatedCost = c.totalEstimatedCost + :estimatedCost,
+            c.claimedCost = c.claimedCost + :claimedCost,
+            c.updatedAt = :now
+        WHERE c.eventId = :eventId
+        AND c.category = :category
+        """)
+    int applyDelta(
+        @Param("eventId") Long eventId,
+        @Param("category") String category,
+        @Param("items") long items,
+        @Param("claimed") long claimed,
+        @Param("estimatedCost") BigDecimal estimatedCost,
+        @Param("claimedCost") BigDecimal claimedCost,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Drops categories no item references any more.
+     */
+    @Modifying
+    @Query("DELETE FROM EventContributionCategory c WHERE c.eventId = :eventId AND c.itemCount <= 0")
+    int deleteUnreferenced(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query("DELETE FROM EventContributionCategory c WHERE c.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Rebuilds the event's rows from its items in one statement; the event must have none beforehand.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO EventContributionCategory (eventId, category, itemCount, claimedCount,
+            totalEstimatedCost, claimedCost, updatedAt)
+        SELECT ci.event.id, ci.category, COUNT(ci),
+            SUM(CASE WHEN ci.status <> com.theinside.partii.enums.ContributionStatus.AVAILABLE THEN 1 ELSE 0 END),
+            COALESCE(SUM(ci.estimatedCost), 0),
+            COALESCE(SUM(CASE WHEN ci.status <> com.theinside.partii.enums.ContributionStatus.AVAILABLE
+                THEN ci.estimatedCost ELSE 0 END), 0),
+            :now
+        FROM ContributionItem ci
+        WHERE ci.event.id = :eventId
+        AND ci.category IS NOT NULL
+        GROUP BY ci.event.id, ci.category
+        """)
+    int insertFromItems(@Param("eventId") Long eventId, @Param("now") Instant now);
+}
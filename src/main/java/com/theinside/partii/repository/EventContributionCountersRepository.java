@@ -0,0 +1,84 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.EventContributionCounters;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Repository for per-event contribution counters.
+ */
+@Repository
+public interface EventContributionCountersRepository extends JpaRepository<EventContributionCounters, Long> {
+
+    /**
+     * Creates a zeroed counters row for the event if one does not exist yet.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO event_contribution_counters (event_id, total_items, available_count, claimed_count,
+            assigned_count, confirmed_count, completed_count, unclaimed_must_have_count,
+            total_estimated_cost, claimed_cost, updated_at)
+        VALUES (:eventId, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") Long eventId);
+
+    /**
+     * Creates the counters row for a freshly populated event from its items in one statement.
+     * Only valid while every item is still AVAILABLE, i.e. straight after a clone.
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO EventContributionCounters (eventId, totalItems, availableCount, claimedCount, assignedCount,
+            confirmedCount, completedCount, unclaimedMustHaveCount, totalEstimatedCost, claimedCost, updatedAt)
+        SELECT ci.event.id, COUNT(ci), COUNT(ci), 0, 0, 0, 0,
+            SUM(CASE WHEN ci.priority = com.theinside.partii.enums.Priority.MUST_HAVE THEN 1 ELSE 0 END),
+            COALESCE(SUM(ci.estimatedCost), 0), 0, :now
+        FROM ContributionItem ci
+        WHERE ci.event.id = :eventId
+        GROUP BY ci.event.id
+        """)
+    int insertForAvailableItems(@Param("eventId") Long eventId, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM EventContributionCounters c WHERE c.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Atomically adds the given deltas to the event's counters.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EventContributionCounters c
+        SET c.totalItems = c.totalItems + :total,
+            c.availableCount = c.availableCount + :available,
+            c.claimedCount = c.claimedCount + :claimed,
+            c.assignedCount = c.assignedCount + :assigned,
+            c.confirmedCount = c.confirmedCount + :confirmed,
+            c.completedCount = c.completedCount + :completed,
+            c.unclaimedMustHaveCount = c.unclaimedMustHaveCount + :unclaimedMustHave,
+            c.totalEstimatedCost = c.totalEstimatedCost + :estimatedCost,
+            c.claimedCost = c.claimedCost + :claimedCost,
+            c.updatedAt = :now
+        WHERE c.eventId = :eventId
+        """)
+    int applyDelta(
+        @Param("eventId") Long eventId,
+        @Param("total") long total,
+        @Param("available") long available,
+        @Param("claimed") long claimed,
+        @Param("assigned") long assigned,
+        @Param("confirmed") long confirmed,
+        @Param("completed") long completed,
+        @Param("unclaimedMustHave") long unclaimedMustHave,
+        @Param("estimatedCost") BigDecimal estimatedCost,
+        @Param("claimedCost") BigDecimal claimedCost,
+        @Param("now") Instant now
+    );
+}
@@ -0,0 +1,47 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.EventPaymentTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Repository for per-event running payment totals.
+ */
+@Repository
+public interface EventPaymentTotalsRepository extends JpaRepository<EventPaymentTotals, Long> {
+
+    /**
+     * Creates an empty totals row for the event if one does not exist yet.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO event_payment_totals (event_id, total_paid, entry_count, updated_at)
+        VALUES (:eventId, 0, 0, CURRENT_TIMESTAMP)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") Long eventId);
+
+    /**
+     * Atomically adds the given amount and entry count to the event's running totals.
+     */
+    @Modifying
+    @Query("""
+        UPDATE EventPaymentTotals t
+        SET t.totalPaid = t.totalPaid + :amount,
+            t.entryCount = t.entryCount + :entries,
+            t.updatedAt = :now
+        WHERE t.eventId = :eventId
+        """)
+    int increment(
+        @Param("eventId") Long eventId,
+        @Param("amount") BigDecimal amount,
+        @Param("entries") long entries,
+        @Param("now") Instant now
+    );
+}
@@ -1,6 +1,7 @@
 package com.theinside.partii.repository;
 
 import com.theinside.partii.entity.Event;
+import com.theinside.partii.enums.AttendeeStatus;
 import com.theinside.partii.enums.EventStatus;
 import com.theinside.partii.enums.EventType;
 import com.theinside.partii.enums.EventVisibility;
@@ -37,6 +38,27 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
 
     Page<Event> findByVisibility(EventVisibility visibility, Pageable pageable);
 
+    // ===== Access Queries =====
+
+    /**
+     * The event's organizer and status together with the user's attendee status (null if they never joined),
+     * so an authorization check costs one query.
+     */
+    @Query("""
+        SELECT e.id AS eventId, e.organizer.id AS organizerId, e.status AS eventStatus, ea.status AS attendeeStatus
+        FROM Event e
+        LEFT JOIN EventAttendee ea ON ea.event = e AND ea.user.id = :userId
+        WHERE e.id = :eventId
+        """)
+    Optional<AccessRow> findAccess(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    interface AccessRow {
+        Long getEventId();
+        Long getOrganizerId();
+        EventStatus getEventStatus();
+        AttendeeStatus getAttendeeStatus();
+    }
+
     // ===== Count Queries =====
 
     long countByOrganizerId(Long organizerId);
@@ -266,4 +288,49 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
         @Param("afterId") Long afterId,
         org.springframework.data.domain.Limit limit
     );
+
+    // ===== Contribution Alerts =====
+
+    /**
+     * One keyset page of upcoming events that still have MUST_HAVE items nobody has claimed or been alerted about,
+     * ordered by organizer, then event date, so digests can be built one organizer at a time.
+     * The first page starts after organizer 0.
+     */
+    @Query("""
+        SELECT e.id AS eventId, e.title AS eventTitle, e.eventDate AS eventDate,
+            o.id AS organizerId, o.email AS organizerEmail, o.displayName AS organizerName
+        FROM Event e
+        JOIN e.organizer o
+        WHERE e.status IN ('ACTIVE', 'FULL')
+        AND e.eventDate > :now
+        AND e.eventDate <= :deadline
+        AND EXISTS (
+            SELECT 1 FROM ContributionItem ci
+            WHERE ci.event = e
+            AND ci.priority = 'MUST_HAVE'
+            AND ci.status = 'AVAILABLE'
+            AND ci.mustHaveAlertedAt IS NULL
+        )
+        AND (o.id > :afterOrganizerId
+            OR (o.id = :afterOrganizerId AND (e.eventDate > :afterEventDate
+            OR (e.eventDate = :afterEventDate AND e.id > :afterEventId))))
+        ORDER BY o.id ASC, e.eventDate ASC, e.id ASC
+        """)
+    List<MustHaveAlertEvent> findEventsWithUnalertedMustHaves(
+        @Param("now") LocalDateTime now,
+        @Param("deadline") LocalDateTime deadline,
+        @Param("afterOrganizerId") Long afterOrganizerId,
+        @Param("afterEventDate") LocalDateTime afterEventDate,
+        @Param("afterEventId") Long afterEventId,
+        org.springframework.data.domain.Limit limit
+    );
+
+    interface MustHaveAlertEvent {
+        Long getEventId();
+        String getEventTitle();
+        LocalDateTime getEventDate();
+        Long getOrganizerId();
+        String getOrganizerEmail();
+        String getOrganizerName();
+    }
 }
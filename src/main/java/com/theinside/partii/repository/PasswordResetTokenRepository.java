@@ -12,11 +12,7 @@ import java.util.Optional;
 @Repository
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
 
-    /**
-     * Find the most recent unused, non-expired token for an email.
-     */
-    Optional<PasswordResetToken> findFirstByEmailAndUsedFalseAndExpiresAtAfterOrderByCreatedAtDesc(
-            String email, Instant now);
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
 
     /**
      * Count recent tokens for rate limiting.
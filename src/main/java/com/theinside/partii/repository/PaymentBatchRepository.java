@@ -0,0 +1,73 @@
+package com.theinside.partii.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writes for bulk payment imports.
+ * Bypasses the persistence context so thousands of rows are written in a handful of round trips.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A ledger row to insert.
+     */
+    public record LedgerInsert(Long attendeeId, BigDecimal amount, String idempotencyKey, String reference) {}
+
+    /**
+     * Appends the given entries to the event's payment ledger in a single batch.
+     */
+    public void insertLedgerEntries(Long eventId, Long recordedBy, List<LedgerInsert> entries, Instant now) {
+        Timestamp createdAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO payment_ledger (event_id, attendee_id, amount, idempotency_key, reference, recorded_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """,
+            entries,
+            entries.size(),
+            (ps, entry) -> {
+                ps.setLong(1, eventId);
+                ps.setLong(2, entry.attendeeId());
+                ps.setBigDecimal(3, entry.amount());
+                ps.setString(4, entry.idempotencyKey());
+                ps.setString(5, entry.reference());
+                ps.setLong(6, recordedBy);
+                ps.setTimestamp(7, createdAt);
+            });
+    }
+
+    /**
+     * Adds each amount to the attendee's amount paid and recomputes the payment status,
+     * mirroring {@code EventAttendee.recordPayment}.
+     */
+    public void applyAttendeePayments(Map<Long, BigDecimal> amountsByAttendee) {
+        jdbcTemplate.batchUpdate("""
+            UPDATE event_attendees
+            SET amount_paid = amount_paid + ?,
+                payment_status = CASE
+                    WHEN COALESCE(payment_amount, 0) <= 0 THEN payment_status
+                    WHEN amount_paid + ? >= payment_amount THEN 'PAID'
+                    ELSE 'PARTIAL'
+                END
+            WHERE id = ?
+            """,
+            List.copyOf(amountsByAttendee.entrySet()),
+            amountsByAttendee.size(),
+            (ps, entry) -> {
+                ps.setBigDecimal(1, entry.getValue());
+                ps.setBigDecimal(2, entry.getValue());
+                ps.setLong(3, entry.getKey());
+            });
+    }
+}
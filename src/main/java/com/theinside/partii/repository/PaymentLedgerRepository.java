@@ -0,0 +1,81 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.PaymentLedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the append-only payment ledger.
+ */
+@Repository
+public interface PaymentLedgerRepository extends JpaRepository<PaymentLedgerEntry, Long> {
+
+    // ===== Basic Queries =====
+
+    Optional<PaymentLedgerEntry> findByEventIdAndIdempotencyKey(Long eventId, String idempotencyKey);
+
+    Page<PaymentLedgerEntry> findByEventIdOrderByIdDesc(Long eventId, Pageable pageable);
+
+    List<PaymentLedgerEntry> findByAttendeeIdOrderByIdAsc(Long attendeeId);
+
+    // ===== Import Queries =====
+
+    /**
+     * Entries in the event whose idempotency key or external reference matches one of the given values.
+     */
+    @Query("""
+        SELECT l.idempotencyKey AS idempotencyKey, l.reference AS reference
+        FROM PaymentLedgerEntry l
+        WHERE l.event.id = :eventId
+        AND (l.idempotencyKey IN :keys OR l.reference IN :keys)
+        """)
+    List<LedgerKey> findExistingKeys(@Param("eventId") Long eventId, @Param("keys") Collection<String> keys);
+
+    // ===== Reconciliation Queries =====
+
+    /**
+     * Per-event totals rebuilt from the ledger.
+     */
+    @Query("""
+        SELECT l.event.id AS eventId, SUM(l.amount) AS total, COUNT(l) AS entryCount
+        FROM PaymentLedgerEntry l
+        GROUP BY l.event.id
+        """)
+    List<LedgerAggregate> aggregateByEvent();
+
+    /**
+     * Per-attendee totals rebuilt from the ledger.
+     */
+    @Query("""
+        SELECT l.attendee.id AS attendeeId, SUM(l.amount) AS total
+        FROM PaymentLedgerEntry l
+        WHERE l.event.id = :eventId
+        GROUP BY l.attendee.id
+        """)
+    List<AttendeeLedgerAggregate> aggregateByAttendee(@Param("eventId") Long eventId);
+
+    interface LedgerKey {
+        String getIdempotencyKey();
+        String getReference();
+    }
+
+    interface LedgerAggregate {
+        Long getEventId();
+        BigDecimal getTotal();
+        long getEntryCount();
+    }
+
+    interface AttendeeLedgerAggregate {
+        Long getAttendeeId();
+        BigDecimal getTotal();
+    }
+}
@@ -17,14 +17,14 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
      * Revokes all tokens in a token family (used for token reuse detection).
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId")
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.familyId = :familyId AND rt.revoked = false")
     void revokeByFamilyId(UUID familyId);
 
     /**
      * Revokes all tokens for a user (used on password change/logout all).
      */
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.userId = :userId")
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.userId = :userId AND rt.revoked = false")
     void revokeByUserId(Long userId);
 
     /**
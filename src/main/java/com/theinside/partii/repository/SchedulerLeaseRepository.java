@@ -0,0 +1,45 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Repository for leader-election leases.
+ */
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * Renews the lease for its holder, or takes it over once it has lapsed. Returns 1 if the caller now holds it.
+     */
+    @Modifying
+    @Query("""
+        UPDATE SchedulerLease l
+        SET l.owner = :owner, l.expiresAt = :until
+        WHERE l.name = :name
+        AND (l.owner = :owner OR l.expiresAt < :now)
+        """)
+    int renewOrTakeOver(@Param("name") String name, @Param("owner") String owner,
+                        @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * Creates the lease for the caller if nobody has ever held it. Returns 1 if the caller now holds it.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO scheduler_leases (name, owner, expires_at)
+        VALUES (:name, :owner, :until)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("owner") String owner, @Param("until") Instant until);
+
+    default boolean tryAcquire(String name, String owner, Instant now, Instant until) {
+        return renewOrTakeOver(name, owner, now, until) == 1 || insertIfAbsent(name, owner, until) == 1;
+    }
+}
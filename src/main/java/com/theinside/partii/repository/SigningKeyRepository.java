@@ -0,0 +1,32 @@
+package com.theinside.partii.repository;
+
+import com.theinside.partii.entity.SigningKey;
+import com.theinside.partii.enums.SigningKeyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the shared JWT key ring.
+ */
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+    Optional<SigningKey> findFirstByStatus(SigningKeyStatus status);
+
+    List<SigningKey> findByStatusOrderByRetiredAtDesc(SigningKeyStatus status);
+
+    /**
+     * Just the ids and statuses, so nodes can tell whether the ring changed without reading any key material.
+     */
+    @Query("SELECT k.kid AS kid, k.status AS status FROM SigningKey k ORDER BY k.kid")
+    List<KeyState> findKeyStates();
+
+    interface KeyState {
+        String getKid();
+        SigningKeyStatus getStatus();
+    }
+}
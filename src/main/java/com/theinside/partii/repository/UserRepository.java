@@ -5,8 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +24,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Token epochs of users whose tokens were ever revoked and who changed after the given time.
+     */
+    @Query("""
+        SELECT u.id AS userId, u.tokenEpoch AS tokenEpoch
+        FROM User u
+        WHERE u.tokenEpoch > 0
+        AND u.updatedAt > :since
+        """)
+    List<TokenEpochRow> findTokenEpochsUpdatedSince(@Param("since") Instant since);
+
+    interface TokenEpochRow {
+        Long getUserId();
+        Long getTokenEpoch();
+    }
 }
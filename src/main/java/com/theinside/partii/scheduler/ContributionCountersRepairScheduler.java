@@ -0,0 +1,34 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.service.ContributionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds contribution summary counters from the contribution items.
+ * Guards the incrementally maintained counters against drift.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContributionCountersRepairScheduler {
+
+    private final ContributionService contributionService;
+
+    /**
+     * Repair per-event contribution counters.
+     * Runs daily at 3:30 AM UTC.
+     */
+    @Scheduled(cron = "0 30 3 * * ?", zone = "UTC")
+    public void repairContributionCounters() {
+        try {
+            log.info("Starting scheduled task: repair contribution counters");
+            long corrected = contributionService.repairSummaryCounters();
+            log.info("Contribution counters repair corrected {} events", corrected);
+        } catch (Exception e) {
+            log.error("Error during contribution counters repair", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.service.AttendeeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that expires join requests left open after an event stops accepting attendees.
+ * Works in bounded chunks, each in its own transaction, so a large backlog never holds long locks.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JoinRequestExpiryScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 200;
+
+    private final AttendeeService attendeeService;
+
+    /**
+     * Expire stale pending and waitlisted requests.
+     * Runs every 15 minutes.
+     */
+    @Scheduled(cron = "0 */15 * * * ?", zone = "UTC")
+    public void expireStaleRequests() {
+        try {
+            long total = 0;
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                int expired = attendeeService.expireStaleRequests(BATCH_SIZE);
+                total += expired;
+                if (expired < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (total > 0) {
+                log.info("Expired {} stale join requests", total);
+            }
+        } catch (Exception e) {
+            log.error("Error during join request expiry", e);
+        }
+    }
+}
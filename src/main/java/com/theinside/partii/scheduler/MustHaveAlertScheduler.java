@@ -0,0 +1,47 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.service.ContributionAlertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Scheduler that tells organizers which MUST_HAVE items are still unclaimed shortly before their events.
+ * Each item is listed once; it is only alerted again if it is released back to available.
+ * Every instance schedules the run, but only the one that takes the hourly lease sends digests.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MustHaveAlertScheduler {
+
+    private static final Duration ALERT_HORIZON = Duration.ofDays(2);
+    private static final String LEASE = "must-have-alerts";
+    /**
+     * Held past any run on this instance, and lapsed before the next hourly run on any.
+     */
+    private static final Duration LEASE_DURATION = Duration.ofMinutes(50);
+
+    private final ContributionAlertService contributionAlertService;
+    private final SchedulerLeases schedulerLeases;
+
+    /**
+     * Send must-have digests for events in the next two days.
+     * Runs hourly at 5 minutes past the hour.
+     */
+    @Scheduled(cron = "0 5 * * * ?", zone = "UTC")
+    public void sendMustHaveDigests() {
+        try {
+            if (!schedulerLeases.tryAcquire(LEASE, LEASE_DURATION)) {
+                log.debug("Must-have digests are being sent by another instance");
+                return;
+            }
+            contributionAlertService.sendMustHaveDigests(ALERT_HORIZON);
+        } catch (Exception e) {
+            log.error("Error during must-have digest run", e);
+        }
+    }
+}
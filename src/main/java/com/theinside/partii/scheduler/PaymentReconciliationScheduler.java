@@ -0,0 +1,34 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that rebuilds payment totals from the payment ledger.
+ * Guards the incrementally maintained totals against drift.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private final PaymentService paymentService;
+
+    /**
+     * Reconcile event and attendee payment totals against the ledger.
+     * Runs daily at 3 AM UTC.
+     */
+    @Scheduled(cron = "0 0 3 * * ?", zone = "UTC")
+    public void reconcilePaymentTotals() {
+        try {
+            log.info("Starting scheduled task: reconcile payment totals");
+            long corrected = paymentService.reconcileTotals();
+            log.info("Payment reconciliation corrected {} totals", corrected);
+        } catch (Exception e) {
+            log.error("Error during payment reconciliation", e);
+        }
+    }
+}
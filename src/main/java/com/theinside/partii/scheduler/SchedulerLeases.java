@@ -0,0 +1,33 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.repository.SchedulerLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Named leases in {@code scheduler_leases}, so a job scheduled on every instance runs on only one of them.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeases {
+
+    private final SchedulerLeaseRepository leaseRepository;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Takes the lease for the given duration unless another instance holds it.
+     *
+     * @return whether this instance now holds the lease
+     */
+    @Transactional
+    public boolean tryAcquire(String name, Duration duration) {
+        Instant now = Instant.now();
+        return leaseRepository.tryAcquire(name, nodeId, now, now.plus(duration));
+    }
+}
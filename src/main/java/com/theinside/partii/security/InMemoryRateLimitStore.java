@@ -0,0 +1,124 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.enums.RateLimitAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limit counters in this instance's memory. Each instance enforces the limits on its own, so behind a load
+ * balancer a client gets up to one quota per instance.
+ * <p>
+ * Counters are dropped once they no longer affect any decision.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "partii.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int MAX_KEYS = 100_000;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private sealed interface Counter permits Window, Bucket {
+
+        long expiresAt();
+    }
+
+    /**
+     * Requests in the current and previous fixed windows, numbered from the epoch.
+     */
+    private record Window(long index, int current, int previous, long expiresAt) implements Counter {
+    }
+
+    private record Bucket(double tokens, long updatedAt, long expiresAt) implements Counter {
+    }
+
+    @Override
+    public RateLimitDecision acquire(String key, RateLimitAlgorithm algorithm, int limit, Duration window) {
+        return acquire(key, algorithm, limit, window, System.currentTimeMillis());
+    }
+
+    RateLimitDecision acquire(String key, RateLimitAlgorithm algorithm, int limit, Duration window, long now) {
+        if (counters.size() >= MAX_KEYS && !counters.containsKey(key)) {
+            evictExpired(now);
+            if (counters.size() >= MAX_KEYS) {
+                log.warn("Rate limit store full, clearing {} keys", counters.size());
+                counters.clear();
+            }
+        }
+
+        long windowMillis = window.toMillis();
+        RateLimitDecision[] decision = new RateLimitDecision[1];
+        counters.compute(key, (k, counter) -> switch (algorithm) {
+            case SLIDING_WINDOW -> slide(counter instanceof Window w ? w : null, limit, windowMillis, now, decision);
+            case TOKEN_BUCKET -> take(counter instanceof Bucket b ? b : null, limit, windowMillis, now, decision);
+        });
+        return decision[0];
+    }
+
+    @Scheduled(fixedDelayString = "PT1M")
+    public void evictExpired() {
+        evictExpired(System.currentTimeMillis());
+    }
+
+    // ===== Helper methods =====
+
+    private void evictExpired(long now) {
+        counters.values().removeIf(counter -> counter.expiresAt() <= now);
+    }
+
+    private static Window slide(Window window, int limit, long windowMillis, long now, RateLimitDecision[] decision) {
+        long index = now / windowMillis;
+        long offset = now % windowMillis;
+        int current = 0;
+        int previous = 0;
+        if (window != null && window.index() == index) {
+            current = window.current();
+            previous = window.previous();
+        } else if (window != null && window.index() == index - 1) {
+            previous = window.current();
+        }
+
+        // The previous window counts for the part of it still inside the trailing window
+        double estimate = previous * (1 - offset / (double) windowMillis) + current;
+        boolean allowed = estimate + 1 <= limit;
+        if (allowed) {
+            current++;
+            estimate++;
+        }
+
+        long retryAfter = 0;
+        if (!allowed) {
+            retryAfter = current < limit
+                    // Wait for enough of the previous window to slide out
+                    ? Math.ceilDiv(windowMillis * (previous - (limit - 1 - current)), previous) - offset
+                    // Wait for this window to become the previous one and slide out far enough
+                    : windowMillis - offset + Math.ceilDiv(windowMillis * (current - (limit - 1)), current);
+        }
+        long reset = (current > 0 ? 2 * windowMillis : windowMillis) - offset;
+        decision[0] = new RateLimitDecision(allowed, limit, (int) Math.max(0, Math.floor(limit - estimate)),
+                Duration.ofMillis(reset), Duration.ofMillis(Math.max(retryAfter, allowed ? 0 : 1)));
+        return new Window(index, current, previous, now + reset);
+    }
+
+    private static Bucket take(Bucket bucket, int limit, long windowMillis, long now, RateLimitDecision[] decision) {
+        double perMilli = limit / (double) windowMillis;
+        double tokens = bucket == null ? limit : Math.min(limit, bucket.tokens() + (now - bucket.updatedAt()) * perMilli);
+        boolean allowed = tokens >= 1;
+        if (allowed) {
+            tokens--;
+        }
+
+        long retryAfter = allowed ? 0 : Math.max(1, (long) Math.ceil((1 - tokens) / perMilli));
+        long reset = (long) Math.ceil((limit - tokens) / perMilli);
+        decision[0] = new RateLimitDecision(allowed, limit, (int) Math.floor(tokens),
+                Duration.ofMillis(reset), Duration.ofMillis(retryAfter));
+        return new Bucket(tokens, now, now + reset);
+    }
+}
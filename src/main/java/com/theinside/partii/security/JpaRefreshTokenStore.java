@@ -0,0 +1,55 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.RefreshToken;
+import com.theinside.partii.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Refresh tokens in the {@code refresh_tokens} table. Lookups by token, family and user are all indexed.
+ */
+@Component
+@ConditionalOnProperty(name = "partii.refresh-tokens.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void save(RefreshToken token) {
+        refreshTokenRepository.save(token);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findByToken(UUID token) {
+        return refreshTokenRepository.findByToken(token);
+    }
+
+    @Override
+    public void revoke(RefreshToken token) {
+        token.setRevoked(true);
+        refreshTokenRepository.save(token);
+    }
+
+    @Override
+    public void revokeFamily(UUID familyId) {
+        refreshTokenRepository.revokeByFamilyId(familyId);
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        refreshTokenRepository.revokeByUserId(userId);
+    }
+
+    @Override
+    public void purge() {
+        refreshTokenRepository.deleteRevokedAndExpiredTokens();
+    }
+}
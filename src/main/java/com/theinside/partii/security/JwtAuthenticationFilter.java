@@ -1,7 +1,5 @@
 package com.theinside.partii.security;
 
-import com.theinside.partii.entity.User;
-import com.theinside.partii.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,7 +24,7 @@ import java.io.IOException;
  * Flow:
  * 1. Extract token from Authorization header (Bearer scheme)
  * 2. Decode and validate JWT signature and expiry
- * 3. Load user from database using token subject (email)
+ * 3. Build the user from the token's claims and reject revoked tokens via {@link TokenEpochs}, without a query
  * 4. Set authentication in SecurityContext for downstream access
  */
 @Component
@@ -37,11 +35,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
     private final JwtDecoder jwtDecoder;
-    private final UserRepository userRepository;
+    private final TokenEpochs tokenEpochs;
 
-    public JwtAuthenticationFilter(JwtDecoder jwtDecoder, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtDecoder jwtDecoder, TokenEpochs tokenEpochs) {
         this.jwtDecoder = jwtDecoder;
-        this.userRepository = userRepository;
+        this.tokenEpochs = tokenEpochs;
     }
 
     @Override
@@ -68,30 +66,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = authHeader.substring(BEARER_PREFIX.length());
             Jwt jwt = jwtDecoder.decode(token);
-
-            String email = jwt.getSubject();
-
-            userRepository.findByEmail(email).ifPresent(user -> {
-                if (user.isEnabled()) {
-                    SecurityUser securityUser = new SecurityUser(user);
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    securityUser,
-                                    null,
-                                    securityUser.getAuthorities()
-                            );
-
-                    authentication.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request)
-                    );
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.debug("Authenticated user: {}", email);
-                } else {
-                    logger.warn("Attempted access by disabled user: {}", email);
-                }
-            });
+            SecurityUser securityUser = SecurityUser.fromToken(jwt);
+
+            if (!tokenEpochs.isCurrent(jwt, securityUser.getUserId())) {
+                logger.debug("Rejected revoked token for user: {}", securityUser.getUserId());
+            } else if (!securityUser.isEnabled()) {
+                logger.warn("Attempted access by disabled user: {}", securityUser.getUserId());
+            } else {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                securityUser,
+                                null,
+                                securityUser.getAuthorities()
+                        );
+
+                authentication.setDetails(
+                        new WebAuthenticationDetailsSource().buildDetails(request)
+                );
+
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                logger.debug("Authenticated user: {}", securityUser.getUserId());
+            }
 
         } catch (JwtException e) {
             logger.debug("JWT validation failed: {}", e.getMessage());
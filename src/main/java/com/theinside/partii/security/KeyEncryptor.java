@@ -0,0 +1,63 @@
+package com.theinside.partii.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Encrypts signing keys at rest with AES-256-GCM under {@code partii.key-ring.encryption-key}.
+ * Each ciphertext is bound to its key id, so a row's key cannot be swapped into another row.
+ */
+@Component
+public class KeyEncryptor {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    public KeyEncryptor(@Value("${partii.key-ring.encryption-key}") String encodedKey) {
+        byte[] raw = Base64.getDecoder().decode(encodedKey);
+        if (raw.length != 32) {
+            throw new IllegalStateException("partii.key-ring.encryption-key must be 32 bytes, base64 encoded");
+        }
+        this.key = new SecretKeySpec(raw, "AES");
+    }
+
+    public String encrypt(String kid, byte[] plaintext) {
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, nonce));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(plaintext);
+            return Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(nonce.length + ciphertext.length).put(nonce).put(ciphertext).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt signing key " + kid, e);
+        }
+    }
+
+    public byte[] decrypt(String kid, String encoded) {
+        byte[] sealed = Base64.getDecoder().decode(encoded);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, sealed, 0, NONCE_BYTES));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            return cipher.doFinal(sealed, NONCE_BYTES, sealed.length - NONCE_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt signing key " + kid + "; is the encryption key right?", e);
+        }
+    }
+}
@@ -1,18 +1,37 @@
 package com.theinside.partii.security;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.util.Base64URL;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.stereotype.Component;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -22,21 +41,33 @@ import static com.theinside.partii.utils.CustomMessages.KEYS_ROTATED_SUCCESSFULL
 
 
 /**
- * KeyManager is responsible for managing RSA keys used for JWT signing.
- * It can load configured keys or generate new ones, and it implements automatic key rotation.
+ * KeyManager is responsible for the keys used for JWT signing. The ring may hold both RS256 and ES256 keys: new keys
+ * use {@code partii.key-ring.signing-algorithm}, tokens are signed with the active key's algorithm, and each key
+ * verifies only tokens of its own algorithm.
+ * <p>
+ * The keys live in the database ring kept by {@link SigningKeyStore}, so every node signs with the same active key
+ * and verifies every key still in the ring, and adding nodes does not invalidate anyone's tokens. Each node polls
+ * the ring's fingerprint every {@code partii.key-ring.poll-interval} and reloads only when it changed; whichever node
+ * holds the rotation lease also maintains the ring on that tick. Polling is enough here even where Redis is
+ * configured: next keys are stored and published in the JWKS at least two polls before they start signing, so every
+ * node already verifies a key by the time any node signs with it. The encoder and one decoder per key are built once
+ * per ring and the whole ring is swapped atomically.
  */
 
 @Component
 public class KeyManager {
     private static final Logger logger = LoggerFactory.getLogger(KeyManager.class);
     private static final String THREAD_NAME = "key-rotation-sc";
-    private final AtomicReference<RSAKey> activeKey = new AtomicReference<>();
+    private final AtomicReference<KeyRing> ring = new AtomicReference<>();
     private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
         Thread t = new Thread(r, THREAD_NAME);
         t.setDaemon(false);
         t.setPriority(Thread.NORM_PRIORITY);
         return t;
     });
+    private final SigningKeyStore keyStore;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile String loadedFingerprint;
 
     @Value("${rsa.public-key:#{null}}")
     private RSAPublicKey configuredPublicKey;
@@ -44,79 +75,209 @@ public class KeyManager {
     @Value("${rsa.private-key:#{null}}")
     private RSAPrivateKey configuredPrivateKey;
 
-    @Value("${rsa.key-rotation-interval:3600}")
-    private long keyRotationInterval;
+    /**
+     * How often this node checks the shared ring for changes; a new key is published at least two polls
+     * before it starts signing, so every node can verify its tokens by then.
+     */
+    @Value("${partii.key-ring.poll-interval:PT30S}")
+    private Duration pollInterval;
+
+    public KeyManager(SigningKeyStore keyStore) {
+        this.keyStore = keyStore;
+    }
+
+    /**
+     * Signing key first, then the next key and retired keys newest first, with the signing algorithm,
+     * the encoder and per-key decoders built for them.
+     */
+    private record KeyRing(List<JWK> keys, JWKSet publicJwks, SignatureAlgorithm algorithm, JwtEncoder encoder,
+                           Map<String, JwtDecoder> decoders) {
+
+        static KeyRing of(List<JWK> keys) {
+            Map<String, JwtDecoder> decoders = new LinkedHashMap<>();
+            List<JWK> publicKeys = new ArrayList<>();
+            for (JWK key : keys) {
+                decoders.put(key.getKeyID(), decoderFor(key));
+                publicKeys.add(key.toPublicJWK());
+            }
+            JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(keys.getFirst())));
+            return new KeyRing(List.copyOf(keys), new JWKSet(publicKeys), algorithmOf(keys.getFirst()), encoder,
+                    Map.copyOf(decoders));
+        }
+
+        JWK current() {
+            return keys.getFirst();
+        }
+
+        /**
+         * Each decoder accepts only its own key's algorithm, so a token cannot pick a weaker one.
+         */
+        private static JwtDecoder decoderFor(JWK key) {
+            if (key instanceof RSAKey rsaKey) {
+                // The single-key decoder skips JWK selection on every token
+                try {
+                    return NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey())
+                            .signatureAlgorithm(algorithmOf(key))
+                            .build();
+                } catch (JOSEException e) {
+                    throw new IllegalStateException("Unusable RSA key " + key.getKeyID(), e);
+                }
+            }
+            return NimbusJwtDecoder.withJwkSource(new ImmutableJWKSet<>(new JWKSet(key.toPublicJWK())))
+                    .jwsAlgorithm(algorithmOf(key))
+                    .build();
+        }
+
+        private static SignatureAlgorithm algorithmOf(JWK key) {
+            // Keys without an algorithm predate per-key algorithms and are all RSA
+            return key.getAlgorithm() != null ? SignatureAlgorithm.from(key.getAlgorithm().getName())
+                    : SignatureAlgorithm.RS256;
+        }
+    }
 
     @PostConstruct
     public void init() {
-        logger.info("Initializing InMemoryKeyManager...");
-        loadOrGenerateKeys();
-        scheduleRotation();
+        logger.info("Initializing KeyManager as node {}...", nodeId);
+        awaitRing();
+        logger.info("Polling the shared key ring every {}", pollInterval);
+        scheduler.scheduleWithFixedDelay(this::sync, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Public keys of every key in the ring, including the next key, for the JWKS endpoint.
+     */
     public JWKSet getJWKSet() {
-        return new JWKSet (activeKey.get());
+        return ring.get().publicJwks();
     }
 
+    /**
+     * Brings the next key's activation forward to the earliest moment every node is sure to have it.
+     */
     public String rotateKeys() {
-        generateAndSetKeys();
+        keyStore.expediteRotation(Instant.now().plus(propagationDelay()));
+        sync();
         return KEYS_ROTATED_SUCCESSFULLY;
     }
 
-    public RSAPublicKey getPublicKey() {
-        try {
-            return activeKey.get().toRSAPublicKey();
-        } catch (JOSEException e) {
-            throw new RuntimeException(e);
+    /**
+     * Algorithm of the current signing key, for the headers of tokens about to be issued.
+     */
+    public SignatureAlgorithm getSigningAlgorithm() {
+        return ring.get().algorithm();
+    }
+
+    /**
+     * Signs with the current key; tokens carry the key's id. A header naming another algorithm was built
+     * just before a rotation to a key of a different type, and is re-pointed at the key that actually signs.
+     */
+    public Jwt encode(JwtEncoderParameters parameters) {
+        KeyRing keys = ring.get();
+        JwsHeader header = parameters.getJwsHeader();
+        if (header != null && header.getAlgorithm() != keys.algorithm()) {
+            parameters = JwtEncoderParameters.from(
+                    JwsHeader.from(header).algorithm(keys.algorithm()).build(), parameters.getClaims());
+        }
+        return keys.encoder().encode(parameters);
+    }
+
+    /**
+     * Verifies the token with the key named by its {@code kid} header.
+     * Tokens without one are checked against the current key.
+     */
+    public Jwt decode(String token) {
+        KeyRing keys = ring.get();
+        String keyId = keyIdOf(token);
+        JwtDecoder decoder = keyId != null ? keys.decoders().get(keyId) : keys.decoders().get(keys.current().getKeyID());
+        if (decoder == null) {
+            throw new BadJwtException("Token was signed with an unknown or retired key");
         }
+        return decoder.decode(token);
     }
 
-    public RSAPrivateKey getPrivateKey() {
+    /**
+     * Maintains the ring if this node leads, then reloads it if its shape changed. Failures are logged and
+     * retried on the next poll; the node keeps the ring it has meanwhile.
+     */
+    void sync() {
         try {
-            return activeKey.get().toRSAPrivateKey();
-        } catch (JOSEException e) {
-            throw new RuntimeException(e);
+            keyStore.maintain(nodeId, pollInterval.multipliedBy(3), propagationDelay(), configuredKey());
+        } catch (RuntimeException e) {
+            logger.warn("Could not maintain the shared key ring: {}", e.getMessage());
+        }
+        try {
+            String fingerprint = keyStore.fingerprint();
+            if (fingerprint.equals(loadedFingerprint)) {
+                return;
+            }
+            List<JWK> keys = keyStore.loadRing();
+            if (!keys.isEmpty()) {
+                ring.set(KeyRing.of(keys));
+                loadedFingerprint = fingerprint;
+                logger.info("Loaded key ring with {} keys, signing with {}", keys.size(), keys.getFirst().getKeyID());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not load the shared key ring", e);
         }
     }
 
-    private void scheduleRotation() {
-        logger.info("Scheduling key rotation every {} seconds", keyRotationInterval);
-        scheduler.scheduleWithFixedDelay(this::generateAndSetKeys, keyRotationInterval,
-                keyRotationInterval, TimeUnit.SECONDS);
+    /**
+     * Syncs until the ring holds a key. On a fresh database the first node starts it; the rest wait for
+     * the leader, at most until its lease would have lapsed and they could take over.
+     */
+    private void awaitRing() {
+        Instant deadline = Instant.now().plus(pollInterval.multipliedBy(4));
+        sync();
+        while (ring.get() == null) {
+            if (Instant.now().isAfter(deadline)) {
+                throw new IllegalStateException("No JWT signing key available in the shared key ring");
+            }
+            try {
+                Thread.sleep(Math.min(1000, pollInterval.toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for the shared key ring", e);
+            }
+            sync();
+        }
     }
 
-    private void loadOrGenerateKeys() {
-        if (configuredPublicKey != null && configuredPrivateKey != null) {
-            logger.info("Using configured RSA key pair");
-            RSAKey rsaKey = new RSAKey.Builder(configuredPublicKey)
+    private Duration propagationDelay() {
+        return pollInterval.multipliedBy(2);
+    }
+
+    /**
+     * The configured key pair, used only to start an empty ring.
+     */
+    private RSAKey configuredKey() {
+        if (configuredPublicKey == null || configuredPrivateKey == null) {
+            return null;
+        }
+        try {
+            // Derive the id from the key itself, so every instance loading the same pair agrees on it
+            return new RSAKey.Builder(configuredPublicKey)
                     .privateKey(configuredPrivateKey)
-                    .keyID(UUID.randomUUID().toString())
+                    .keyIDFromThumbprint()
                     .build();
-            activeKey.set(rsaKey);
-            logger.info("Successfully loaded configured RSA key pair");
-        } else {
-            logger.warn("RSA keys not configured, generating new keys for development");
-            generateAndSetKeys();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not load configured RSA key pair", e);
         }
     }
 
-    private void generateAndSetKeys() {
+    private static String keyIdOf(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            throw new BadJwtException("Malformed token");
+        }
         try {
-            logger.info("Generating new RSA key pair");
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-            keyPairGenerator.initialize(2048);
-            KeyPair keyPair = keyPairGenerator.generateKeyPair();
-
-            RSAKey rsaKey = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
-                    .privateKey((RSAPrivateKey) keyPair.getPrivate())
-                    .keyID(UUID.randomUUID().toString())
-                    .build();
-
-            activeKey.set(rsaKey);
-            logger.info("Successfully generated and set new RSA key pair with Key ID: {}", rsaKey.getKeyID());
-        } catch (Exception e) {
-            logger.error("Failed to generate RSA key pair", e);
-            throw new RuntimeException("Key generation failed", e);
+            return JWSHeader.parse(new Base64URL(token.substring(0, headerEnd))).getKeyID();
+        } catch (ParseException e) {
+            throw new BadJwtException("Malformed token header", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,239 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead for password hashing. BCrypt runs on a small pool of its own, sized to the cores, instead of on request
+ * threads, so a credential-stuffing burst queues here rather than pinning every web worker.
+ * <p>
+ * Admission is refused with 429 up front when the queue is full, when the account already has
+ * {@code partii.password-hashing.per-key-limit} hashes pending, or when the client IP has
+ * {@code partii.password-hashing.per-ip-limit} pending, so one attacker cannot take the whole queue. The IP limit is
+ * looser since clients behind one NAT share an address. Callers also give up after
+ * {@code partii.password-hashing.timeout}.
+ */
+@Component
+@Slf4j
+public class PasswordHashing {
+
+    private static final String THREAD_NAME = "password-hashing-";
+    private static final String BUSY_MESSAGE = "Too many sign-in attempts right now, please try again shortly";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int perKeyLimit;
+    private final int perIpLimit;
+    private final Duration timeout;
+
+    private final Map<String, Integer> pendingByAccount = new ConcurrentHashMap<>();
+    private final Map<String, Integer> pendingByIp = new ConcurrentHashMap<>();
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * Outcome of checking a password. {@code upgradedHash} is set when the stored hash used an older algorithm or
+     * cost and should be replaced with it.
+     */
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+
+    public record Stats(int threads, int active, int queued, long completed, double averageHashMillis,
+                        long rejected, long throttled, long timedOut) {
+    }
+
+    public PasswordHashing(PasswordEncoder passwordEncoder,
+                           @Value("${partii.password-hashing.threads:0}") int threads,
+                           @Value("${partii.password-hashing.queue-capacity:0}") int queueCapacity,
+                           @Value("${partii.password-hashing.per-key-limit:2}") int perKeyLimit,
+                           @Value("${partii.password-hashing.per-ip-limit:8}") int perIpLimit,
+                           @Value("${partii.password-hashing.timeout:PT5S}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity > 0 ? queueCapacity : poolSize * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.perKeyLimit = perKeyLimit;
+        this.perIpLimit = perIpLimit;
+        this.timeout = timeout;
+        log.info("Password hashing bulkhead: {} threads, queue of {}", poolSize, executor.getQueue().remainingCapacity());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Hashes a new password for the account.
+     *
+     * @throws TooManyRequestsException if the bulkhead refuses or times out the request
+     */
+    public String encode(String rawPassword, String account) {
+        return run(account, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a password against the stored hash and, if it matches and the hash is outdated, rehashes it in the same
+     * task so the upgrade costs no second admission.
+     *
+     * @throws TooManyRequestsException if the bulkhead refuses or times out the request
+     */
+    public Verification verify(String rawPassword, String encodedPassword, String account) {
+        return run(account, () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            return new Verification(true,
+                    passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null);
+        });
+    }
+
+    public Stats stats() {
+        long done = completed.sum();
+        return new Stats(executor.getMaximumPoolSize(), executor.getActiveCount(), executor.getQueue().size(), done,
+                done == 0 ? 0 : hashNanos.sum() / 1_000_000.0 / done,
+                rejected.sum(), throttled.sum(), timedOut.sum());
+    }
+
+    // ===== Helper methods =====
+
+    private <T> T run(String account, Callable<T> hashing) {
+        String accountKey = account.toLowerCase(Locale.ROOT);
+        String ip = clientIp();
+        if (!acquire(pendingByAccount, accountKey, perKeyLimit)) {
+            throttled.increment();
+            throw busy();
+        }
+        if (ip != null && !acquire(pendingByIp, ip, perIpLimit)) {
+            release(pendingByAccount, accountKey);
+            throttled.increment();
+            throw busy();
+        }
+
+        try {
+            Future<T> result;
+            try {
+                result = executor.submit(timed(hashing));
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+                throw busy();
+            }
+            return await(result);
+        } finally {
+            release(pendingByAccount, accountKey);
+            if (ip != null) {
+                release(pendingByIp, ip);
+            }
+        }
+    }
+
+    private <T> T await(Future<T> result) {
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            timedOut.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> Callable<T> timed(Callable<T> hashing) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                return hashing.call();
+            } finally {
+                hashNanos.add(System.nanoTime() - start);
+                completed.increment();
+            }
+        };
+    }
+
+    private static boolean acquire(Map<String, Integer> pending, String key, int limit) {
+        boolean[] admitted = {false};
+        pending.compute(key, (k, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= limit) {
+                return count;
+            }
+            admitted[0] = true;
+            return current + 1;
+        });
+        return admitted[0];
+    }
+
+    private static void release(Map<String, Integer> pending, String key) {
+        pending.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private TooManyRequestsException busy() {
+        return new TooManyRequestsException(BUSY_MESSAGE, timeout);
+    }
+
+    /**
+     * The caller's public address, or null when none is known: outside a web request, or when the address is
+     * loopback or private. Tomcat replaces a trusted proxy's address with the client's from
+     * {@code X-Forwarded-For} ({@code server.forward-headers-strategy: native}); an address that is still internal
+     * is the proxy itself or an internal caller, and limiting it would throttle everyone behind it.
+     */
+    private static String clientIp() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return null;
+        }
+        String address = servlet.getRequest().getRemoteAddr();
+        try {
+            // A literal address, so no lookup happens
+            InetAddress parsed = InetAddress.getByName(address);
+            return parsed.isLoopbackAddress() || parsed.isSiteLocalAddress() || parsed.isLinkLocalAddress()
+                    ? null
+                    : address;
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.theinside.partii.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Publishes nothing: other instances pick revocations up from the database on their next
+ * {@code partii.token-epoch.sync-interval}.
+ */
+@Component
+@ConditionalOnProperty(name = "partii.token-epoch.notify", havingValue = "poll", matchIfMissing = true)
+public class PollingTokenEpochNotifier implements TokenEpochNotifier {
+
+    @Override
+    public void publish(Long userId, long epoch) {
+    }
+
+    @Override
+    public void subscribe(BiConsumer<Long, Long> onRevoked) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.enums.RateLimitAlgorithm;
+import com.theinside.partii.enums.RateLimitKey;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits how often a controller method may be called. Repeat it to limit by several keys at once, for example per
+ * email and per IP; a call must pass every limit and is counted against each.
+ * <p>
+ * Refused calls get 429 with {@code Retry-After}; every call gets {@code RateLimit-*} headers for its tightest limit.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    /**
+     * Policy name. Keys and metrics are grouped under it, so two endpoints sharing a name share their counts.
+     */
+    String name();
+
+    RateLimitKey key();
+
+    /**
+     * SpEL expression over the method's parameters giving the email, for {@link RateLimitKey#EMAIL} keys.
+     */
+    String email() default "#request.email()";
+
+    int limit();
+
+    /**
+     * ISO-8601 duration, such as {@code PT1H}.
+     */
+    String window();
+
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.SLIDING_WINDOW;
+
+    /**
+     * Enforce the policy only when the store is shared across instances. Set it for quotas the service also counts
+     * durably itself when the store is in memory, so they are not counted twice.
+     */
+    boolean sharedStoreOnly() default false;
+}
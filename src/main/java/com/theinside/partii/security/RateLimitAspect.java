@@ -0,0 +1,137 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.theinside.partii.utils.CustomMessages.TOO_MANY_REQUESTS;
+
+/**
+ * Enforces {@link RateLimit} on controller methods and reports the tightest limit in {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} and {@code RateLimit-Reset} (seconds).
+ * <p>
+ * Runs after request body validation, so email expressions see validated input. Emails are keyed by their HMAC,
+ * so the store never holds addresses. IP keys use the client address Tomcat resolved from {@code X-Forwarded-For}
+ * sent by a trusted proxy ({@code server.forward-headers-strategy: native}), not the proxy's own address.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private static final String LIMIT_HEADER = "RateLimit-Limit";
+    private static final String REMAINING_HEADER = "RateLimit-Remaining";
+    private static final String RESET_HEADER = "RateLimit-Reset";
+    private static final String EMAIL_SCOPE = "rate-limit";
+
+    private final RateLimiter rateLimiter;
+    private final TokenHasher tokenHasher;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.theinside.partii.security.RateLimit) "
+            + "|| @annotation(com.theinside.partii.security.RateLimits)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        RateLimitDecision tightest = null;
+        for (RateLimit policy : method.getAnnotationsByType(RateLimit.class)) {
+            if (!rateLimiter.applies(policy)) {
+                continue;
+            }
+            String key = key(policy, joinPoint, method, attributes.getRequest());
+            if (key == null) {
+                continue;
+            }
+            RateLimitDecision decision = rateLimiter.acquire(policy, key);
+            if (tightest == null || isTighter(decision, tightest)) {
+                tightest = decision;
+            }
+        }
+        if (tightest == null) {
+            return joinPoint.proceed();
+        }
+
+        writeHeaders(attributes.getResponse(), tightest);
+        if (!tightest.allowed()) {
+            throw new TooManyRequestsException(TOO_MANY_REQUESTS, tightest.retryAfter());
+        }
+        return joinPoint.proceed();
+    }
+
+    // ===== Helper methods =====
+
+    /**
+     * The key to count the request under, or null when the request carries none (such as a missing email, which
+     * validation rejects anyway).
+     */
+    private String key(RateLimit policy, ProceedingJoinPoint joinPoint, Method method, HttpServletRequest request) {
+        return switch (policy.key()) {
+            case IP -> "ip:" + request.getRemoteAddr();
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                yield authentication != null && authentication.getPrincipal() instanceof SecurityUser user
+                        ? "user:" + user.getUserId()
+                        : "ip:" + request.getRemoteAddr();
+            }
+            case EMAIL -> {
+                Object email = expressions.computeIfAbsent(policy.email(), parser::parseExpression)
+                        .getValue(new MethodBasedEvaluationContext(null, method, joinPoint.getArgs(), parameterNames));
+                yield email == null || email.toString().isBlank()
+                        ? null
+                        : "email:" + tokenHasher.hash(EMAIL_SCOPE, email.toString().trim().toLowerCase(Locale.ROOT));
+            }
+        };
+    }
+
+    /**
+     * A refusal beats an allowance; among refusals the longer wait wins, among allowances the fewer remaining.
+     */
+    private static boolean isTighter(RateLimitDecision decision, RateLimitDecision than) {
+        if (decision.allowed() != than.allowed()) {
+            return !decision.allowed();
+        }
+        return decision.allowed()
+                ? decision.remaining() < than.remaining()
+                : decision.retryAfter().compareTo(than.retryAfter()) > 0;
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        if (response == null) {
+            return;
+        }
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Integer.toString(decision.remaining()));
+        response.setHeader(RESET_HEADER, Long.toString(ceilSeconds(decision.reset().toMillis())));
+    }
+
+    private static long ceilSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,13 @@
+package com.theinside.partii.security;
+
+import java.time.Duration;
+
+/**
+ * Outcome of counting one request against a limit.
+ *
+ * @param remaining  requests still allowed right now
+ * @param reset      until the limit is fully available again
+ * @param retryAfter until the next request would be allowed; zero when this one was
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining, Duration reset, Duration retryAfter) {
+}
@@ -0,0 +1,27 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.enums.RateLimitAlgorithm;
+
+import java.time.Duration;
+
+/**
+ * Where rate limit counters live, chosen by {@code partii.rate-limit.store}: {@code memory} (the default) counts on
+ * this instance only, {@code redis} counts across all instances.
+ * <p>
+ * The in-memory counts reset on restart, so with that store the quotas that guard sending email are counted in the
+ * token tables instead; with Redis they are ordinary {@link RateLimit} policies.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Counts one request against the key if the limit allows it.
+     */
+    RateLimitDecision acquire(String key, RateLimitAlgorithm algorithm, int limit, Duration window);
+
+    /**
+     * Whether every instance sees the same counts, and they survive restarts.
+     */
+    default boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package com.theinside.partii.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests against {@link RateLimit} policies in the configured {@link RateLimitStore} and keeps per-policy
+ * totals of allowed and refused requests.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private final RateLimitStore rateLimitStore;
+
+    private final Map<String, Counts> counts = new ConcurrentHashMap<>();
+    private final Map<String, Duration> windows = new ConcurrentHashMap<>();
+
+    private record Counts(LongAdder allowed, LongAdder limited) {
+    }
+
+    public record PolicyStats(long allowed, long limited) {
+    }
+
+    /**
+     * Counts one request for the key under the policy, if the policy has room for it.
+     *
+     * @param key what the request is counted per, already qualified by its kind (such as {@code ip:10.0.0.1})
+     */
+    public RateLimitDecision acquire(RateLimit policy, String key) {
+        Duration window = windows.computeIfAbsent(policy.window(), Duration::parse);
+        RateLimitDecision decision = rateLimitStore.acquire(policy.name() + ":" + key, policy.algorithm(),
+                policy.limit(), window);
+
+        Counts policyCounts = counts.computeIfAbsent(policy.name(), name -> new Counts(new LongAdder(), new LongAdder()));
+        if (decision.allowed()) {
+            policyCounts.allowed().increment();
+        } else {
+            policyCounts.limited().increment();
+            log.warn("Rate limit {} exceeded for {}", policy.name(), key);
+        }
+        return decision;
+    }
+
+    /**
+     * Whether the policy applies with the configured store; see {@link RateLimit#sharedStoreOnly()}.
+     */
+    public boolean applies(RateLimit policy) {
+        return !policy.sharedStoreOnly() || rateLimitStore.isShared();
+    }
+
+    /**
+     * Allowed and refused requests per policy since startup, on this instance.
+     */
+    public Map<String, PolicyStats> stats() {
+        Map<String, PolicyStats> stats = new TreeMap<>();
+        counts.forEach((name, policyCounts) ->
+                stats.put(name, new PolicyStats(policyCounts.allowed().sum(), policyCounts.limited().sum())));
+        return stats;
+    }
+}
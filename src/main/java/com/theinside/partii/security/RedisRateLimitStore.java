@@ -0,0 +1,110 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.enums.RateLimitAlgorithm;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate limit counters in Redis, shared by all instances. Each check is one script call that reads, decides and
+ * updates the counter atomically, timed by the Redis clock so instances with drifting clocks still agree.
+ * <p>
+ * The arithmetic is the same as {@link InMemoryRateLimitStore}'s. Each counter is a hash that expires once it no
+ * longer affects any decision.
+ */
+@Component
+@ConditionalOnProperty(name = "partii.rate-limit.store", havingValue = "redis")
+@RequiredArgsConstructor
+@SuppressWarnings("rawtypes")
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final String KEY = "rate-limit:";
+
+    private static final String NOW = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local limit = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            """;
+
+    /**
+     * Returns {allowed, remaining, reset millis, retry-after millis}.
+     */
+    private static final RedisScript<List> SLIDING_WINDOW = RedisScript.of(NOW + """
+            local index = math.floor(now / window)
+            local offset = now % window
+            local state = redis.call('HMGET', KEYS[1], 'index', 'current', 'previous')
+            local stored = tonumber(state[1])
+            local current, previous = 0, 0
+            if stored == index then
+              current, previous = tonumber(state[2]), tonumber(state[3])
+            elseif stored == index - 1 then
+              previous = tonumber(state[2])
+            end
+            local estimate = previous * (1 - offset / window) + current
+            local allowed = estimate + 1 <= limit
+            local retry = 0
+            if allowed then
+              current, estimate = current + 1, estimate + 1
+            elseif current < limit then
+              retry = math.max(1, math.ceil(window * (previous - (limit - 1 - current)) / previous) - offset)
+            else
+              retry = window - offset + math.ceil(window * (current - (limit - 1)) / current)
+            end
+            local reset = (current > 0 and 2 * window or window) - offset
+            redis.call('HSET', KEYS[1], 'index', index, 'current', current, 'previous', previous)
+            redis.call('PEXPIRE', KEYS[1], reset)
+            return {allowed and 1 or 0, math.max(0, math.floor(limit - estimate)), reset, retry}
+            """, List.class);
+
+    /**
+     * Returns {allowed, remaining, reset millis, retry-after millis}.
+     */
+    private static final RedisScript<List> TOKEN_BUCKET = RedisScript.of(NOW + """
+            local perMilli = limit / window
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'updated')
+            local tokens = limit
+            if state[1] then
+              tokens = math.min(limit, tonumber(state[1]) + (now - tonumber(state[2])) * perMilli)
+            end
+            local allowed = tokens >= 1
+            local retry = 0
+            if allowed then
+              tokens = tokens - 1
+            else
+              retry = math.max(1, math.ceil((1 - tokens) / perMilli))
+            end
+            local reset = math.ceil((limit - tokens) / perMilli)
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'updated', now)
+            redis.call('PEXPIRE', KEYS[1], math.max(1, reset))
+            return {allowed and 1 or 0, math.floor(tokens), reset, retry}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public RateLimitDecision acquire(String key, RateLimitAlgorithm algorithm, int limit, Duration window) {
+        RedisScript<List> script = switch (algorithm) {
+            case SLIDING_WINDOW -> SLIDING_WINDOW;
+            case TOKEN_BUCKET -> TOKEN_BUCKET;
+        };
+        List<?> result = redisTemplate.execute(script, List.of(KEY + key),
+                Integer.toString(limit), Long.toString(window.toMillis()));
+        return new RateLimitDecision(
+                ((Number) result.get(0)).longValue() == 1,
+                limit,
+                ((Number) result.get(1)).intValue(),
+                Duration.ofMillis(((Number) result.get(2)).longValue()),
+                Duration.ofMillis(((Number) result.get(3)).longValue()));
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+}
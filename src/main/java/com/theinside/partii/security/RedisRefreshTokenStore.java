@@ -0,0 +1,135 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Refresh tokens in Redis, so refreshing is a single hash read and no cleanup job is needed.
+ * <p>
+ * Each token is a hash that expires with the token. A set per family holds its tokens and a set per user holds
+ * their families, so revoking a family or a user touches only their own tokens. The sets expire with the newest
+ * token added to them; tokens are issued with a fixed lifetime, so that is never earlier than any other member.
+ */
+@Component
+@ConditionalOnProperty(name = "partii.refresh-tokens.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY = "refresh-token:";
+    private static final String FAMILY_KEY = "refresh-family:";
+    private static final String USER_KEY = "refresh-user:";
+
+    /**
+     * Marks the given token hashes revoked, skipping any that already expired so they are not recreated
+     * without a TTL.
+     */
+    private static final RedisScript<Long> REVOKE = RedisScript.of("""
+            local revoked = 0
+            for _, key in ipairs(KEYS) do
+              if redis.call('EXISTS', key) == 1 then
+                redis.call('HSET', key, 'revoked', '1')
+                revoked = revoked + 1
+              end
+            end
+            return revoked
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(RefreshToken token) {
+        long ttlSeconds = Math.max(1, Duration.between(Instant.now(), token.getExpiresAt()).toSeconds());
+        String tokenKey = TOKEN_KEY + token.getToken();
+        String familyKey = FAMILY_KEY + token.getFamilyId();
+        String userKey = USER_KEY + token.getUserId();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hMSet(tokenKey, Map.of(
+                    "userId", token.getUserId().toString(),
+                    "familyId", token.getFamilyId().toString(),
+                    "issuedAt", Long.toString(token.getIssuedAt().toEpochMilli()),
+                    "expiresAt", Long.toString(token.getExpiresAt().toEpochMilli()),
+                    "revoked", token.isRevoked() ? "1" : "0"));
+            redis.expire(tokenKey, ttlSeconds);
+            redis.sAdd(familyKey, token.getToken().toString());
+            redis.expire(familyKey, ttlSeconds);
+            redis.sAdd(userKey, token.getFamilyId().toString());
+            redis.expire(userKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(UUID token) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(TOKEN_KEY + token);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(RefreshToken.builder()
+                .token(token)
+                .userId(Long.valueOf((String) fields.get("userId")))
+                .familyId(UUID.fromString((String) fields.get("familyId")))
+                .issuedAt(Instant.ofEpochMilli(Long.parseLong((String) fields.get("issuedAt"))))
+                .expiresAt(Instant.ofEpochMilli(Long.parseLong((String) fields.get("expiresAt"))))
+                .revoked("1".equals(fields.get("revoked")))
+                .build());
+    }
+
+    @Override
+    public void revoke(RefreshToken token) {
+        token.setRevoked(true);
+        redisTemplate.execute(REVOKE, List.of(TOKEN_KEY + token.getToken()));
+    }
+
+    @Override
+    public void revokeFamily(UUID familyId) {
+        revokeTokens(familyTokenKeys(familyId.toString()));
+    }
+
+    @Override
+    public void revokeUser(Long userId) {
+        Set<String> families = redisTemplate.opsForSet().members(USER_KEY + userId);
+        if (families == null) {
+            return;
+        }
+        List<String> tokenKeys = new ArrayList<>();
+        for (String familyId : families) {
+            tokenKeys.addAll(familyTokenKeys(familyId));
+        }
+        revokeTokens(tokenKeys);
+    }
+
+    @Override
+    public void purge() {
+        // Token hashes and their sets expire on their own
+    }
+
+    // ===== Helper methods =====
+
+    private List<String> familyTokenKeys(String familyId) {
+        Set<String> tokens = redisTemplate.opsForSet().members(FAMILY_KEY + familyId);
+        return tokens == null ? List.of() : tokens.stream().map(token -> TOKEN_KEY + token).toList();
+    }
+
+    private void revokeTokens(List<String> tokenKeys) {
+        if (!tokenKeys.isEmpty()) {
+            redisTemplate.execute(REVOKE, tokenKeys);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.theinside.partii.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Pushes revocations to every instance over a Redis channel, so a revoked token stops working everywhere as soon
+ * as the revocation commits rather than on the next sync. Messages are {@code userId:epoch}; applying one twice or
+ * out of order is harmless because epochs only move forward.
+ */
+@Component
+@ConditionalOnProperty(name = "partii.token-epoch.notify", havingValue = "redis")
+@Slf4j
+public class RedisTokenEpochNotifier implements TokenEpochNotifier {
+
+    private static final String CHANNEL = "token-epochs";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+
+    public RedisTokenEpochNotifier(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        container.setConnectionFactory(connectionFactory);
+    }
+
+    @Override
+    public void publish(Long userId, long epoch) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId + ":" + epoch);
+        } catch (RuntimeException e) {
+            // The revocation is committed; other instances still see it on their next sync
+            log.warn("Could not publish token epoch {} for user {}", epoch, userId, e);
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<Long, Long> onRevoked) {
+        container.addMessageListener((message, pattern) -> {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+            onRevoked.accept(Long.valueOf(parts[0]), Long.valueOf(parts[1]));
+        }, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        container.destroy();
+    }
+}
@@ -0,0 +1,93 @@
+package com.theinside.partii.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collapses refreshes that present the same refresh token. The first caller rotates it; callers arriving while it
+ * runs, or within {@code partii.refresh-tokens.reuse-grace} of it starting, get the same new pair instead of
+ * tripping reuse detection and revoking the family. Mobile clients firing several requests on wake are the usual
+ * source of such bursts.
+ * <p>
+ * A shared pair is handed out only while its new refresh token is still live, so a family revoked by logout or
+ * reuse detection (on any instance) stops being served from here at once.
+ * <p>
+ * Only refreshes on this instance are collapsed; a replay reaching another instance is still treated as reuse.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshSingleFlight {
+
+    private final TokenManager tokenManager;
+
+    @Value("${partii.refresh-tokens.reuse-grace:PT10S}")
+    private Duration reuseGrace;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private record Flight(CompletableFuture<RefreshedTokens> result, Instant startedAt) {
+    }
+
+    /**
+     * Call outside a transaction: the rotation then commits before any caller gets its result, so nobody is
+     * handed a refresh token the store does not have yet.
+     */
+    public RefreshedTokens refresh(String refreshToken) {
+        Instant now = Instant.now();
+        Flight mine = new Flight(new CompletableFuture<>(), now);
+        Flight flight = flights.compute(refreshToken,
+                (token, existing) -> existing != null && !isStale(existing, now) ? existing : mine);
+        if (flight != mine) {
+            RefreshedTokens shared = await(flight);
+            if (!tokenManager.isRefreshTokenRevoked(shared.tokens().getRefreshToken())) {
+                return shared;
+            }
+            // Revoked since: judge the presented token afresh, which reports it as reused
+            flights.remove(refreshToken, flight);
+            return refresh(refreshToken);
+        }
+
+        try {
+            RefreshedTokens refreshed = tokenManager.refreshAccessToken(refreshToken);
+            mine.result().complete(refreshed);
+            return refreshed;
+        } catch (RuntimeException e) {
+            // Failures are not remembered, so a retry is judged afresh
+            flights.remove(refreshToken, mine);
+            mine.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${partii.refresh-tokens.reuse-grace:PT10S}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        flights.values().removeIf(flight -> isStale(flight, now));
+    }
+
+    // ===== Helper methods =====
+
+    private boolean isStale(Flight flight, Instant now) {
+        return flight.result().isDone() && flight.startedAt().plus(reuseGrace).isBefore(now);
+    }
+
+    private static RefreshedTokens await(Flight flight) {
+        try {
+            return flight.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
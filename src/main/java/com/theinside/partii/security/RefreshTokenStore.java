@@ -0,0 +1,39 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.RefreshToken;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Where refresh tokens live, chosen by {@code partii.refresh-tokens.store}: {@code jpa} (the default) keeps them
+ * in the indexed {@code refresh_tokens} table, {@code redis} in Redis with per-family and per-user sets.
+ * <p>
+ * Revoked tokens stay findable until they expire, so replaying one is recognised as reuse.
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshToken token);
+
+    Optional<RefreshToken> findByToken(UUID token);
+
+    /**
+     * Marks a single token used, when it is rotated.
+     */
+    void revoke(RefreshToken token);
+
+    /**
+     * Revokes all tokens in a token family (used for token reuse detection and logout).
+     */
+    void revokeFamily(UUID familyId);
+
+    /**
+     * Revokes all tokens for a user (used on password change/logout all).
+     */
+    void revokeUser(Long userId);
+
+    /**
+     * Deletes revoked and expired tokens. Stores that expire entries on their own have nothing to do.
+     */
+    void purge();
+}
@@ -0,0 +1,10 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.AuthToken;
+import com.theinside.partii.entity.User;
+
+/**
+ * A rotated token pair together with the account it was issued to.
+ */
+public record RefreshedTokens(User user, AuthToken tokens) {
+}
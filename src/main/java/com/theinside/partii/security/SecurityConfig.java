@@ -1,6 +1,6 @@
 package com.theinside.partii.security;
 
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
@@ -18,7 +18,9 @@ import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,6 +28,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -39,9 +42,28 @@ public class SecurityConfig {
         this.keyManager = keyManager;
     }
 
+    /**
+     * Hashes new passwords with {@code partii.password-hashing.algorithm} and checks hashes of any supported
+     * algorithm. Hashes stored before algorithms were prefixed are BCrypt. Hashes made with another algorithm or a
+     * lower cost are upgraded on the next successful login; see {@link PasswordHashing}.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(@Value("${partii.password-hashing.algorithm:bcrypt}") String algorithm,
+                                           @Value("${partii.password-hashing.bcrypt-strength:12}") int bcryptStrength) {
+        return delegatingPasswordEncoder(algorithm, bcryptStrength);
+    }
+
+    static DelegatingPasswordEncoder delegatingPasswordEncoder(String algorithm, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unsupported partii.password-hashing.algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -56,6 +78,8 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/partii/api/v1/auth/**",
                                 "/.well-known/jwks.json",
+                                // STOMP sessions authenticate on CONNECT; browsers cannot send headers on the handshake
+                                "/partii/ws",
                                 "/error"
                         ).permitAll()
                         .requestMatchers("/partii/api/v1/admin/**").hasRole("ADMIN")
@@ -140,27 +164,23 @@ public class SecurityConfig {
 
 
     /**
-     * JWT Encoder that builds a fresh NimbusJwtEncoder on every encode() call.
-     * This allows key rotation to take effect immediately without restarting.
+     * JWT Encoder that signs with the key ring's current key.
+     * The ring caches its encoder and swaps it on rotation, so rotation takes effect without restarting.
      */
     @Bean
     JwtEncoder jwtEncoder() {
-        return params -> {
-            var jwkSource = new ImmutableJWKSet<>(keyManager.getJWKSet());
-            return new NimbusJwtEncoder(jwkSource).encode(params);
-        };
+        return keyManager::encode;
     }
 
     /**
-     * JWT Decoder that builds a fresh NimbusJwtDecoder on every decode() call.
-     * This allows key rotation to take effect immediately without restarting.
+     * JWT Decoder that verifies with whichever ring key the token names, using the ring's cached decoders.
+     * Tokens signed before a rotation stay valid while their key is still in the ring.
      */
     @Bean
     JwtDecoder jwtDecoder() {
         return token -> {
             try {
-                var decoder = NimbusJwtDecoder.withPublicKey(keyManager.getPublicKey()).build();
-                return decoder.decode(token);
+                return keyManager.decode(token);
             } catch (JwtException e) {
                 throw e;
             } catch (Exception e) {
@@ -5,20 +5,62 @@ import lombok.Builder;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * The authenticated user. Built from the account on login and from access token claims on every other request,
+ * so authenticating a request does not load the user.
+ */
 @Builder
-public record SecurityUser(User user) implements UserDetails {
+public record SecurityUser(
+    Long userId,
+    String email,
+    String password,
+    boolean admin,
+    boolean verified,
+    boolean enabled,
+    boolean profileCompleted
+) implements UserDetails {
+
+    public SecurityUser(User user) {
+        this(user.getId(), user.getEmail(), user.getPassword(), user.isAdmin(), user.isVerified(),
+            user.isEnabled(), user.isProfileCompleted());
+    }
+
+    /**
+     * The user an access token was issued to, as of when it was issued.
+     *
+     * @throws BadJwtException if the token lacks the claims {@link TokenManager} issues
+     */
+    public static SecurityUser fromToken(Jwt jwt) {
+        Object userId = jwt.getClaim(TokenManager.CLAIM_USER_ID);
+        List<String> roles = jwt.getClaimAsStringList(TokenManager.CLAIM_ROLES);
+        Boolean enabled = jwt.getClaimAsBoolean(TokenManager.CLAIM_ENABLED);
+        if (!(userId instanceof Number id) || roles == null || enabled == null) {
+            throw new BadJwtException("Token is missing user claims");
+        }
+        return new SecurityUser(
+            id.longValue(),
+            jwt.getSubject(),
+            null,
+            roles.contains(TokenManager.ROLE_ADMIN),
+            true, // tokens are only issued to accounts that could sign in
+            enabled,
+            Boolean.TRUE.equals(jwt.getClaimAsBoolean(TokenManager.CLAIM_PROFILE_COMPLETED))
+        );
+    }
 
     public Long getUserId() {
-        return user.getId();
+        return userId;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        if (user.isAdmin()) {
+        if (admin) {
             return List.of(
                 new SimpleGrantedAuthority("ROLE_USER"),
                 new SimpleGrantedAuthority("ROLE_ADMIN")
@@ -29,12 +71,12 @@ public record SecurityUser(User user) implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -44,7 +86,7 @@ public record SecurityUser(User user) implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.isVerified();
+        return verified;
     }
 
     @Override
@@ -54,6 +96,6 @@ public record SecurityUser(User user) implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.isEnabled();
+        return enabled;
     }
 }
@@ -0,0 +1,224 @@
+package com.theinside.partii.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.theinside.partii.entity.SigningKey;
+import com.theinside.partii.enums.SigningAlgorithm;
+import com.theinside.partii.enums.SigningKeyStatus;
+import com.theinside.partii.repository.SchedulerLeaseRepository;
+import com.theinside.partii.repository.SigningKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The JWT key ring shared by every node, persisted in {@code signing_keys}.
+ * <p>
+ * One node at a time holds the rotation lease and maintains the ring: there is always an active key and a next key
+ * generated one rotation interval ahead of its activation, and the newest {@code rsa.previous-keys} retired keys
+ * are kept for verification. Every other node only reads.
+ * <p>
+ * New keys use {@code partii.key-ring.signing-algorithm}. Changing it migrates through ordinary rotations: the
+ * next key generated uses the new algorithm, and keys of the old one keep verifying until they are pruned.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class SigningKeyStore {
+
+    static final String ROTATION_LEASE = "jwt-key-rotation";
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final SchedulerLeaseRepository leaseRepository;
+    private final KeyEncryptor keyEncryptor;
+
+    @Value("${rsa.key-rotation-interval:3600}")
+    private long keyRotationInterval;
+
+    /**
+     * How many retired keys still verify; the rotation interval times this should exceed the access token lifetime.
+     */
+    @Value("${rsa.previous-keys:2}")
+    private int previousKeys;
+
+    @Value("${partii.key-ring.signing-algorithm:RS256}")
+    private SigningAlgorithm signingAlgorithm;
+
+    /**
+     * Maintains the ring if this node holds, or can take, the rotation lease.
+     *
+     * @param bootstrapKey an RS256 key to start an empty ring with, or null to generate one
+     * @param propagation  how long every node needs to pick up a change; a next key never activates sooner
+     * @return whether this node is the leader
+     */
+    public boolean maintain(String nodeId, Duration leaseDuration, Duration propagation, RSAKey bootstrapKey) {
+        Instant now = Instant.now();
+        if (!leaseRepository.tryAcquire(ROTATION_LEASE, nodeId, now, now.plus(leaseDuration))) {
+            return false;
+        }
+
+        SigningKey active = signingKeyRepository.findFirstByStatus(SigningKeyStatus.ACTIVE).orElse(null);
+        if (active == null) {
+            active = signingKeyRepository.save(bootstrapKey != null
+                ? toEntity(bootstrapKey, SigningAlgorithm.RS256, SigningKeyStatus.ACTIVE, now)
+                : toEntity(generateKey(signingAlgorithm), signingAlgorithm, SigningKeyStatus.ACTIVE, now));
+            active.setActivatedAt(now);
+            log.info("Started JWT key ring with key {}", active.getKid());
+        }
+
+        SigningKey next = signingKeyRepository.findFirstByStatus(SigningKeyStatus.NEXT).orElse(null);
+        if (next != null && !next.getActivatesAt().isAfter(now)) {
+            active.setStatus(SigningKeyStatus.RETIRED);
+            active.setRetiredAt(now);
+            // The old key leaves ACTIVE before the next one takes its place
+            signingKeyRepository.saveAndFlush(active);
+            next.setStatus(SigningKeyStatus.ACTIVE);
+            next.setActivatedAt(now);
+            log.info("Rotated JWT signing key from {} to {}", active.getKid(), next.getKid());
+            active = next;
+            next = null;
+            pruneRetired();
+        }
+
+        if (next == null) {
+            Instant due = active.getActivatedAt().plusSeconds(keyRotationInterval);
+            Instant earliest = now.plus(propagation);
+            next = toEntity(generateKey(signingAlgorithm), signingAlgorithm, SigningKeyStatus.NEXT, now);
+            next.setActivatesAt(due.isAfter(earliest) ? due : earliest);
+            signingKeyRepository.save(next);
+            log.info("Generated next {} JWT signing key {}, active from {}", signingAlgorithm, next.getKid(),
+                next.getActivatesAt());
+        }
+        return true;
+    }
+
+    /**
+     * Brings the next key's activation forward to the given time, if it was due later.
+     */
+    public void expediteRotation(Instant activatesAt) {
+        signingKeyRepository.findFirstByStatus(SigningKeyStatus.NEXT)
+            .filter(next -> next.getActivatesAt().isAfter(activatesAt))
+            .ifPresent(next -> next.setActivatesAt(activatesAt));
+    }
+
+    /**
+     * Identifies the ring's current shape without reading key material; changes whenever a key is added,
+     * promoted or dropped.
+     */
+    @Transactional(readOnly = true)
+    public String fingerprint() {
+        return signingKeyRepository.findKeyStates().stream()
+            .map(state -> state.getKid() + ":" + state.getStatus())
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Every key in the ring with its private key decrypted and its algorithm set: the active key first,
+     * then the next key, then retired keys newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<JWK> loadRing() {
+        List<SigningKey> keys = new ArrayList<>(signingKeyRepository.findAll());
+        keys.sort(Comparator.comparing((SigningKey key) -> switch (key.getStatus()) {
+                case ACTIVE -> 0;
+                case NEXT -> 1;
+                case RETIRED -> 2;
+            })
+            .thenComparing(SigningKey::getRetiredAt, Comparator.nullsFirst(Comparator.reverseOrder())));
+        return keys.stream().map(this::toJwk).toList();
+    }
+
+    // ===== Helper methods =====
+
+    private void pruneRetired() {
+        List<SigningKey> retired = signingKeyRepository.findByStatusOrderByRetiredAtDesc(SigningKeyStatus.RETIRED);
+        if (retired.size() > previousKeys) {
+            List<SigningKey> dropped = retired.subList(previousKeys, retired.size());
+            signingKeyRepository.deleteAll(dropped);
+            log.info("Dropped {} retired JWT signing keys", dropped.size());
+        }
+    }
+
+    private SigningKey toEntity(JWK key, SigningAlgorithm algorithm, SigningKeyStatus status, Instant now) {
+        try {
+            AsymmetricJWK keyPair = (AsymmetricJWK) key;
+            return SigningKey.builder()
+                .kid(key.getKeyID())
+                .algorithm(algorithm)
+                .status(status)
+                .publicKey(Base64.getEncoder().encodeToString(keyPair.toPublicKey().getEncoded()))
+                .encryptedPrivateKey(keyEncryptor.encrypt(key.getKeyID(), keyPair.toPrivateKey().getEncoded()))
+                .createdAt(now)
+                .activatedAt(status == SigningKeyStatus.ACTIVE ? now : null)
+                .build();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Unusable signing key " + key.getKeyID(), e);
+        }
+    }
+
+    private JWK toJwk(SigningKey key) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(key.getAlgorithm() == SigningAlgorithm.ES256 ? "EC" : "RSA");
+            PublicKey publicKey = keyFactory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+            PrivateKey privateKey = keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(keyEncryptor.decrypt(key.getKid(), key.getEncryptedPrivateKey())));
+            JWSAlgorithm algorithm = JWSAlgorithm.parse(key.getAlgorithm().name());
+            return switch (key.getAlgorithm()) {
+                case RS256 -> new RSAKey.Builder((RSAPublicKey) publicKey)
+                    .privateKey((RSAPrivateKey) privateKey)
+                    .keyID(key.getKid())
+                    .algorithm(algorithm)
+                    .build();
+                case ES256 -> new ECKey.Builder(Curve.P_256, (ECPublicKey) publicKey)
+                    .privateKey((ECPrivateKey) privateKey)
+                    .keyID(key.getKid())
+                    .algorithm(algorithm)
+                    .build();
+            };
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Stored signing key " + key.getKid() + " is unreadable", e);
+        }
+    }
+
+    private static JWK generateKey(SigningAlgorithm algorithm) {
+        try {
+            String kid = UUID.randomUUID().toString();
+            return switch (algorithm) {
+                case RS256 -> new RSAKeyGenerator(2048).keyID(kid).generate();
+                case ES256 -> new ECKeyGenerator(Curve.P_256).keyID(kid).generate();
+            };
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Key generation failed", e);
+        }
+    }
+}
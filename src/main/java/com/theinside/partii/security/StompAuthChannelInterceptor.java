@@ -0,0 +1,122 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.service.access.EventAccessResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Authenticates STOMP sessions and authorizes board subscriptions.
+ * <p>
+ * Browsers cannot set headers on the WebSocket handshake, so the bearer token is sent
+ * in the CONNECT frame's Authorization header instead. Only an event's organizer and
+ * approved attendees may subscribe to its board topic, and clients may not send.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final Pattern BOARD_TOPIC = Pattern.compile("^/topic/events/(\\d+)/contributions$");
+
+    private final JwtDecoder jwtDecoder;
+    private final TokenEpochs tokenEpochs;
+    private final EventAccessResolver accessResolver;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> authenticate(accessor);
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            case SEND -> throw new AccessDeniedException("Clients cannot send messages");
+            default -> { }
+        }
+        return message;
+    }
+
+    // ===== Helper methods =====
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            if (accessor.getUser() != null) {
+                return; // authenticated during the HTTP handshake
+            }
+            throw new AccessDeniedException("Authentication required");
+        }
+
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(authHeader.substring(BEARER_PREFIX.length()));
+        } catch (JwtException e) {
+            log.debug("STOMP JWT validation failed: {}", e.getMessage());
+            throw new AccessDeniedException("Invalid token");
+        }
+
+        SecurityUser securityUser;
+        try {
+            securityUser = SecurityUser.fromToken(jwt);
+        } catch (JwtException e) {
+            throw new AccessDeniedException("Invalid token");
+        }
+        if (!securityUser.isEnabled() || !tokenEpochs.isCurrent(jwt, securityUser.getUserId())) {
+            throw new AccessDeniedException("Invalid token");
+        }
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities()));
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        Matcher matcher = destination != null ? BOARD_TOPIC.matcher(destination) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new AccessDeniedException("Unknown destination");
+        }
+
+        Long eventId = Long.valueOf(matcher.group(1));
+        Long userId = userId(accessor.getUser());
+        if (userId == null || !canViewBoard(eventId, userId)) {
+            throw new AccessDeniedException("Not allowed to view this board");
+        }
+    }
+
+    private boolean canViewBoard(Long eventId, Long userId) {
+        try {
+            return accessResolver.resolve(eventId, userId).isParticipant();
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static Long userId(Principal principal) {
+        if (principal instanceof UsernamePasswordAuthenticationToken token
+                && token.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getUserId();
+        }
+        return null;
+    }
+}
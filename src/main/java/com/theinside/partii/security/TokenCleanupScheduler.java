@@ -2,7 +2,6 @@ package com.theinside.partii.security;
 
 import com.theinside.partii.repository.EmailVerificationTokenRepository;
 import com.theinside.partii.repository.PasswordResetTokenRepository;
-import com.theinside.partii.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,12 +19,12 @@ import java.time.Instant;
 @RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
 
     /**
-     * Deletes expired and revoked refresh tokens daily at 2 AM
+     * Deletes expired and revoked refresh tokens daily at 2 AM; a no-op with the Redis refresh token store
      */
     @Scheduled(cron = "0 0 2 * * *")
     @Transactional
@@ -35,7 +34,7 @@ public class TokenCleanupScheduler {
         log.info("Starting cleanup of expired tokens");
         try {
             // Clean up refresh tokens
-            refreshTokenRepository.deleteRevokedAndExpiredTokens();
+            refreshTokenStore.purge();
             log.info("Successfully cleaned up expired refresh tokens");
             
             // Clean up email verification tokens
@@ -0,0 +1,23 @@
+package com.theinside.partii.security;
+
+import java.util.function.BiConsumer;
+
+/**
+ * How token epoch revocations reach other instances, chosen by {@code partii.token-epoch.notify}: {@code poll}
+ * (the default) leaves them to each instance's periodic sync, {@code redis} also pushes them over pub/sub as they
+ * commit.
+ * <p>
+ * The sync keeps running either way, so a revocation missed while an instance was disconnected still arrives.
+ */
+public interface TokenEpochNotifier {
+
+    /**
+     * Tells other instances the user's tokens are now at the given epoch. Called after the revocation commits.
+     */
+    void publish(Long userId, long epoch);
+
+    /**
+     * Registers the callback that applies revocations published by other instances.
+     */
+    void subscribe(BiConsumer<Long, Long> onRevoked);
+}
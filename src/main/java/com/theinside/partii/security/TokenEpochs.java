@@ -0,0 +1,110 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.User;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.repository.UserRepository.TokenEpochRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current token epoch of every user whose access tokens were ever revoked, so request authentication
+ * can reject revoked tokens without a query.
+ * <p>
+ * Users missing from the map are at epoch zero. Revocations made here apply once their transaction commits and
+ * are handed to the {@link TokenEpochNotifier}; with {@code partii.token-epoch.notify=redis} other instances apply
+ * them as they arrive. Every instance also syncs from the database each {@code partii.token-epoch.sync-interval},
+ * which bounds how long a revoked token keeps working elsewhere when nothing is pushed, or a push is missed.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TokenEpochs {
+
+    private final UserRepository userRepository;
+    private final TokenEpochNotifier notifier;
+
+    /**
+     * Reach back this far on each sync, so clock skew between instances cannot hide a revocation.
+     */
+    @Value("${partii.token-epoch.sync-overlap:PT1M}")
+    private Duration syncOverlap;
+
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    private volatile Instant syncedUpTo = Instant.EPOCH;
+
+    @PostConstruct
+    public void init() {
+        notifier.subscribe(this::apply);
+        sync();
+        log.info("Loaded token epochs for {} users", epochs.size());
+    }
+
+    /**
+     * Whether a token issued under the given epoch is still valid for the user.
+     */
+    public boolean isCurrent(Long userId, long epoch) {
+        return epoch >= epochs.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Whether the token's epoch claim is still current for the user it was issued to; tokens without one are not.
+     */
+    public boolean isCurrent(Jwt jwt, Long userId) {
+        Object epoch = jwt.getClaim(TokenManager.CLAIM_TOKEN_EPOCH);
+        return epoch instanceof Number issuedUnder && isCurrent(userId, issuedUnder.longValue());
+    }
+
+    /**
+     * Revokes every access token the user holds. The caller saves the user in its transaction.
+     */
+    public void revoke(User user) {
+        long next = user.getTokenEpoch() + 1;
+        user.setTokenEpoch(next);
+        afterCommit(() -> {
+            apply(user.getId(), next);
+            notifier.publish(user.getId(), next);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${partii.token-epoch.sync-interval:PT5S}")
+    public void sync() {
+        Instant now = Instant.now();
+        for (TokenEpochRow row : userRepository.findTokenEpochsUpdatedSince(syncedUpTo.minus(syncOverlap))) {
+            apply(row.getUserId(), row.getTokenEpoch());
+        }
+        syncedUpTo = now;
+    }
+
+    // ===== Helper methods =====
+
+    private void apply(Long userId, long epoch) {
+        epochs.merge(userId, epoch, Math::max);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        // Not before: a rolled-back revocation would otherwise lock the user out of tokens the database still honours
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
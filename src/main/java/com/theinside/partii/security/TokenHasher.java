@@ -0,0 +1,59 @@
+package com.theinside.partii.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Hashes one-time tokens (email OTPs, password reset tokens) with HMAC-SHA256 under {@code partii.token-hashing.pepper}.
+ * <p>
+ * These values are random, short-lived and attempt-limited, so they need no key stretching the way passwords do;
+ * the pepper, which is not stored in the database, is what stops a leaked table from being brute-forced. The hash
+ * is deterministic, so a token can be looked up by it directly.
+ */
+@Component
+public class TokenHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec pepper;
+
+    public TokenHasher(@Value("${partii.token-hashing.pepper}") String encodedPepper) {
+        byte[] raw = Base64.getDecoder().decode(encodedPepper);
+        if (raw.length < 32) {
+            throw new IllegalStateException("partii.token-hashing.pepper must be at least 32 bytes, base64 encoded");
+        }
+        this.pepper = new SecretKeySpec(raw, ALGORITHM);
+    }
+
+    /**
+     * @param scope what the token is bound to, such as the email it was sent to; a token only matches in its scope
+     */
+    public String hash(String scope, String token) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(pepper);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not hash token", e);
+        }
+    }
+
+    /**
+     * Compares in constant time, so response timing reveals nothing about how close a guess was.
+     */
+    public boolean matches(String scope, String token, String hash) {
+        return MessageDigest.isEqual(
+                hash(scope, token).getBytes(StandardCharsets.US_ASCII),
+                hash.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -5,10 +5,8 @@ import com.theinside.partii.entity.RefreshToken;
 import com.theinside.partii.entity.User;
 import com.theinside.partii.exception.NotFoundException;
 import com.theinside.partii.exception.UnauthorizedException;
-import com.theinside.partii.repository.RefreshTokenRepository;
 import com.theinside.partii.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.JwsHeader;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -25,8 +23,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TokenManager {
 
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_ENABLED = "enabled";
+    public static final String CLAIM_PROFILE_COMPLETED = "profileCompleted";
+    public static final String CLAIM_TOKEN_EPOCH = "epoch";
+    public static final String ROLE_USER = "USER";
+    public static final String ROLE_ADMIN = "ADMIN";
+
     private final JwtEncoder jwtEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final KeyManager keyManager;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
 
     @Transactional
@@ -49,8 +56,13 @@ public class TokenManager {
                 .build();
     }
 
+    /**
+     * Rotates the refresh token and issues a new pair, returning the account alongside it so callers need not
+     * look either up again. Callers should go through {@link RefreshSingleFlight}, which collapses parallel
+     * refreshes with the same token.
+     */
     @Transactional
-    public AuthToken refreshAccessToken(String refreshTokenValue) {
+    public RefreshedTokens refreshAccessToken(String refreshTokenValue) {
         UUID tokenId;
         try {
             tokenId = UUID.fromString(refreshTokenValue);
@@ -58,7 +70,7 @@ public class TokenManager {
             throw new UnauthorizedException("Invalid refresh token format");
         }
 
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(tokenId)
+        RefreshToken refreshToken = refreshTokenStore.findByToken(tokenId)
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         if (refreshToken.isRevoked()) {
@@ -75,11 +87,10 @@ public class TokenManager {
                 .orElseThrow(() -> new NotFoundException("Account not found"));
 
         // Rotate the token: mark old one as used (we'll track via family and issue new one with same family)
-        refreshToken.setRevoked(true);
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.revoke(refreshToken);
 
         // Issue new token with rotation (same family for continuity detection)
-        return issueTokenWithFamily(account, refreshToken.getFamilyId());
+        return new RefreshedTokens(account, issueTokenWithFamily(account, refreshToken.getFamilyId()));
     }
 
     /**
@@ -87,7 +98,21 @@ public class TokenManager {
      */
     @Transactional
     public void revokeTokenFamily(UUID familyId) {
-        refreshTokenRepository.revokeByFamilyId(familyId);
+        refreshTokenStore.revokeFamily(familyId);
+    }
+
+    /**
+     * Whether the refresh token can no longer be used: unknown, revoked (alone or with its family) or expired.
+     */
+    @Transactional(readOnly = true)
+    public boolean isRefreshTokenRevoked(String refreshTokenValue) {
+        try {
+            return refreshTokenStore.findByToken(UUID.fromString(refreshTokenValue))
+                    .map(token -> token.isRevoked() || token.getExpiresAt().isBefore(Instant.now()))
+                    .orElse(true);
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
     }
 
     /**
@@ -95,11 +120,11 @@ public class TokenManager {
      */
     @Transactional
     public void revokeAllUserTokens(Long userId) {
-        refreshTokenRepository.revokeByUserId(userId);
+        refreshTokenStore.revokeUser(userId);
     }
 
     private JwsHeader buildJwsHeader() {
-        return JwsHeader.with(SignatureAlgorithm.RS256)
+        return JwsHeader.with(keyManager.getSigningAlgorithm())
                 .header("type", "JWT")
                 .build();
     }
@@ -111,7 +136,12 @@ public class TokenManager {
                 .issuedAt(currentTime)
                 .expiresAt(currentTime.plus(30, ChronoUnit.MINUTES))
                 .claim("email", user.getEmail())
-                .claim("userId", user.getId())
+                .claim(CLAIM_USER_ID, user.getId())
+                // Enough to authenticate a request without loading the user; see SecurityUser.fromToken
+                .claim(CLAIM_ROLES, user.isAdmin() ? List.of(ROLE_USER, ROLE_ADMIN) : List.of(ROLE_USER))
+                .claim(CLAIM_ENABLED, user.isEnabled())
+                .claim(CLAIM_PROFILE_COMPLETED, user.isProfileCompleted())
+                .claim(CLAIM_TOKEN_EPOCH, user.getTokenEpoch())
                 .build();
     }
 
@@ -130,7 +160,7 @@ public class TokenManager {
                 .familyId(familyId)
                 .revoked(false)
                 .build();
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(refreshToken);
         return refreshTokenId.toString();
     }
 
@@ -13,6 +13,9 @@ import com.theinside.partii.exception.ResourceNotFoundException;
 import com.theinside.partii.repository.EventAttendeeRepository;
 import com.theinside.partii.repository.EventRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.security.TokenEpochs;
+import com.theinside.partii.service.access.EventAccessResolver;
+import com.theinside.partii.service.contribution.MyContributionsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +40,9 @@ public class AccountServiceImpl implements AccountService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final EventAttendeeRepository eventAttendeeRepository;
+    private final EventAccessResolver accessResolver;
+    private final MyContributionsCache myContributions;
+    private final TokenEpochs tokenEpochs;
 
     @Value("${partii.account.grace-period-days:30}")
     private int gracePeriodDays;
@@ -64,6 +70,8 @@ public class AccountServiceImpl implements AccountService {
                 event.setStatus(EventStatus.CANCELLED);
                 event.setCancellationReason("Event cancelled due to organizer account deletion");
                 eventRepository.save(event);
+                accessResolver.evictEvent(event.getId());
+                myContributions.evictEvent(event.getId());
                 log.info("Cancelled event {} due to organizer deletion", event.getId());
             }
         }
@@ -80,6 +88,7 @@ public class AccountServiceImpl implements AccountService {
         // Step 3: Schedule deletion after grace period
         user.setDeletedAt(Instant.now());
         user.setEnabled(false);
+        tokenEpochs.revoke(user);
         userRepository.save(user);
 
         log.info("User {} account scheduled for deletion after {} days", userId, gracePeriodDays);
@@ -91,6 +100,7 @@ public class AccountServiceImpl implements AccountService {
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         user.setEnabled(false);
+        tokenEpochs.revoke(user);
         userRepository.save(user);
 
         log.info("User {} account deactivated", userId);
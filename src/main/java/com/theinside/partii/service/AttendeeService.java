@@ -38,4 +38,11 @@ public interface AttendeeService {
      * List attendees for an event with optional status filtering.
      */
     Page<AttendeeResponse> getAttendees(Long eventId, String status, Pageable pageable);
+
+    /**
+     * Expire one chunk of pending and waitlisted requests for events that are closed
+     * or past their join deadline, recording the reason on each request.
+     * @return the number of requests expired; fewer than {@code batchSize} means the sweep is done
+     */
+    int expireStaleRequests(int batchSize);
 }
@@ -5,13 +5,15 @@ import com.theinside.partii.entity.Event;
 import com.theinside.partii.entity.EventAttendee;
 import com.theinside.partii.entity.User;
 import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.AttendeeStatusReason;
 import com.theinside.partii.enums.EventStatus;
 import com.theinside.partii.exception.BadRequestException;
 import com.theinside.partii.exception.ResourceNotFoundException;
-import com.theinside.partii.exception.UnauthorizedException;
 import com.theinside.partii.repository.EventAttendeeRepository;
 import com.theinside.partii.repository.EventRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.access.EventAccess;
+import com.theinside.partii.service.access.EventAccessResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
 
 @Service
 @Slf4j
@@ -29,6 +35,8 @@ public class AttendeeServiceImpl implements AttendeeService {
     private final EventRepository eventRepository;
     private final EventAttendeeRepository attendeeRepository;
     private final UserRepository userRepository;
+    private final SettlementService settlementService;
+    private final EventAccessResolver accessResolver;
 
     @Override
     public AttendeeResponse requestToJoin(Long eventId, Long userId) {
@@ -40,8 +48,9 @@ public class AttendeeServiceImpl implements AttendeeService {
             throw new BadRequestException("Organizer cannot join their own event");
         }
 
-        // Check for duplicate request
-        if (attendeeRepository.existsByEventIdAndUserId(eventId, userId)) {
+        // Check for duplicate request; a request that expired unanswered may be made again
+        EventAttendee previous = attendeeRepository.findByEventIdAndUserId(eventId, userId).orElse(null);
+        if (previous != null && previous.getStatus() != AttendeeStatus.EXPIRED) {
             throw new IllegalStateException("You have already requested to join this event");
         }
 
@@ -61,13 +70,20 @@ public class AttendeeServiceImpl implements AttendeeService {
             ? AttendeeStatus.PENDING
             : AttendeeStatus.WAITLIST;
 
-        EventAttendee attendee = EventAttendee.builder()
-            .event(event)
-            .user(user)
-            .status(initialStatus)
-            .build();
+        EventAttendee attendee;
+        if (previous != null) {
+            attendee = previous;
+            attendee.reopen(initialStatus);
+        } else {
+            attendee = EventAttendee.builder()
+                .event(event)
+                .user(user)
+                .status(initialStatus)
+                .build();
+        }
 
         EventAttendee saved = attendeeRepository.save(attendee);
+        accessResolver.evict(eventId, userId);
         log.info("User {} requested to join event {} with status {}", userId, eventId, initialStatus);
 
         return toResponse(saved);
@@ -76,7 +92,7 @@ public class AttendeeServiceImpl implements AttendeeService {
     @Override
     public AttendeeResponse approveRequest(Long eventId, Long userId, Long organizerId) {
         Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(event, organizerId));
 
         EventAttendee attendee = findAttendeeOrThrow(eventId, userId);
 
@@ -88,11 +104,15 @@ public class AttendeeServiceImpl implements AttendeeService {
             throw new BadRequestException("Event is at capacity. Increase max attendees first.");
         }
 
+        EventStatus statusBefore = event.getStatus();
         attendee.approve();
         event.incrementAttendees();
 
         attendeeRepository.save(attendee);
         eventRepository.save(event);
+        accessResolver.approved(eventId, userId);
+        evictIfStatusChanged(event, statusBefore);
+        settlementService.invalidate(eventId);
         log.info("Organizer {} approved user {} for event {}", organizerId, userId, eventId);
 
         return toResponse(attendee);
@@ -100,8 +120,7 @@ public class AttendeeServiceImpl implements AttendeeService {
 
     @Override
     public AttendeeResponse declineRequest(Long eventId, Long userId, Long organizerId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(eventId, organizerId));
 
         EventAttendee attendee = findAttendeeOrThrow(eventId, userId);
 
@@ -111,6 +130,7 @@ public class AttendeeServiceImpl implements AttendeeService {
 
         attendee.decline();
         attendeeRepository.save(attendee);
+        accessResolver.unapproved(eventId, userId);
         log.info("Organizer {} declined user {} for event {}", organizerId, userId, eventId);
 
         return toResponse(attendee);
@@ -119,7 +139,7 @@ public class AttendeeServiceImpl implements AttendeeService {
     @Override
     public void removeAttendee(Long eventId, Long userId, Long organizerId) {
         Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(event, organizerId));
 
         EventAttendee attendee = findAttendeeOrThrow(eventId, userId);
 
@@ -127,17 +147,22 @@ public class AttendeeServiceImpl implements AttendeeService {
             throw new BadRequestException("Only approved attendees can be removed");
         }
 
+        EventStatus statusBefore = event.getStatus();
         attendee.remove();
         event.decrementAttendees();
 
         attendeeRepository.save(attendee);
         eventRepository.save(event);
+        accessResolver.unapproved(eventId, userId);
+        evictIfStatusChanged(event, statusBefore);
+        settlementService.invalidate(eventId);
         log.info("Organizer {} removed user {} from event {}", organizerId, userId, eventId);
 
         // Promote first waitlisted user to PENDING
         attendeeRepository.findFirstInWaitlist(eventId).ifPresent(waitlisted -> {
             waitlisted.setStatus(AttendeeStatus.PENDING);
             attendeeRepository.save(waitlisted);
+            accessResolver.evict(eventId, waitlisted.getUser().getId());
             log.info("Promoted waitlisted user {} to PENDING for event {}", waitlisted.getUser().getId(), eventId);
         });
     }
@@ -158,8 +183,33 @@ public class AttendeeServiceImpl implements AttendeeService {
         return attendees.map(this::toResponse);
     }
 
+    @Override
+    public int expireStaleRequests(int batchSize) {
+        Instant now = Instant.now();
+
+        List<Long> closed = attendeeRepository.lockOpenRequestsForClosedEvents(batchSize);
+        int expired = expire(closed, AttendeeStatusReason.EVENT_CLOSED, now);
+
+        if (expired < batchSize) {
+            List<Long> late = attendeeRepository.lockOpenRequestsPastJoinDeadline(
+                LocalDateTime.now(), batchSize - expired);
+            expired += expire(late, AttendeeStatusReason.JOIN_DEADLINE_PASSED, now);
+        }
+        return expired;
+    }
+
     // ===== Helper methods =====
 
+    private int expire(List<Long> attendeeIds, AttendeeStatusReason reason, Instant now) {
+        if (attendeeIds.isEmpty()) {
+            return 0;
+        }
+        // Open requests grant no access, so closing them leaves any cached event roles valid
+        int updated = attendeeRepository.updateStatusByIds(attendeeIds, AttendeeStatus.EXPIRED, reason, now);
+        log.debug("Expired {} open requests ({})", updated, reason);
+        return updated;
+    }
+
     private Event findEventOrThrow(Long eventId) {
         return eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
@@ -175,9 +225,16 @@ public class AttendeeServiceImpl implements AttendeeService {
             .orElseThrow(() -> new ResourceNotFoundException("Attendee not found for this event"));
     }
 
-    private void verifyOrganizer(Event event, Long userId) {
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new UnauthorizedException("Only the organizer can perform this action");
+    private void verifyOrganizer(EventAccess access) {
+        access.requireOrganizer("Only the organizer can perform this action");
+    }
+
+    /**
+     * Capacity changes can flip the event between ACTIVE and FULL, which cached event access carries.
+     */
+    private void evictIfStatusChanged(Event event, EventStatus statusBefore) {
+        if (event.getStatus() != statusBefore) {
+            accessResolver.evictEvent(event.getId());
         }
     }
 
@@ -189,6 +246,7 @@ public class AttendeeServiceImpl implements AttendeeService {
             user.getDisplayName(),
             user.getProfilePictureUrl(),
             attendee.getStatus(),
+            attendee.getStatusReason(),
             attendee.getPaymentAmount(),
             attendee.getPaymentStatus(),
             attendee.getAmountPaid(),
@@ -7,28 +7,36 @@ import com.theinside.partii.dto.LoginRequest;
 import com.theinside.partii.dto.SignupRequest;
 import com.theinside.partii.dto.VerifyEmailRequest;
 import com.theinside.partii.enums.AccountStatus;
+import com.theinside.partii.entity.AuthToken;
 import com.theinside.partii.entity.EmailVerificationToken;
 import com.theinside.partii.entity.PasswordResetToken;
 import com.theinside.partii.entity.User;
 import com.theinside.partii.exception.BadRequestException;
 import com.theinside.partii.exception.NotFoundException;
+import com.theinside.partii.exception.TooManyRequestsException;
 import com.theinside.partii.exception.UnauthorizedException;
 import com.theinside.partii.exception.ValidationException;
 import com.theinside.partii.exception.VerificationFailedException;
 import com.theinside.partii.repository.EmailVerificationTokenRepository;
 import com.theinside.partii.repository.PasswordResetTokenRepository;
-import com.theinside.partii.repository.RefreshTokenRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.security.PasswordHashing;
+import com.theinside.partii.security.RateLimitStore;
+import com.theinside.partii.security.RefreshSingleFlight;
+import com.theinside.partii.security.RefreshTokenStore;
+import com.theinside.partii.security.RefreshedTokens;
+import com.theinside.partii.security.TokenEpochs;
+import com.theinside.partii.security.TokenHasher;
 import com.theinside.partii.security.TokenManager;
 import com.theinside.partii.service.notification.NotificationService;
 import com.theinside.partii.utils.validators.CustomValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
@@ -47,15 +55,20 @@ public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final TokenManager tokenManager;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshSingleFlight refreshSingleFlight;
+    private final TokenEpochs tokenEpochs;
+    private final PasswordHashing passwordHashing;
+    private final TokenHasher tokenHasher;
     private final NotificationService notificationService;
     private final CustomValidator customValidator;
+    private final RateLimitStore rateLimitStore;
 
     private static final int OTP_LENGTH = 6;
     private static final long OTP_EXPIRY_MINUTES = 15;
     private static final int MAX_OTP_REQUESTS_PER_HOUR = 5;
+    private static final int MAX_OTP_ATTEMPTS = 5;
     private static final int MAX_RESET_REQUESTS_PER_HOUR = 3;
 
     @Override
@@ -77,7 +90,7 @@ public class AuthServiceImpl implements AuthService {
         // Create new user - for simple signup, set required fields to empty/default
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHashing.encode(request.password(), request.email()))
                 .displayName(request.displayName())
                 .provider("local")
                 .providerId(UUID.randomUUID().toString())
@@ -125,9 +138,16 @@ public class AuthServiceImpl implements AuthService {
         }
 
         // Verify password
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        PasswordHashing.Verification verification =
+                passwordHashing.verify(request.password(), user.getPassword(), user.getEmail());
+        if (!verification.matches()) {
             throw new UnauthorizedException(BAD_CREDENTIALS_MESSAGE);
         }
+        if (verification.upgradedHash() != null) {
+            // The hashing algorithm or cost changed since this password was set
+            user.setPassword(verification.upgradedHash());
+            userRepository.save(user);
+        }
 
         // Check if account is verified - use same generic message to prevent enumeration
         if (!user.isVerified()) {
@@ -151,7 +171,8 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional
+    // A failed attempt must stay counted, so it is not rolled back with the failure
+    @Transactional(noRollbackFor = VerificationFailedException.class)
     public GenericMessageResponse verifyEmail(VerifyEmailRequest request) {
         log.info("Processing email verification request");
 
@@ -163,8 +184,11 @@ public class AuthServiceImpl implements AuthService {
                         request.email(), Instant.now())
                 .orElseThrow(() -> new VerificationFailedException(OTP_NOT_VERIFIED));
 
-        // Verify OTP hash
-        if (!passwordEncoder.matches(request.otp(), token.getTokenHash())) {
+        // Spend an attempt before checking, so six digits cannot be guessed by retrying
+        if (emailVerificationTokenRepository.claimAttempt(token.getId(), MAX_OTP_ATTEMPTS) == 0) {
+            throw new VerificationFailedException(OTP_NOT_VERIFIED);
+        }
+        if (!tokenHasher.matches(request.email(), request.otp(), token.getTokenHash())) {
             throw new VerificationFailedException(OTP_VERIFICATION_FAILED_MESSAGE);
         }
 
@@ -195,12 +219,12 @@ public class AuthServiceImpl implements AuthService {
             throw new BadRequestException("Account is already verified");
         }
 
-        // Check rate limit
-        Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
-        long recentRequests = emailVerificationTokenRepository.countByEmailAndCreatedAtAfter(email, oneHourAgo);
-        if (recentRequests >= MAX_OTP_REQUESTS_PER_HOUR) {
+        // A shared rate limit store enforces the per-email quota on the endpoint; the in-memory one would reset on
+        // restart and count per instance, so then it is counted from the token table
+        if (!rateLimitStore.isShared() && emailVerificationTokenRepository.countByEmailAndCreatedAtAfter(
+                email, Instant.now().minus(1, ChronoUnit.HOURS)) >= MAX_OTP_REQUESTS_PER_HOUR) {
             log.warn("Rate limit exceeded for OTP resend: {}", user.getId());
-            throw new ValidationException("Too many requests. Please try again later.");
+            throw new TooManyRequestsException(TOO_MANY_REQUESTS, Duration.ofHours(1));
         }
 
         sendVerificationEmail(user);
@@ -209,18 +233,12 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    @Transactional
+    // No transaction here: RefreshSingleFlight hands out results only once the rotation has committed
     public AuthResponse refreshToken(String refreshToken) {
         log.info("Refreshing access token");
-        var authToken = tokenManager.refreshAccessToken(refreshToken);
-
-        // Get user info from the token
-        UUID tokenId = UUID.fromString(refreshToken);
-        var tokenEntity = refreshTokenRepository.findByToken(tokenId)
-                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
-
-        User user = userRepository.findById(tokenEntity.getUserId())
-                .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND));
+        RefreshedTokens refreshed = refreshSingleFlight.refresh(refreshToken);
+        User user = refreshed.user();
+        AuthToken authToken = refreshed.tokens();
 
         return new AuthResponse(
                 user.getId(),
@@ -245,7 +263,7 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Invalid refresh token format");
         }
 
-        var tokenEntity = refreshTokenRepository.findByToken(tokenId)
+        var tokenEntity = refreshTokenStore.findByToken(tokenId)
                 .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
 
         // Revoke the entire token family
@@ -264,10 +282,9 @@ public class AuthServiceImpl implements AuthService {
             return new GenericMessageResponse(PASSWORD_RESET_EMAIL_SENT);
         }
 
-        // Check rate limit (stricter than OTP: 3 per hour)
-        Instant oneHourAgo = Instant.now().minus(1, ChronoUnit.HOURS);
-        long recentRequests = passwordResetTokenRepository.countByEmailAndCreatedAtAfter(email, oneHourAgo);
-        if (recentRequests >= MAX_RESET_REQUESTS_PER_HOUR) {
+        // Counted from the token table like OTP resends when the store is in memory (stricter: 3 per hour)
+        if (!rateLimitStore.isShared() && passwordResetTokenRepository.countByEmailAndCreatedAtAfter(
+                email, Instant.now().minus(1, ChronoUnit.HOURS)) >= MAX_RESET_REQUESTS_PER_HOUR) {
             log.warn("Rate limit exceeded for password reset: {}", email);
             // Still return success to prevent enumeration
             return new GenericMessageResponse(PASSWORD_RESET_EMAIL_SENT);
@@ -279,7 +296,7 @@ public class AuthServiceImpl implements AuthService {
         String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
 
         // Hash the token for storage
-        String tokenHash = passwordEncoder.encode(rawToken);
+        String tokenHash = tokenHasher.hash(email, rawToken);
 
         // Save token
         PasswordResetToken resetToken = PasswordResetToken.builder()
@@ -301,16 +318,12 @@ public class AuthServiceImpl implements AuthService {
     public GenericMessageResponse resetPassword(String email, String token, String newPassword) {
         log.info("Processing password reset for email: {}", email);
 
-        // Find the most recent valid token for this email
+        // The hash is bound to the email, so a token sent to another address finds nothing
         PasswordResetToken resetToken = passwordResetTokenRepository
-                .findFirstByEmailAndUsedFalseAndExpiresAtAfterOrderByCreatedAtDesc(email, Instant.now())
+                .findByTokenHash(tokenHasher.hash(email, token))
+                .filter(candidate -> !candidate.isUsed() && !candidate.isExpired())
                 .orElseThrow(() -> new VerificationFailedException(INVALID_OR_EXPIRED_RESET_TOKEN));
 
-        // Verify token hash
-        if (!passwordEncoder.matches(token, resetToken.getTokenHash())) {
-            throw new VerificationFailedException(INVALID_OR_EXPIRED_RESET_TOKEN);
-        }
-
         // Mark token as used
         resetToken.setUsed(true);
         passwordResetTokenRepository.save(resetToken);
@@ -319,7 +332,8 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException(USER_NOT_FOUND));
 
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashing.encode(newPassword, email));
+        tokenEpochs.revoke(user);
         userRepository.save(user);
 
         // Revoke all user tokens (password change = invalidate all sessions)
@@ -380,7 +394,7 @@ public class AuthServiceImpl implements AuthService {
     private void sendVerificationEmail(User user) {
         // Generate OTP
         String otp = generateOtp();
-        String otpHash = passwordEncoder.encode(otp);
+        String otpHash = tokenHasher.hash(user.getEmail(), otp);
 
         // Invalidate any existing unused tokens
         List<EmailVerificationToken> existingTokens = emailVerificationTokenRepository
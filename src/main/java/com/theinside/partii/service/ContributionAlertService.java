@@ -0,0 +1,18 @@
+package com.theinside.partii.service;
+
+import java.time.Duration;
+
+/**
+ * Service interface for contribution alerts sent to organizers.
+ */
+public interface ContributionAlertService {
+
+    /**
+     * Send each organizer one digest of the MUST_HAVE items still unclaimed on their events
+     * happening within the horizon. Items already listed in an earlier digest are skipped.
+     *
+     * @param horizon how far ahead to look for upcoming events
+     * @return the number of digests sent
+     */
+    int sendMustHaveDigests(Duration horizon);
+}
@@ -0,0 +1,156 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.ContributionItemRepository.MustHaveAlertItem;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.EventRepository.MustHaveAlertEvent;
+import com.theinside.partii.service.notification.MustHaveDigestEntry;
+import com.theinside.partii.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams upcoming events with open MUST_HAVE items in keyset pages ordered by organizer, then
+ * streams each event's items, so only one organizer's digest is held in memory however large the backlog is.
+ * <p>
+ * Deliberately not transactional as a whole: each page read and each digest's mark
+ * commits on its own, so a long run holds no connection or row locks between pages.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ContributionAlertServiceImpl implements ContributionAlertService {
+
+    private static final int EVENT_PAGE_SIZE = 200;
+    private static final int ITEM_PAGE_SIZE = 1000;
+    private static final int MARK_BATCH_SIZE = 500;
+    private static final int ITEM_NAMES_PER_EVENT = 10;
+
+    private final EventRepository eventRepository;
+    private final ContributionItemRepository contributionItemRepository;
+    private final NotificationService notificationService;
+
+    @Override
+    public int sendMustHaveDigests(Duration horizon) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deadline = now.plus(horizon);
+
+        Long afterOrganizerId = 0L;
+        LocalDateTime afterEventDate = now;
+        Long afterEventId = 0L;
+
+        OrganizerDigest digest = null;
+        int sent = 0;
+        List<MustHaveAlertEvent> page;
+        do {
+            page = eventRepository.findEventsWithUnalertedMustHaves(
+                now, deadline, afterOrganizerId, afterEventDate, afterEventId, Limit.of(EVENT_PAGE_SIZE));
+
+            for (MustHaveAlertEvent event : page) {
+                if (digest == null || !digest.organizerId.equals(event.getOrganizerId())) {
+                    sent += send(digest);
+                    digest = new OrganizerDigest(event);
+                }
+                digest.add(event, loadItems(event.getEventId()));
+            }
+
+            if (!page.isEmpty()) {
+                MustHaveAlertEvent last = page.getLast();
+                afterOrganizerId = last.getOrganizerId();
+                afterEventDate = last.getEventDate();
+                afterEventId = last.getEventId();
+            }
+        } while (page.size() == EVENT_PAGE_SIZE);
+        sent += send(digest);
+
+        if (sent > 0) {
+            log.info("Sent {} must-have digests for events before {}", sent, deadline);
+        }
+        return sent;
+    }
+
+    // ===== Helper methods =====
+
+    private List<MustHaveAlertItem> loadItems(Long eventId) {
+        List<MustHaveAlertItem> items = new ArrayList<>();
+        List<MustHaveAlertItem> page;
+        Long afterItemId = 0L;
+        do {
+            page = contributionItemRepository.findUnalertedMustHaveItems(eventId, afterItemId, Limit.of(ITEM_PAGE_SIZE));
+            items.addAll(page);
+            if (!page.isEmpty()) {
+                afterItemId = page.getLast().getId();
+            }
+        } while (page.size() == ITEM_PAGE_SIZE);
+        return items;
+    }
+
+    /**
+     * Hands the digest to the notification path, then marks its items so the next run skips them.
+     * A digest that was not delivered leaves its items unmarked, so the next run tries again.
+     */
+    private int send(OrganizerDigest digest) {
+        if (digest == null || digest.itemIds.isEmpty()) {
+            return 0;
+        }
+        if (!notificationService.sendMustHaveDigestEmail(digest.email, digest.name, digest.entries)) {
+            log.warn("Must-have digest for organizer {} was not delivered, retrying next run", digest.organizerId);
+            return 0;
+        }
+
+        Instant alertedAt = Instant.now();
+        int covered = 0;
+        for (Map.Entry<Long, List<Long>> event : digest.itemIds.entrySet()) {
+            List<Long> itemIds = event.getValue();
+            for (int from = 0; from < itemIds.size(); from += MARK_BATCH_SIZE) {
+                List<Long> batch = itemIds.subList(from, Math.min(from + MARK_BATCH_SIZE, itemIds.size()));
+                contributionItemRepository.markMustHaveAlerted(event.getKey(), batch, alertedAt);
+            }
+            covered += itemIds.size();
+        }
+        log.debug("Must-have digest for organizer {} covered {} items", digest.organizerId, covered);
+        return 1;
+    }
+
+    /**
+     * One organizer's digest; events arrive in date order, so entries stay soonest first.
+     */
+    private static final class OrganizerDigest {
+        final Long organizerId;
+        final String email;
+        final String name;
+        final Map<Long, List<Long>> itemIds = new LinkedHashMap<>();
+        final List<MustHaveDigestEntry> entries = new ArrayList<>();
+
+        OrganizerDigest(MustHaveAlertEvent first) {
+            this.organizerId = first.getOrganizerId();
+            this.email = first.getOrganizerEmail();
+            this.name = first.getOrganizerName();
+        }
+
+        void add(MustHaveAlertEvent event, List<MustHaveAlertItem> items) {
+            if (items.isEmpty()) {
+                // Claimed between the event page and the item read
+                return;
+            }
+            itemIds.put(event.getEventId(), items.stream().map(MustHaveAlertItem::getId).toList());
+            entries.add(new MustHaveDigestEntry(
+                event.getEventId(),
+                event.getEventTitle(),
+                event.getEventDate(),
+                items.size(),
+                items.stream().limit(ITEM_NAMES_PER_EVENT).map(MustHaveAlertItem::getName).toList()
+            ));
+        }
+    }
+}
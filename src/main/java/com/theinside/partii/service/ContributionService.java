@@ -11,10 +11,24 @@ public interface ContributionService {
     // CRUD
     ContributionItemResponse createItem(Long eventId, Long organizerId, CreateContributionItemRequest request);
     Page<ContributionItemResponse> listItems(Long eventId, Long userId, String status, String category, String type, String priority, Pageable pageable);
+    CursorPage<ContributionItemResponse> listItemsKeyset(Long eventId, Long userId, String status, String category, String type,
+                                                         String priority, String sort, String cursor, int limit);
     ContributionItemResponse getItem(Long eventId, Long itemId, Long userId);
     ContributionItemResponse updateItem(Long eventId, Long itemId, Long organizerId, UpdateContributionItemRequest request);
     void deleteItem(Long eventId, Long itemId, Long organizerId);
 
+    // Bulk
+    List<ContributionItemResponse> bulkCreateItems(Long eventId, Long organizerId, BulkCreateContributionItemsRequest request);
+    List<ContributionItemResponse> bulkUpdateItems(Long eventId, Long organizerId, BulkUpdateContributionItemsRequest request);
+    void bulkDeleteItems(Long eventId, Long organizerId, BulkContributionItemIdsRequest request);
+    List<ContributionItemResponse> bulkCompleteItems(Long eventId, Long organizerId, BulkContributionItemIdsRequest request);
+    void createInitialItems(Long eventId, List<CreateContributionItemRequest> requests);
+    void deleteEventTotals(Long eventId);
+
+    // Templates and cloning
+    ContributionSummaryResponse applyTemplate(Long eventId, Long templateId, Long organizerId);
+    int copyItems(Long sourceEventId, Long targetEventId);
+
     // Lifecycle
     ContributionItemResponse claimItem(Long eventId, Long itemId, Long userId);
     ContributionItemResponse confirmItem(Long eventId, Long itemId, Long organizerId);
@@ -27,5 +41,10 @@ public interface ContributionService {
     // Read-only
     ContributionSummaryResponse getSummary(Long eventId, Long userId);
     List<String> getCategories(Long eventId, Long userId);
-    List<ContributionItemResponse> getMyContributions(Long userId);
+    List<ContributionCategorySummary> getCategorySummaries(Long eventId, Long userId);
+    ContributionBoardSnapshot getBoardSnapshot(Long eventId, Long userId);
+    CursorPage<MyContributionResponse> getMyContributions(Long userId, String cursor, int limit);
+
+    // Maintenance
+    long repairSummaryCounters();
 }
@@ -3,25 +3,51 @@ package com.theinside.partii.service;
 import com.theinside.partii.dto.*;
 import com.theinside.partii.entity.ContributionItem;
 import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventContributionCategory;
+import com.theinside.partii.entity.EventContributionCounters;
 import com.theinside.partii.entity.User;
 import com.theinside.partii.enums.*;
 import com.theinside.partii.exception.BadRequestException;
 import com.theinside.partii.exception.ResourceNotFoundException;
 import com.theinside.partii.exception.UnauthorizedException;
 import com.theinside.partii.repository.ContributionItemRepository;
-import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.ContributionItemRepository.CategoryAggregate;
+import com.theinside.partii.repository.ContributionItemRepository.ContributionAggregate;
+import com.theinside.partii.repository.ContributionItemRepository.MyContributionRow;
+import com.theinside.partii.repository.ContributionTemplateItemRepository;
+import com.theinside.partii.repository.ContributionTemplateItemRepository.TemplateCategoryTotals;
+import com.theinside.partii.repository.ContributionTemplateItemRepository.TemplateTotals;
+import com.theinside.partii.repository.ContributionTemplateRepository;
+import com.theinside.partii.repository.EventContributionCategoryRepository;
+import com.theinside.partii.repository.EventContributionCountersRepository;
 import com.theinside.partii.repository.EventRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.access.EventAccess;
+import com.theinside.partii.service.access.EventAccessResolver;
+import com.theinside.partii.service.board.ContributionBoardBroadcaster;
+import com.theinside.partii.service.contribution.MyContributionsCache;
+import com.theinside.partii.specification.ContributionItemSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 @Service
 @Slf4j
@@ -31,68 +57,93 @@ public class ContributionServiceImpl implements ContributionService {
 
     private final EventRepository eventRepository;
     private final ContributionItemRepository contributionItemRepository;
-    private final EventAttendeeRepository attendeeRepository;
     private final UserRepository userRepository;
+    private final EventContributionCountersRepository countersRepository;
+    private final EventContributionCategoryRepository categoryRepository;
+    private final ContributionTemplateRepository templateRepository;
+    private final ContributionTemplateItemRepository templateItemRepository;
+    private final SettlementService settlementService;
+    private final ContributionBoardBroadcaster boardBroadcaster;
+    private final EventAccessResolver accessResolver;
+    private final MyContributionsCache myContributions;
 
     // ===== CRUD =====
 
     @Override
     public ContributionItemResponse createItem(Long eventId, Long organizerId, CreateContributionItemRequest request) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
-        verifyEventActive(event);
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
 
-        ContributionItem item = ContributionItem.builder()
-                .event(event)
-                .name(request.name())
-                .category(request.category())
-                .type(request.type())
-                .quantity(request.quantity() != null ? request.quantity() : 1)
-                .timeCommitment(request.timeCommitment())
-                .estimatedCost(request.estimatedCost())
-                .priority(request.priority() != null ? request.priority() : Priority.NICE_TO_HAVE)
-                .notes(request.notes())
-                .status(ContributionStatus.AVAILABLE)
-                .completed(false)
-                .build();
+        ContributionItem item = buildItem(eventRepository.getReferenceById(eventId), request);
 
         ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, ItemCounts.NONE, ItemCounts.of(saved));
         log.info("Organizer {} created contribution item {} for event {}", organizerId, saved.getId(), eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.CREATED, saved);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ContributionItemResponse> listItems(Long eventId, Long userId, String status, String category,
                                                      String type, String priority, Pageable pageable) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizerOrApprovedAttendee(event, userId);
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
 
-        Page<ContributionItem> items;
+        Page<ContributionItem> items = contributionItemRepository.findAll(
+            filtered(eventId, status, category, type, priority), pageable);
 
-        if (status != null && !status.isBlank()) {
-            ContributionStatus contributionStatus = ContributionStatus.valueOf(status.toUpperCase());
-            items = contributionItemRepository.findByEventIdAndStatus(eventId, contributionStatus, pageable);
-        } else if (category != null && !category.isBlank()) {
-            items = contributionItemRepository.findByEventIdAndCategory(eventId, category, pageable);
-        } else if (type != null && !type.isBlank()) {
-            ContributionType contributionType = ContributionType.valueOf(type.toUpperCase());
-            items = contributionItemRepository.findByEventIdAndType(eventId, contributionType, pageable);
-        } else if (priority != null && !priority.isBlank()) {
-            Priority priorityEnum = Priority.valueOf(priority.toUpperCase());
-            items = contributionItemRepository.findByEventIdAndPriority(eventId, priorityEnum, pageable);
-        } else {
-            items = contributionItemRepository.findByEventId(eventId, pageable);
+        return items.map(this::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ContributionItemResponse> listItemsKeyset(Long eventId, Long userId, String status, String category,
+                                                                String type, String priority, String sort,
+                                                                String cursorString, int limit) {
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
+
+        ContributionSort contributionSort = parseEnum(ContributionSort.class, sort, "sort");
+        if (contributionSort == null) {
+            contributionSort = ContributionSort.PRIORITY;
+        }
+        ContributionCursor cursor;
+        try {
+            cursor = ContributionCursor.decode(cursorString);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (cursor != null && cursor.sort() != contributionSort) {
+            throw new BadRequestException("Cursor was issued for a different sort");
         }
 
-        return items.map(this::toResponse);
+        // Fetch limit+1 to determine if there's a next page
+        Sort order = ContributionItemSpecifications.orderFor(contributionSort);
+        List<ContributionItem> items = contributionItemRepository.findBy(
+            filtered(eventId, status, category, type, priority).and(ContributionItemSpecifications.after(cursor)),
+            query -> query.sortBy(order).limit(limit + 1).all()
+        );
+
+        if (items.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        String nextCursor = null;
+        if (items.size() > limit) {
+            ContributionItem last = items.get(limit - 1);
+            nextCursor = new ContributionCursor(contributionSort, last.getPriority(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        List<ContributionItemResponse> responses = items.stream()
+            .map(this::toResponse)
+            .toList();
+
+        return CursorPage.of(responses, nextCursor, limit);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ContributionItemResponse getItem(Long eventId, Long itemId, Long userId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizerOrApprovedAttendee(event, userId);
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
         return toResponse(item);
@@ -101,9 +152,9 @@ public class ContributionServiceImpl implements ContributionService {
     @Override
     public ContributionItemResponse updateItem(Long eventId, Long itemId, Long organizerId,
                                                 UpdateContributionItemRequest request) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
-        verifyEventActive(event);
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
 
@@ -111,26 +162,23 @@ public class ContributionServiceImpl implements ContributionService {
             throw new BadRequestException("Only available items can be updated");
         }
 
-        // Partial update: apply non-null fields
-        if (request.name() != null) item.setName(request.name());
-        if (request.category() != null) item.setCategory(request.category());
-        if (request.type() != null) item.setType(request.type());
-        if (request.quantity() != null) item.setQuantity(request.quantity());
-        if (request.timeCommitment() != null) item.setTimeCommitment(request.timeCommitment());
-        if (request.estimatedCost() != null) item.setEstimatedCost(request.estimatedCost());
-        if (request.priority() != null) item.setPriority(request.priority());
-        if (request.notes() != null) item.setNotes(request.notes());
+        ItemCounts before = ItemCounts.of(item);
+
+        requireTransition(contributionItemRepository.touchIfAvailable(List.of(itemId), Instant.now()),
+                "Item is no longer available to update");
+        applyChanges(item, request);
 
         ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(saved));
         log.info("Organizer {} updated contribution item {} for event {}", organizerId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.UPDATED, saved);
     }
 
     @Override
     public void deleteItem(Long eventId, Long itemId, Long organizerId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
-        verifyEventActive(event);
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
 
@@ -138,64 +186,225 @@ public class ContributionServiceImpl implements ContributionService {
             throw new BadRequestException("Only available items can be deleted");
         }
 
-        contributionItemRepository.delete(item);
+        requireTransition(contributionItemRepository.deleteIfAvailable(List.of(itemId)),
+                "Item is no longer available to delete");
+        applyCounters(eventId, ItemCounts.of(item), ItemCounts.NONE);
+        boardBroadcaster.itemDeleted(eventId, itemId);
         log.info("Organizer {} deleted contribution item {} from event {}", organizerId, itemId, eventId);
     }
 
+    // ===== Bulk =====
+
+    @Override
+    public List<ContributionItemResponse> bulkCreateItems(Long eventId, Long organizerId,
+                                                          BulkCreateContributionItemsRequest request) {
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
+
+        List<ContributionItem> saved = insertItems(eventRepository.getReferenceById(eventId), request.items());
+        log.info("Organizer {} created {} contribution items for event {}", organizerId, saved.size(), eventId);
+        return saved.stream()
+                .map(item -> broadcast(ContributionBoardChange.CREATED, item))
+                .toList();
+    }
+
+    @Override
+    public void createInitialItems(Long eventId, List<CreateContributionItemRequest> requests) {
+        Event event = findEventOrThrow(eventId);
+        List<ContributionItem> saved = insertItems(event, requests);
+        log.info("Created {} contribution items for event: {}", saved.size(), eventId);
+    }
+
+    /**
+     * Drops the event's counters and category rows, which outlive its items and would block deleting the event.
+     */
+    @Override
+    public void deleteEventTotals(Long eventId) {
+        countersRepository.deleteByEventId(eventId);
+        categoryRepository.deleteByEventId(eventId);
+    }
+
+    @Override
+    public List<ContributionItemResponse> bulkUpdateItems(Long eventId, Long organizerId,
+                                                          BulkUpdateContributionItemsRequest request) {
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
+
+        Map<Long, ContributionItem> items = findItemsOrThrow(eventId,
+                request.items().stream().map(BulkUpdateContributionItemsRequest.ItemUpdate::id).toList());
+        List<Long> unavailable = idsWhere(items.values(), item -> item.getStatus() != ContributionStatus.AVAILABLE);
+        if (!unavailable.isEmpty()) {
+            throw new BadRequestException("Only available items can be updated: " + unavailable);
+        }
+
+        ItemCounts before = ItemCounts.sum(items.values());
+        requireTransition(contributionItemRepository.touchIfAvailable(items.keySet(), Instant.now()), items.size(),
+                "Items are no longer available to update");
+        for (BulkUpdateContributionItemsRequest.ItemUpdate update : request.items()) {
+            applyChanges(items.get(update.id()), update.changes());
+        }
+        // Dirty items are flushed at commit, batched by the columns they changed
+
+        applyCounters(eventId, before, ItemCounts.sum(items.values()));
+        log.info("Organizer {} updated {} contribution items for event {}", organizerId, items.size(), eventId);
+        return items.values().stream()
+                .map(item -> broadcast(ContributionBoardChange.UPDATED, item))
+                .toList();
+    }
+
+    @Override
+    public void bulkDeleteItems(Long eventId, Long organizerId, BulkContributionItemIdsRequest request) {
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
+
+        Map<Long, ContributionItem> items = findItemsOrThrow(eventId, request.itemIds());
+        List<Long> unavailable = idsWhere(items.values(), item -> item.getStatus() != ContributionStatus.AVAILABLE);
+        if (!unavailable.isEmpty()) {
+            throw new BadRequestException("Only available items can be deleted: " + unavailable);
+        }
+
+        requireTransition(contributionItemRepository.deleteIfAvailable(items.keySet()), items.size(),
+                "Items are no longer available to delete");
+        applyCounters(eventId, ItemCounts.sum(items.values()), ItemCounts.NONE);
+        items.keySet().forEach(itemId -> boardBroadcaster.itemDeleted(eventId, itemId));
+        log.info("Organizer {} deleted {} contribution items from event {}", organizerId, items.size(), eventId);
+    }
+
+    @Override
+    public List<ContributionItemResponse> bulkCompleteItems(Long eventId, Long organizerId,
+                                                            BulkContributionItemIdsRequest request) {
+        verifyOrganizer(accessResolver.resolve(eventId, organizerId));
+
+        Map<Long, ContributionItem> items = findItemsOrThrow(eventId, request.itemIds());
+        List<Long> unconfirmed = idsWhere(items.values(), item -> item.getStatus() != ContributionStatus.CONFIRMED);
+        if (!unconfirmed.isEmpty()) {
+            throw new IllegalStateException("Items must be confirmed before marking complete: " + unconfirmed);
+        }
+
+        ItemCounts before = ItemCounts.sum(items.values());
+        items.values().forEach(ContributionItem::markCompleted);
+
+        applyCounters(eventId, before, ItemCounts.sum(items.values()));
+        items.values().forEach(this::evictHolder);
+        log.info("Organizer {} marked {} contribution items as completed for event {}", organizerId, items.size(), eventId);
+        return items.values().stream()
+                .map(item -> broadcast(ContributionBoardChange.STATUS_CHANGED, item))
+                .toList();
+    }
+
+    // ===== Templates and Cloning =====
+
+    @Override
+    public ContributionSummaryResponse applyTemplate(Long eventId, Long templateId, Long organizerId) {
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
+        templateRepository.findByIdAndOwnerId(templateId, organizerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Template not found"));
+
+        TemplateTotals totals = templateItemRepository.totalsByTemplateId(templateId);
+        Map<String, CategoryCounts> categories = new HashMap<>();
+        for (TemplateCategoryTotals category : templateItemRepository.totalsByCategory(templateId)) {
+            categories.put(category.getCategory(),
+                    new CategoryCounts(category.getItemCount(), 0, category.getEstimatedCost(), BigDecimal.ZERO));
+        }
+        int copied = contributionItemRepository.copyFromTemplate(templateId, eventId, Instant.now());
+        applyCounters(eventId, ItemCounts.NONE, ItemCounts.available(
+                totals.getItemCount(), totals.getMustHaveCount(), totals.getEstimatedCost(), categories));
+        if (copied > 0) {
+            // The copied rows never pass through the persistence context, so have live boards reload
+            boardBroadcaster.boardReloaded(eventId);
+        }
+
+        log.info("Organizer {} applied template {} to event {} ({} items)", organizerId, templateId, eventId, copied);
+        return countersRepository.findById(eventId)
+                .map(this::toSummary)
+                .orElseGet(() -> new ContributionSummaryResponse(0, 0, 0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    @Override
+    public int copyItems(Long sourceEventId, Long targetEventId) {
+        Instant now = Instant.now();
+        int copied = contributionItemRepository.copyFromEvent(sourceEventId, targetEventId, now);
+        if (copied > 0) {
+            countersRepository.insertForAvailableItems(targetEventId, now);
+            categoryRepository.insertFromItems(targetEventId, now);
+        }
+        log.info("Copied {} contribution items from event {} to event {}", copied, sourceEventId, targetEventId);
+        return copied;
+    }
+
     // ===== Lifecycle =====
 
     @Override
     public ContributionItemResponse claimItem(Long eventId, Long itemId, Long userId) {
-        Event event = findEventOrThrow(eventId);
-        verifyApprovedAttendee(eventId, userId);
-        verifyEventActive(event);
+        EventAccess access = accessResolver.resolve(eventId, userId);
+        if (!access.isOrganizer()) {
+            verifyApprovedAttendee(access);
+        }
+        verifyEventActive(access);
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
 
-        if (event.getOrganizer().getId().equals(userId)) {
+        if (access.isOrganizer()) {
             throw new BadRequestException("Organizer cannot claim items on their own event");
         }
 
         User user = findUserOrThrow(userId);
-        item.claim(user); // throws IllegalStateException if not available
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.claimIfAvailable(itemId, user, Instant.now()),
+                "Item is not available for claiming");
+        item.claim(user); // mirror the committed transition on the loaded entity
 
-        ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(item));
+        myContributions.evict(userId);
         log.info("User {} claimed contribution item {} for event {}", userId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
     public ContributionItemResponse confirmItem(Long eventId, Long itemId, Long organizerId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(eventId, organizerId));
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
-        item.confirmClaim(); // throws IllegalStateException if not claimed
-
-        ContributionItem saved = contributionItemRepository.save(item);
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.confirmIfClaimed(itemId, Instant.now()),
+                "Item must be claimed before confirming");
+        item.confirmClaim(); // mirror the committed transition on the loaded entity
+
+        applyCounters(eventId, before, ItemCounts.of(item));
+        evictHolder(item);
+        settlementService.invalidate(eventId);
         log.info("Organizer {} confirmed contribution item {} for event {}", organizerId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
     public ContributionItemResponse assignItem(Long eventId, Long itemId, Long organizerId, Long assigneeId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
-        verifyEventActive(event);
+        EventAccess access = accessResolver.resolve(eventId, organizerId);
+        verifyOrganizer(access);
+        verifyEventActive(access);
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
 
         // Verify assignee is an approved attendee
-        if (!attendeeRepository.existsByEventIdAndUserIdAndStatus(eventId, assigneeId, AttendeeStatus.APPROVED)) {
+        if (!accessResolver.resolve(eventId, assigneeId).isApproved()) {
             throw new BadRequestException("Assignee must be an approved attendee of this event");
         }
 
         User assignee = findUserOrThrow(assigneeId);
-        item.assign(assignee); // throws IllegalStateException if not available
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.assignIfAvailable(itemId, assignee, Instant.now()),
+                "Item is not available for assignment");
+        item.assign(assignee); // mirror the committed transition on the loaded entity
 
-        ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(item));
+        myContributions.evict(assigneeId);
         log.info("Organizer {} assigned contribution item {} to user {} for event {}", organizerId, itemId, assigneeId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
@@ -207,11 +416,16 @@ public class ContributionServiceImpl implements ContributionService {
             throw new UnauthorizedException("Only the assigned attendee can accept");
         }
 
-        item.acceptAssignment(); // throws IllegalStateException if not assigned
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.acceptIfAssignedTo(itemId, userId, Instant.now()),
+                "Item must be assigned before accepting");
+        item.acceptAssignment(); // mirror the committed transition on the loaded entity
 
-        ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(item));
+        myContributions.evict(userId);
+        settlementService.invalidate(eventId);
         log.info("User {} accepted assignment of contribution item {} for event {}", userId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
@@ -223,37 +437,48 @@ public class ContributionServiceImpl implements ContributionService {
             throw new UnauthorizedException("Only the assigned attendee can decline");
         }
 
-        item.declineAssignment(); // throws IllegalStateException if not assigned
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.declineIfAssignedTo(itemId, userId, Instant.now()),
+                "Item must be assigned before declining");
+        item.declineAssignment(); // mirror the committed transition on the loaded entity
 
-        ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(item));
+        myContributions.evict(userId);
         log.info("User {} declined assignment of contribution item {} for event {}", userId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
     public ContributionItemResponse releaseItem(Long eventId, Long itemId, Long organizerId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(eventId, organizerId));
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
-        item.releaseClaim();
-
-        ContributionItem saved = contributionItemRepository.save(item);
+        ItemCounts before = ItemCounts.of(item);
+        requireTransition(contributionItemRepository.releaseIfHeld(itemId, item.getStatus(), item.isCompleted(),
+                        Instant.now()),
+                "Item has no claim to release, or it changed meanwhile");
+        evictHolder(item); // before the mirror below forgets who held it
+        item.releaseClaim(); // mirror the committed transition on the loaded entity
+
+        applyCounters(eventId, before, ItemCounts.of(item));
+        settlementService.invalidate(eventId);
         log.info("Organizer {} released contribution item {} for event {}", organizerId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, item);
     }
 
     @Override
     public ContributionItemResponse completeItem(Long eventId, Long itemId, Long organizerId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizer(event, organizerId);
+        verifyOrganizer(accessResolver.resolve(eventId, organizerId));
 
         ContributionItem item = findItemOrThrow(eventId, itemId);
+        ItemCounts before = ItemCounts.of(item);
         item.markCompleted(); // throws IllegalStateException if not confirmed
 
         ContributionItem saved = contributionItemRepository.save(item);
+        applyCounters(eventId, before, ItemCounts.of(saved));
+        evictHolder(saved);
         log.info("Organizer {} marked contribution item {} as completed for event {}", organizerId, itemId, eventId);
-        return toResponse(saved);
+        return broadcast(ContributionBoardChange.STATUS_CHANGED, saved);
     }
 
     // ===== Read-only =====
@@ -261,42 +486,463 @@ public class ContributionServiceImpl implements ContributionService {
     @Override
     @Transactional(readOnly = true)
     public ContributionSummaryResponse getSummary(Long eventId, Long userId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizerOrApprovedAttendee(event, userId);
-
-        return new ContributionSummaryResponse(
-                contributionItemRepository.countByEventId(eventId),
-                contributionItemRepository.countByEventIdAndStatus(eventId, ContributionStatus.AVAILABLE),
-                contributionItemRepository.countByEventIdAndStatus(eventId, ContributionStatus.CLAIMED),
-                contributionItemRepository.countByEventIdAndStatus(eventId, ContributionStatus.ASSIGNED),
-                contributionItemRepository.countByEventIdAndStatus(eventId, ContributionStatus.CONFIRMED),
-                contributionItemRepository.countByEventIdAndCompleted(eventId, true),
-                contributionItemRepository.countUnclaimedMustHaveItems(eventId),
-                Optional.ofNullable(contributionItemRepository.sumEstimatedCostByEventId(eventId)).orElse(BigDecimal.ZERO),
-                Optional.ofNullable(contributionItemRepository.sumClaimedCostByEventId(eventId)).orElse(BigDecimal.ZERO)
-        );
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
+
+        // Counters row is maintained by every item change; fall back to a single aggregate scan if it is missing
+        return countersRepository.findById(eventId)
+                .map(this::toSummary)
+                .orElseGet(() -> contributionItemRepository.aggregateByEventId(eventId)
+                        .map(this::toSummary)
+                        .orElseGet(() -> new ContributionSummaryResponse(
+                                0, 0, 0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<String> getCategories(Long eventId, Long userId) {
-        Event event = findEventOrThrow(eventId);
-        verifyOrganizerOrApprovedAttendee(event, userId);
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
 
-        return contributionItemRepository.findDistinctCategoriesByEventId(eventId);
+        return categoryRepository.findCategoryNamesByEventId(eventId);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ContributionItemResponse> getMyContributions(Long userId) {
-        return contributionItemRepository.findActiveContributionsByUser(userId)
-                .stream()
-                .map(this::toResponse)
+    public List<ContributionCategorySummary> getCategorySummaries(Long eventId, Long userId) {
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
+
+        return categoryRepository.findByEventIdOrderByCategoryAsc(eventId).stream()
+                .map(category -> new ContributionCategorySummary(
+                        category.getCategory(),
+                        category.getItemCount(),
+                        category.getClaimedCount(),
+                        category.getTotalEstimatedCost(),
+                        category.getClaimedCost()))
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ContributionBoardSnapshot getBoardSnapshot(Long eventId, Long userId) {
+        verifyOrganizerOrApprovedAttendee(accessResolver.resolve(eventId, userId));
+
+        // Read the position first: every delta up to it committed before the items are loaded
+        long sequence = boardBroadcaster.currentSequence(eventId);
+        List<ContributionItemResponse> items = contributionItemRepository.findAll(
+                ContributionItemSpecifications.forEvent(eventId),
+                ContributionItemSpecifications.orderFor(ContributionSort.PRIORITY)
+            ).stream()
+            .map(this::toResponse)
+            .toList();
+
+        return new ContributionBoardSnapshot(eventId, boardBroadcaster.epoch(), sequence, items);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MyContributionResponse> getMyContributions(Long userId, String cursorString, int limit) {
+        EventCursor cursor;
+        try {
+            cursor = EventCursor.decode(cursorString);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (cursor == null) {
+            return myContributions.firstPage(userId, limit, () -> loadMyContributions(userId, null, limit));
+        }
+        return loadMyContributions(userId, cursor, limit);
+    }
+
+    // ===== Maintenance =====
+
+    @Override
+    public long repairSummaryCounters() {
+        long corrected = 0;
+        Set<Long> eventsWithItems = new HashSet<>();
+
+        for (ContributionAggregate aggregate : contributionItemRepository.aggregateAllEvents()) {
+            eventsWithItems.add(aggregate.getEventId());
+            EventContributionCounters counters = countersRepository.findById(aggregate.getEventId())
+                    .orElseGet(() -> EventContributionCounters.builder().eventId(aggregate.getEventId()).build());
+
+            if (!matches(counters, aggregate)) {
+                log.warn("Contribution counters drift for event {}: stored {} items, actual {}",
+                        aggregate.getEventId(), counters.getTotalItems(), aggregate.getTotalItems());
+                copyAggregate(counters, aggregate);
+                countersRepository.save(counters);
+                corrected++;
+            }
+        }
+
+        // Events whose items were all deleted should read as empty
+        for (EventContributionCounters counters : countersRepository.findAll()) {
+            if (!eventsWithItems.contains(counters.getEventId()) && counters.getTotalItems() != 0) {
+                log.warn("Contribution counters drift for event {}: stored {} items, actual 0",
+                        counters.getEventId(), counters.getTotalItems());
+                countersRepository.save(EventContributionCounters.builder().eventId(counters.getEventId()).build());
+                corrected++;
+            }
+        }
+        return corrected + repairCategoryIndex();
+    }
+
     // ===== Helper methods =====
 
+    /**
+     * One item's contribution to each summary counter and to its category's totals.
+     */
+    private record ItemCounts(long total, long available, long claimed, long assigned, long confirmed,
+                              long completed, long unclaimedMustHave, BigDecimal estimatedCost,
+                              BigDecimal claimedCost, Map<String, CategoryCounts> categories) {
+
+        static final ItemCounts NONE = new ItemCounts(0, 0, 0, 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, Map.of());
+
+        static ItemCounts of(ContributionItem item) {
+            ContributionStatus status = item.getStatus();
+            BigDecimal cost = item.getEstimatedCost() != null ? item.getEstimatedCost() : BigDecimal.ZERO;
+            return new ItemCounts(
+                    1,
+                    status == ContributionStatus.AVAILABLE ? 1 : 0,
+                    status == ContributionStatus.CLAIMED ? 1 : 0,
+                    status == ContributionStatus.ASSIGNED ? 1 : 0,
+                    status == ContributionStatus.CONFIRMED ? 1 : 0,
+                    item.isCompleted() ? 1 : 0,
+                    item.getPriority() == Priority.MUST_HAVE && status == ContributionStatus.AVAILABLE ? 1 : 0,
+                    cost,
+                    status == ContributionStatus.CLAIMED || status == ContributionStatus.CONFIRMED ? cost : BigDecimal.ZERO,
+                    item.getCategory() != null ? Map.of(item.getCategory(), CategoryCounts.of(item)) : Map.of()
+            );
+        }
+
+        /**
+         * Counts for a batch of freshly inserted, unclaimed items.
+         */
+        static ItemCounts available(long count, long mustHave, BigDecimal estimatedCost,
+                                    Map<String, CategoryCounts> categories) {
+            return new ItemCounts(count, count, 0, 0, 0, 0, mustHave, estimatedCost, BigDecimal.ZERO, categories);
+        }
+
+        static ItemCounts sum(Collection<ContributionItem> items) {
+            return items.stream().map(ItemCounts::of).reduce(NONE, ItemCounts::plus);
+        }
+
+        ItemCounts plus(ItemCounts other) {
+            return new ItemCounts(
+                    total + other.total,
+                    available + other.available,
+                    claimed + other.claimed,
+                    assigned + other.assigned,
+                    confirmed + other.confirmed,
+                    completed + other.completed,
+                    unclaimedMustHave + other.unclaimedMustHave,
+                    estimatedCost.add(other.estimatedCost),
+                    claimedCost.add(other.claimedCost),
+                    CategoryCounts.merge(categories, other.categories)
+            );
+        }
+
+        /**
+         * Whether the summary counters match, ignoring how items are spread over categories.
+         */
+        boolean sameTotals(ItemCounts other) {
+            return total == other.total && available == other.available && claimed == other.claimed
+                    && assigned == other.assigned && confirmed == other.confirmed && completed == other.completed
+                    && unclaimedMustHave == other.unclaimedMustHave
+                    && estimatedCost.compareTo(other.estimatedCost) == 0
+                    && claimedCost.compareTo(other.claimedCost) == 0;
+        }
+    }
+
+    /**
+     * Items' contribution to one category's totals; anything not AVAILABLE counts as claimed.
+     */
+    private record CategoryCounts(long items, long claimed, BigDecimal estimatedCost, BigDecimal claimedCost) {
+
+        static final CategoryCounts NONE = new CategoryCounts(0, 0, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        static CategoryCounts of(ContributionItem item) {
+            boolean taken = item.getStatus() != ContributionStatus.AVAILABLE;
+            BigDecimal cost = item.getEstimatedCost() != null ? item.getEstimatedCost() : BigDecimal.ZERO;
+            return new CategoryCounts(1, taken ? 1 : 0, cost, taken ? cost : BigDecimal.ZERO);
+        }
+
+        static Map<String, CategoryCounts> merge(Map<String, CategoryCounts> left, Map<String, CategoryCounts> right) {
+            if (right.isEmpty()) return left;
+            if (left.isEmpty()) return right;
+            Map<String, CategoryCounts> merged = new HashMap<>(left);
+            right.forEach((category, counts) -> merged.merge(category, counts, CategoryCounts::plus));
+            return merged;
+        }
+
+        CategoryCounts plus(CategoryCounts other) {
+            return new CategoryCounts(items + other.items, claimed + other.claimed,
+                    estimatedCost.add(other.estimatedCost), claimedCost.add(other.claimedCost));
+        }
+
+        boolean sameAs(CategoryCounts other) {
+            return items == other.items && claimed == other.claimed
+                    && estimatedCost.compareTo(other.estimatedCost) == 0
+                    && claimedCost.compareTo(other.claimedCost) == 0;
+        }
+    }
+
+    private ContributionItem buildItem(Event event, CreateContributionItemRequest request) {
+        return ContributionItem.builder()
+                .event(event)
+                .name(request.name())
+                .category(request.category())
+                .type(request.type())
+                .quantity(request.quantity() != null ? request.quantity() : 1)
+                .timeCommitment(request.timeCommitment())
+                .estimatedCost(request.estimatedCost())
+                .priority(request.priority() != null ? request.priority() : Priority.NICE_TO_HAVE)
+                .notes(request.notes())
+                .status(ContributionStatus.AVAILABLE)
+                .completed(false)
+                .build();
+    }
+
+    /**
+     * Inserts the items and updates the event's counters once for the whole set.
+     * Sequence ids let Hibernate send the inserts as JDBC batches.
+     */
+    private List<ContributionItem> insertItems(Event event, List<CreateContributionItemRequest> requests) {
+        List<ContributionItem> items = requests.stream()
+                .map(request -> buildItem(event, request))
+                .toList();
+        List<ContributionItem> saved = contributionItemRepository.saveAll(items);
+        applyCounters(event.getId(), ItemCounts.NONE, ItemCounts.sum(saved));
+        return saved;
+    }
+
+    /**
+     * Partial update: applies the request's non-null fields.
+     */
+    private void applyChanges(ContributionItem item, UpdateContributionItemRequest request) {
+        if (request.name() != null) item.setName(request.name());
+        if (request.category() != null) item.setCategory(request.category());
+        if (request.type() != null) item.setType(request.type());
+        if (request.quantity() != null) item.setQuantity(request.quantity());
+        if (request.timeCommitment() != null) item.setTimeCommitment(request.timeCommitment());
+        if (request.estimatedCost() != null) item.setEstimatedCost(request.estimatedCost());
+        if (request.priority() != null) item.setPriority(request.priority());
+        if (request.notes() != null) item.setNotes(request.notes());
+    }
+
+    /**
+     * Loads the items in request order, failing if any is missing or belongs to another event.
+     */
+    private Map<Long, ContributionItem> findItemsOrThrow(Long eventId, List<Long> itemIds) {
+        Map<Long, ContributionItem> found = new HashMap<>();
+        for (ContributionItem item : contributionItemRepository.findAllById(itemIds)) {
+            if (item.getEvent().getId().equals(eventId)) {
+                found.put(item.getId(), item);
+            }
+        }
+
+        Map<Long, ContributionItem> items = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long itemId : itemIds) {
+            ContributionItem item = found.get(itemId);
+            if (item == null) {
+                missing.add(itemId);
+            } else {
+                items.put(itemId, item);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Contribution items not found for this event: " + missing);
+        }
+        return items;
+    }
+
+    private static List<Long> idsWhere(Collection<ContributionItem> items, Predicate<ContributionItem> condition) {
+        return items.stream()
+                .filter(condition)
+                .map(ContributionItem::getId)
+                .toList();
+    }
+
+    /**
+     * Combines every supplied filter; blank filters are ignored.
+     */
+    private Specification<ContributionItem> filtered(Long eventId, String status, String category,
+                                                     String type, String priority) {
+        return ContributionItemSpecifications.forEvent(eventId)
+            .and(ContributionItemSpecifications.hasStatus(parseEnum(ContributionStatus.class, status, "status")))
+            .and(ContributionItemSpecifications.hasCategory(category == null || category.isBlank() ? null : category))
+            .and(ContributionItemSpecifications.hasType(parseEnum(ContributionType.class, type, "type")))
+            .and(ContributionItemSpecifications.hasPriority(parseEnum(Priority.class, priority, "priority")));
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> enumType, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Fails with a conflict when a conditional state-transition UPDATE matched no row,
+     * meaning the item was no longer in the expected state.
+     */
+    private void requireTransition(int updatedRows, String conflictMessage) {
+        requireTransition(updatedRows, 1, conflictMessage);
+    }
+
+    /**
+     * Fails the whole call, rolling back rows already changed, unless every expected row was still in its state.
+     */
+    private void requireTransition(int updatedRows, int expectedRows, String conflictMessage) {
+        if (updatedRows != expectedRows) {
+            throw new IllegalStateException(conflictMessage);
+        }
+    }
+
+    private void applyCounters(Long eventId, ItemCounts before, ItemCounts after) {
+        applyCategoryCounts(eventId, before.categories(), after.categories());
+        if (before.sameTotals(after)) {
+            return;
+        }
+        countersRepository.insertIfAbsent(eventId);
+        countersRepository.applyDelta(
+                eventId,
+                after.total() - before.total(),
+                after.available() - before.available(),
+                after.claimed() - before.claimed(),
+                after.assigned() - before.assigned(),
+                after.confirmed() - before.confirmed(),
+                after.completed() - before.completed(),
+                after.unclaimedMustHave() - before.unclaimedMustHave(),
+                after.estimatedCost().subtract(before.estimatedCost()),
+                after.claimedCost().subtract(before.claimedCost()),
+                Instant.now()
+        );
+    }
+
+    /**
+     * Moves the category index by the difference, dropping categories that no item references any more.
+     * The row usually exists, so it is only created when the update finds nothing.
+     */
+    private void applyCategoryCounts(Long eventId, Map<String, CategoryCounts> before, Map<String, CategoryCounts> after) {
+        Set<String> categories = new HashSet<>(before.keySet());
+        categories.addAll(after.keySet());
+        boolean shrunk = false;
+        Instant now = Instant.now();
+
+        for (String category : categories) {
+            CategoryCounts from = before.getOrDefault(category, CategoryCounts.NONE);
+            CategoryCounts to = after.getOrDefault(category, CategoryCounts.NONE);
+            if (from.sameAs(to)) {
+                continue;
+            }
+            long items = to.items() - from.items();
+            long claimed = to.claimed() - from.claimed();
+            BigDecimal estimatedCost = to.estimatedCost().subtract(from.estimatedCost());
+            BigDecimal claimedCost = to.claimedCost().subtract(from.claimedCost());
+            if (categoryRepository.applyDelta(eventId, category, items, claimed, estimatedCost, claimedCost, now) == 0) {
+                categoryRepository.insertIfAbsent(eventId, category);
+                categoryRepository.applyDelta(eventId, category, items, claimed, estimatedCost, claimedCost, now);
+            }
+            shrunk |= items < 0;
+        }
+        if (shrunk) {
+            categoryRepository.deleteUnreferenced(eventId);
+        }
+    }
+
+    /**
+     * Rebuilds the category rows of every event whose index no longer matches its items.
+     */
+    private long repairCategoryIndex() {
+        Map<Long, Map<String, CategoryCounts>> actual = new HashMap<>();
+        for (CategoryAggregate aggregate : contributionItemRepository.aggregateCategoriesAllEvents()) {
+            actual.computeIfAbsent(aggregate.getEventId(), id -> new HashMap<>()).put(aggregate.getCategory(),
+                    new CategoryCounts(aggregate.getItemCount(), aggregate.getClaimedCount(),
+                            aggregate.getTotalEstimatedCost(), aggregate.getClaimedCost()));
+        }
+        Map<Long, Map<String, CategoryCounts>> stored = new HashMap<>();
+        for (EventContributionCategory row : categoryRepository.findAll()) {
+            stored.computeIfAbsent(row.getEventId(), id -> new HashMap<>()).put(row.getCategory(),
+                    new CategoryCounts(row.getItemCount(), row.getClaimedCount(),
+                            row.getTotalEstimatedCost(), row.getClaimedCost()));
+        }
+
+        Set<Long> eventIds = new HashSet<>(actual.keySet());
+        eventIds.addAll(stored.keySet());
+        Instant now = Instant.now();
+        long corrected = 0;
+        for (Long eventId : eventIds) {
+            Map<String, CategoryCounts> expected = actual.getOrDefault(eventId, Map.of());
+            Map<String, CategoryCounts> found = stored.getOrDefault(eventId, Map.of());
+            boolean same = expected.keySet().equals(found.keySet())
+                    && expected.entrySet().stream().allMatch(entry -> entry.getValue().sameAs(found.get(entry.getKey())));
+            if (!same) {
+                log.warn("Contribution category drift for event {}: stored {} categories, actual {}",
+                        eventId, found.size(), expected.size());
+                categoryRepository.deleteByEventId(eventId);
+                categoryRepository.insertFromItems(eventId, now);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private boolean matches(EventContributionCounters counters, ContributionAggregate aggregate) {
+        return counters.getTotalItems() == aggregate.getTotalItems()
+                && counters.getAvailableCount() == aggregate.getAvailableCount()
+                && counters.getClaimedCount() == aggregate.getClaimedCount()
+                && counters.getAssignedCount() == aggregate.getAssignedCount()
+                && counters.getConfirmedCount() == aggregate.getConfirmedCount()
+                && counters.getCompletedCount() == aggregate.getCompletedCount()
+                && counters.getUnclaimedMustHaveCount() == aggregate.getUnclaimedMustHaveCount()
+                && counters.getTotalEstimatedCost().compareTo(aggregate.getTotalEstimatedCost()) == 0
+                && counters.getClaimedCost().compareTo(aggregate.getClaimedCost()) == 0;
+    }
+
+    private void copyAggregate(EventContributionCounters counters, ContributionAggregate aggregate) {
+        counters.setTotalItems(aggregate.getTotalItems());
+        counters.setAvailableCount(aggregate.getAvailableCount());
+        counters.setClaimedCount(aggregate.getClaimedCount());
+        counters.setAssignedCount(aggregate.getAssignedCount());
+        counters.setConfirmedCount(aggregate.getConfirmedCount());
+        counters.setCompletedCount(aggregate.getCompletedCount());
+        counters.setUnclaimedMustHaveCount(aggregate.getUnclaimedMustHaveCount());
+        counters.setTotalEstimatedCost(aggregate.getTotalEstimatedCost());
+        counters.setClaimedCost(aggregate.getClaimedCost());
+    }
+
+    private ContributionSummaryResponse toSummary(EventContributionCounters counters) {
+        return new ContributionSummaryResponse(
+                counters.getTotalItems(),
+                counters.getAvailableCount(),
+                counters.getClaimedCount(),
+                counters.getAssignedCount(),
+                counters.getConfirmedCount(),
+                counters.getCompletedCount(),
+                counters.getUnclaimedMustHaveCount(),
+                counters.getTotalEstimatedCost(),
+                counters.getClaimedCost()
+        );
+    }
+
+    private ContributionSummaryResponse toSummary(ContributionAggregate aggregate) {
+        return new ContributionSummaryResponse(
+                aggregate.getTotalItems(),
+                aggregate.getAvailableCount(),
+                aggregate.getClaimedCount(),
+                aggregate.getAssignedCount(),
+                aggregate.getConfirmedCount(),
+                aggregate.getCompletedCount(),
+                aggregate.getUnclaimedMustHaveCount(),
+                aggregate.getTotalEstimatedCost(),
+                aggregate.getClaimedCost()
+        );
+    }
+
     private Event findEventOrThrow(Long eventId) {
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
@@ -316,31 +962,88 @@ public class ContributionServiceImpl implements ContributionService {
         return item;
     }
 
-    private void verifyOrganizer(Event event, Long userId) {
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new UnauthorizedException("Only the event organizer can perform this action");
-        }
+    private void verifyOrganizer(EventAccess access) {
+        access.requireOrganizer("Only the event organizer can perform this action");
+    }
+
+    private void verifyOrganizerOrApprovedAttendee(EventAccess access) {
+        access.requireParticipant("You must be an approved attendee to view contributions");
     }
 
-    private void verifyOrganizerOrApprovedAttendee(Event event, Long userId) {
-        if (event.getOrganizer().getId().equals(userId)) return;
-        if (!attendeeRepository.existsByEventIdAndUserIdAndStatus(event.getId(), userId, AttendeeStatus.APPROVED)) {
-            throw new UnauthorizedException("You must be an approved attendee to view contributions");
+    private void verifyApprovedAttendee(EventAccess access) {
+        access.requireApproved("You must be an approved attendee to claim items");
+    }
+
+    private void verifyEventActive(EventAccess access) {
+        if (access.eventStatus() != EventStatus.ACTIVE && access.eventStatus() != EventStatus.FULL) {
+            throw new BadRequestException("Event is not accepting contribution changes");
         }
     }
 
-    private void verifyApprovedAttendee(Long eventId, Long userId) {
-        if (!attendeeRepository.existsByEventIdAndUserIdAndStatus(eventId, userId, AttendeeStatus.APPROVED)) {
-            throw new UnauthorizedException("You must be an approved attendee to claim items");
+    /**
+     * One keyset page of the user's items, ordered by event date then item id.
+     */
+    private CursorPage<MyContributionResponse> loadMyContributions(Long userId, EventCursor cursor, int limit) {
+        // Fetch limit+1 to determine if there's a next page
+        List<MyContributionRow> rows = contributionItemRepository.findActiveContributionsByUserKeyset(
+            userId,
+            cursor != null ? cursor.eventDate() : null,
+            cursor != null ? cursor.id() : null,
+            Limit.of(limit + 1)
+        );
+
+        if (rows.isEmpty()) {
+            return CursorPage.empty();
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            MyContributionRow last = rows.get(limit - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getItemId()).encode();
         }
+
+        List<MyContributionResponse> responses = rows.stream()
+            .map(row -> new MyContributionResponse(
+                row.getItemId(),
+                row.getEventId(),
+                row.getEventTitle(),
+                row.getEventDate(),
+                row.getEventLocation(),
+                row.getName(),
+                row.getCategory(),
+                row.getType(),
+                row.getQuantity(),
+                row.getTimeCommitment(),
+                row.getEstimatedCost(),
+                row.getPriority(),
+                row.getStatus(),
+                Boolean.TRUE.equals(row.getCompleted()),
+                row.getClaimedAt(),
+                row.getConfirmedAt()))
+            .toList();
+
+        return CursorPage.of(responses, nextCursor, limit);
     }
 
-    private void verifyEventActive(Event event) {
-        if (event.getStatus() != EventStatus.ACTIVE && event.getStatus() != EventStatus.FULL) {
-            throw new BadRequestException("Event is not accepting contribution changes");
+    /**
+     * Drops the cached "my contributions" page of whoever holds the item.
+     */
+    private void evictHolder(ContributionItem item) {
+        User holder = item.getAssignedTo();
+        if (holder != null) {
+            myContributions.evict(holder.getId());
         }
     }
 
+    /**
+     * Queues the change for the event's live board and returns the item's response.
+     */
+    private ContributionItemResponse broadcast(ContributionBoardChange change, ContributionItem item) {
+        ContributionItemResponse response = toResponse(item);
+        boardBroadcaster.itemChanged(change, response);
+        return response;
+    }
+
     private ContributionItemResponse toResponse(ContributionItem item) {
         User assigned = item.getAssignedTo();
         return new ContributionItemResponse(
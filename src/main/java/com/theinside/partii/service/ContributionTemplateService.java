@@ -0,0 +1,27 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.ContributionTemplateResponse;
+import com.theinside.partii.dto.CreateContributionTemplateRequest;
+import com.theinside.partii.dto.SaveEventAsTemplateRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for reusable contribution templates.
+ * Templates are private to their owner; applying one to an event lives in {@link ContributionService}.
+ */
+public interface ContributionTemplateService {
+
+    ContributionTemplateResponse createTemplate(Long userId, CreateContributionTemplateRequest request);
+
+    /**
+     * Save an event's current item list as a template (organizer only).
+     */
+    ContributionTemplateResponse saveEventAsTemplate(Long eventId, Long userId, SaveEventAsTemplateRequest request);
+
+    List<ContributionTemplateResponse> listTemplates(Long userId);
+
+    ContributionTemplateResponse getTemplate(Long templateId, Long userId);
+
+    void deleteTemplate(Long templateId, Long userId);
+}
@@ -0,0 +1,154 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.ContributionTemplateItemResponse;
+import com.theinside.partii.dto.ContributionTemplateResponse;
+import com.theinside.partii.dto.CreateContributionTemplateRequest;
+import com.theinside.partii.dto.SaveEventAsTemplateRequest;
+import com.theinside.partii.entity.ContributionTemplate;
+import com.theinside.partii.entity.ContributionTemplateItem;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.Priority;
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.exception.UnauthorizedException;
+import com.theinside.partii.repository.ContributionTemplateItemRepository;
+import com.theinside.partii.repository.ContributionTemplateRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class ContributionTemplateServiceImpl implements ContributionTemplateService {
+
+    private final ContributionTemplateRepository templateRepository;
+    private final ContributionTemplateItemRepository templateItemRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public ContributionTemplateResponse createTemplate(Long userId, CreateContributionTemplateRequest request) {
+        ContributionTemplate template = insertTemplate(userId, request.name(), request.description());
+
+        List<ContributionTemplateItem> items = templateItemRepository.saveAll(request.items().stream()
+                .map(item -> ContributionTemplateItem.builder()
+                        .template(template)
+                        .name(item.name())
+                        .category(item.category())
+                        .type(item.type())
+                        .quantity(item.quantity() != null ? item.quantity() : 1)
+                        .timeCommitment(item.timeCommitment())
+                        .estimatedCost(item.estimatedCost())
+                        .priority(item.priority() != null ? item.priority() : Priority.NICE_TO_HAVE)
+                        .notes(item.notes())
+                        .build())
+                .toList());
+
+        log.info("User {} created contribution template {} with {} items", userId, template.getId(), items.size());
+        return toResponse(template, items);
+    }
+
+    @Override
+    public ContributionTemplateResponse saveEventAsTemplate(Long eventId, Long userId,
+                                                            SaveEventAsTemplateRequest request) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        if (!event.getOrganizer().getId().equals(userId)) {
+            throw new UnauthorizedException("Only the organizer can save this event as a template");
+        }
+
+        ContributionTemplate template = insertTemplate(userId, request.name(), request.description());
+        int copied = templateItemRepository.copyFromEvent(eventId, template.getId());
+
+        log.info("User {} saved event {} as contribution template {} ({} items)", userId, eventId, template.getId(), copied);
+        return toResponse(template, templateItemRepository.findByTemplateIdOrderByIdAsc(template.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ContributionTemplateResponse> listTemplates(Long userId) {
+        List<ContributionTemplate> templates = templateRepository.findByOwnerIdOrderByNameAsc(userId);
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ContributionTemplateItem>> itemsByTemplate = templateItemRepository
+                .findByTemplateIdInOrderByIdAsc(templates.stream().map(ContributionTemplate::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getTemplate().getId()));
+
+        return templates.stream()
+                .map(template -> toResponse(template, itemsByTemplate.getOrDefault(template.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ContributionTemplateResponse getTemplate(Long templateId, Long userId) {
+        ContributionTemplate template = findTemplateOrThrow(templateId, userId);
+        return toResponse(template, templateItemRepository.findByTemplateIdOrderByIdAsc(templateId));
+    }
+
+    @Override
+    public void deleteTemplate(Long templateId, Long userId) {
+        ContributionTemplate template = findTemplateOrThrow(templateId, userId);
+        templateItemRepository.deleteByTemplateId(templateId);
+        templateRepository.delete(template);
+        log.info("User {} deleted contribution template {}", userId, templateId);
+    }
+
+    // ===== Helper methods =====
+
+    private ContributionTemplate insertTemplate(Long userId, String name, String description) {
+        if (templateRepository.existsByOwnerIdAndName(userId, name)) {
+            throw new IllegalStateException("You already have a template named '" + name + "'");
+        }
+        User owner = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return templateRepository.save(ContributionTemplate.builder()
+                .owner(owner)
+                .name(name)
+                .description(description)
+                .build());
+    }
+
+    private ContributionTemplate findTemplateOrThrow(Long templateId, Long userId) {
+        return templateRepository.findByIdAndOwnerId(templateId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Template not found"));
+    }
+
+    private ContributionTemplateResponse toResponse(ContributionTemplate template, List<ContributionTemplateItem> items) {
+        return new ContributionTemplateResponse(
+                template.getId(),
+                template.getName(),
+                template.getDescription(),
+                items.stream().map(this::toItemResponse).toList(),
+                template.getCreatedAt(),
+                template.getUpdatedAt()
+        );
+    }
+
+    private ContributionTemplateItemResponse toItemResponse(ContributionTemplateItem item) {
+        return new ContributionTemplateItemResponse(
+                item.getId(),
+                item.getName(),
+                item.getCategory(),
+                item.getType(),
+                item.getQuantity(),
+                item.getTimeCommitment(),
+                item.getEstimatedCost(),
+                item.getPriority(),
+                item.getNotes()
+        );
+    }
+}
@@ -1,13 +1,17 @@
 package com.theinside.partii.service;
 
+import com.theinside.partii.dto.CloneEventRequest;
 import com.theinside.partii.dto.CreateEventRequest;
 import com.theinside.partii.dto.CursorPage;
 import com.theinside.partii.dto.EventResponse;
 import com.theinside.partii.dto.UpdateEventRequest;
+import com.theinside.partii.enums.AttendeeStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for event operations.
@@ -85,6 +89,17 @@ public interface EventService {
      */
     EventResponse cancelEvent(Long eventId, Long userId, String reason);
 
+    /**
+     * Clone an event and its contribution items into a new draft.
+     * Attendees, payments and claim state are not copied.
+     *
+     * @param eventId the source event ID
+     * @param userId  the ID of the organizer cloning the event
+     * @param request the new date and optional title
+     * @return the cloned event response
+     */
+    EventResponse cloneEvent(Long eventId, Long userId, CloneEventRequest request);
+
     /**
      * List public events using keyset pagination (significantly faster than offset).
      *
@@ -110,4 +125,14 @@ public interface EventService {
     List<EventResponse> getMyPendingEvents(Long userId);
 
     Page<EventResponse> getMyPastEvents(Long userId, Pageable pageable);
+
+    /**
+     * Get the user's attendee status for each of the given events in a single lookup.
+     * Events the user has no request for are omitted from the result.
+     *
+     * @param userId   the user whose status to look up
+     * @param eventIds up to 100 event IDs
+     * @return attendee status keyed by event ID
+     */
+    Map<Long, AttendeeStatus> getMyEventStatuses(Long userId, Collection<Long> eventIds);
 }
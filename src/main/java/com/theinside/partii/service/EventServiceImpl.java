@@ -1,18 +1,20 @@
 package com.theinside.partii.service;
 
 import com.theinside.partii.dto.*;
-import com.theinside.partii.entity.ContributionItem;
 import com.theinside.partii.entity.Event;
 import com.theinside.partii.entity.User;
-import com.theinside.partii.enums.ContributionStatus;
+import com.theinside.partii.enums.AttendeeStatus;
 import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.exception.BadRequestException;
 import com.theinside.partii.exception.NotFoundException;
 import com.theinside.partii.exception.ResourceNotFoundException;
 import com.theinside.partii.mapper.EventMapper;
-import com.theinside.partii.repository.ContributionItemRepository;
 import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventAttendeeRepository.MembershipStatus;
 import com.theinside.partii.repository.EventRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.access.EventAccessResolver;
+import com.theinside.partii.service.contribution.MyContributionsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Limit;
@@ -21,9 +23,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of EventService.
@@ -35,11 +42,16 @@ import java.util.List;
 @Transactional
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_STATUS_LOOKUP = 100;
+
     private final EventRepository eventRepository;
     private final EventAttendeeRepository eventAttendeeRepository;
-    private final ContributionItemRepository contributionItemRepository;
     private final UserRepository userRepository;
     private final EventMapper eventMapper;
+    private final SettlementService settlementService;
+    private final ContributionService contributionService;
+    private final EventAccessResolver accessResolver;
+    private final MyContributionsCache myContributions;
 
     @Override
     @Transactional
@@ -82,13 +94,7 @@ public class EventServiceImpl implements EventService {
 
         // Create contribution items if provided
         if (request.contributionItems() != null && !request.contributionItems().isEmpty()) {
-            List<ContributionItem> items = new ArrayList<>();
-            for (CreateContributionItemRequest itemRequest : request.contributionItems()) {
-                ContributionItem item = buildContributionItem(savedEvent, itemRequest);
-                items.add(item);
-            }
-            contributionItemRepository.saveAll(items);
-            log.info("Created {} contribution items for event: {}", items.size(), savedEvent.getId());
+            contributionService.createInitialItems(savedEvent.getId(), request.contributionItems());
         }
 
         return mapToEventResponse(savedEvent);
@@ -110,22 +116,6 @@ public class EventServiceImpl implements EventService {
         return mapToEventResponse(event);
     }
 
-    private ContributionItem buildContributionItem(Event event, CreateContributionItemRequest request) {
-        return ContributionItem.builder()
-            .event(event)
-            .name(request.name())
-            .category(request.category())
-            .type(request.type())
-            .quantity(request.quantity() != null ? request.quantity() : 1)
-            .timeCommitment(request.timeCommitment())
-            .estimatedCost(request.estimatedCost())
-            .priority(request.priority() != null ? request.priority() : com.theinside.partii.enums.Priority.NICE_TO_HAVE)
-            .notes(request.notes())
-            .status(ContributionStatus.AVAILABLE)
-            .completed(false)
-            .build();
-    }
-
     @Override
     @Transactional(readOnly = true)
     public Page<EventResponse> getAllEvents(Pageable pageable) {
@@ -139,10 +129,7 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
-        // Check if user is the organizer
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new com.theinside.partii.exception.UnauthorizedException("Only the organizer can update this event");
-        }
+        accessResolver.resolve(event, userId).requireOrganizer("Only the organizer can update this event");
 
         if (request.eventDate() != null) {
             if (request.paymentDeadline() != null && request.paymentDeadline().isAfter(request.eventDate())) {
@@ -157,6 +144,9 @@ public class EventServiceImpl implements EventService {
         eventMapper.updateEventFromDto(request, event);
 
         Event updatedEvent = eventRepository.save(event);
+        accessResolver.evictEvent(eventId);
+        myContributions.evictEvent(eventId);
+        settlementService.invalidate(eventId);
         log.info("Event patched: {} by user: {}", eventId, userId);
 
         return mapToEventResponse(updatedEvent);
@@ -168,17 +158,16 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
-        // Check if user is the organizer
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new com.theinside.partii.exception.UnauthorizedException("Only the organizer can delete this event");
-        }
+        accessResolver.resolve(event, userId).requireOrganizer("Only the organizer can delete this event");
 
         // Only allow deletion if event is in DRAFT or CANCELLED status
         if (event.getStatus() != EventStatus.DRAFT && event.getStatus() != EventStatus.CANCELLED) {
             throw new IllegalStateException("Only draft or cancelled events can be deleted");
         }
 
+        contributionService.deleteEventTotals(eventId);
         eventRepository.delete(event);
+        accessResolver.evictEvent(eventId);
         log.info("Event deleted: {} by user: {}", eventId, userId);
     }
 
@@ -188,10 +177,7 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
-        // Check if user is the organizer
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new com.theinside.partii.exception.UnauthorizedException("Only the organizer can publish this event");
-        }
+        accessResolver.resolve(event, userId).requireOrganizer("Only the organizer can publish this event");
 
         // Can only publish draft events
         if (event.getStatus() != EventStatus.DRAFT) {
@@ -200,6 +186,7 @@ public class EventServiceImpl implements EventService {
 
         event.setStatus(EventStatus.ACTIVE);
         Event updatedEvent = eventRepository.save(event);
+        accessResolver.evictEvent(eventId);
         log.info("Event published: {} by user: {}", eventId, userId);
 
         return mapToEventResponse(updatedEvent);
@@ -211,10 +198,7 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
-        // Check if user is the organizer
-        if (!event.getOrganizer().getId().equals(userId)) {
-            throw new com.theinside.partii.exception.UnauthorizedException("Only the organizer can cancel this event");
-        }
+        accessResolver.resolve(event, userId).requireOrganizer("Only the organizer can cancel this event");
 
         // Cannot cancel already cancelled events
         if (event.getStatus() == EventStatus.CANCELLED) {
@@ -224,11 +208,52 @@ public class EventServiceImpl implements EventService {
         event.setStatus(EventStatus.CANCELLED);
         event.setCancellationReason(reason);
         Event updatedEvent = eventRepository.save(event);
+        accessResolver.evictEvent(eventId);
+        myContributions.evictEvent(eventId);
         log.info("Event cancelled: {} by user: {} with reason: {}", eventId, userId, reason);
 
         return mapToEventResponse(updatedEvent);
     }
 
+    @Override
+    @Transactional
+    public EventResponse cloneEvent(Long eventId, Long userId, CloneEventRequest request) {
+        Event source = eventRepository.findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+
+        accessResolver.resolve(source, userId).requireOrganizer("Only the organizer can clone this event");
+
+        // Deadlines keep their distance from the event date
+        Duration shift = Duration.between(source.getEventDate(), request.eventDate());
+
+        Event clone = Event.builder()
+            .organizer(source.getOrganizer())
+            .title(request.title() != null ? request.title() : source.getTitle())
+            .description(source.getDescription())
+            .eventType(source.getEventType())
+            .locationAddress(source.getLocationAddress())
+            .latitude(source.getLatitude())
+            .longitude(source.getLongitude())
+            .eventDate(request.eventDate())
+            .imageUrl(source.getImageUrl())
+            .estimatedBudget(source.getEstimatedBudget())
+            .currency(source.getCurrency())
+            .maxAttendees(source.getMaxAttendees())
+            .currentAttendees(0)
+            .ageRestriction(source.getAgeRestriction())
+            .paymentDeadline(source.getPaymentDeadline() != null ? source.getPaymentDeadline().plus(shift) : null)
+            .joinDeadline(source.getJoinDeadline() != null ? source.getJoinDeadline().plus(shift) : null)
+            .visibility(source.getVisibility())
+            .status(EventStatus.DRAFT)
+            .build();
+
+        Event savedEvent = eventRepository.save(clone);
+        int copied = contributionService.copyItems(eventId, savedEvent.getId());
+        log.info("Event {} cloned to {} with {} contribution items by user: {}", eventId, savedEvent.getId(), copied, userId);
+
+        return mapToEventResponse(savedEvent);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CursorPage<EventResponse> getPublicEvents(String cursorString, int limit) {
@@ -332,6 +357,21 @@ public class EventServiceImpl implements EventService {
             .map(ea -> mapToEventResponse(ea.getEvent()));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, AttendeeStatus> getMyEventStatuses(Long userId, Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> distinctIds = new HashSet<>(eventIds);
+        if (distinctIds.size() > MAX_STATUS_LOOKUP) {
+            throw new BadRequestException("Cannot look up more than " + MAX_STATUS_LOOKUP + " events at once");
+        }
+
+        return eventAttendeeRepository.findStatusesByUserIdAndEventIds(userId, distinctIds).stream()
+            .collect(Collectors.toMap(MembershipStatus::getEventId, MembershipStatus::getStatus));
+    }
+
     private EventResponse mapToEventResponse(Event event) {
         return new EventResponse(
             event.getId(),
@@ -0,0 +1,49 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.EventPaymentTotalsResponse;
+import com.theinside.partii.dto.PaymentImportResponse;
+import com.theinside.partii.dto.PaymentLedgerEntryResponse;
+import com.theinside.partii.dto.PaymentResponse;
+import com.theinside.partii.dto.RecordPaymentRequest;
+import com.theinside.partii.enums.PaymentImportFormat;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for attendee payments.
+ * Payments are written to an append-only ledger; per-attendee and per-event totals
+ * are maintained incrementally in the same transaction.
+ */
+public interface PaymentService {
+
+    /**
+     * Record a payment from an approved attendee. Only the organizer can record payments.
+     * Replaying a request with the same idempotency key returns the original entry.
+     */
+    PaymentResponse recordPayment(Long eventId, Long userId, Long organizerId, RecordPaymentRequest request);
+
+    /**
+     * Record payments in bulk from a CSV or NDJSON upload. Only the organizer can import payments.
+     * Each row's reference doubles as its idempotency key, so re-importing a statement is a no-op
+     * for rows already recorded. Returns an outcome for every row.
+     */
+    PaymentImportResponse importPayments(Long eventId, Long organizerId, InputStream input, PaymentImportFormat format);
+
+    /**
+     * Get the running payment totals for an event. Only the organizer can view totals.
+     */
+    EventPaymentTotalsResponse getPaymentTotals(Long eventId, Long organizerId);
+
+    /**
+     * List ledger entries for an event, newest first. Only the organizer can view the ledger.
+     */
+    Page<PaymentLedgerEntryResponse> getLedger(Long eventId, Long organizerId, Pageable pageable);
+
+    /**
+     * Rebuild per-event and per-attendee totals from the ledger, correcting any drift.
+     * @return the number of totals rows that were corrected
+     */
+    long reconcileTotals();
+}
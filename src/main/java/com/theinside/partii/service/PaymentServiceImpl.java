@@ -0,0 +1,339 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.EventPaymentTotalsResponse;
+import com.theinside.partii.dto.PaymentImportResponse;
+import com.theinside.partii.dto.PaymentImportRowResult;
+import com.theinside.partii.dto.PaymentLedgerEntryResponse;
+import com.theinside.partii.dto.PaymentResponse;
+import com.theinside.partii.dto.RecordPaymentRequest;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.EventPaymentTotals;
+import com.theinside.partii.entity.PaymentLedgerEntry;
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.PaymentImportFormat;
+import com.theinside.partii.enums.PaymentImportRowStatus;
+import com.theinside.partii.exception.BadRequestException;
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.exception.UnauthorizedException;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventAttendeeRepository.AttendeeMatch;
+import com.theinside.partii.repository.EventPaymentTotalsRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.PaymentBatchRepository;
+import com.theinside.partii.repository.PaymentBatchRepository.LedgerInsert;
+import com.theinside.partii.repository.PaymentLedgerRepository;
+import com.theinside.partii.repository.PaymentLedgerRepository.AttendeeLedgerAggregate;
+import com.theinside.partii.repository.PaymentLedgerRepository.LedgerAggregate;
+import com.theinside.partii.repository.PaymentLedgerRepository.LedgerKey;
+import com.theinside.partii.utils.PaymentImportReader;
+import com.theinside.partii.utils.PaymentImportReader.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+public class PaymentServiceImpl implements PaymentService {
+
+    private static final int IMPORT_CHUNK_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventAttendeeRepository attendeeRepository;
+    private final PaymentLedgerRepository ledgerRepository;
+    private final EventPaymentTotalsRepository totalsRepository;
+    private final PaymentBatchRepository batchRepository;
+    private final SettlementService settlementService;
+
+    @Override
+    public PaymentResponse recordPayment(Long eventId, Long userId, Long organizerId, RecordPaymentRequest request) {
+        Event event = findEventOrThrow(eventId);
+        verifyOrganizer(event, organizerId);
+
+        // Lock the attendee row first so concurrent writes for the same attendee serialize
+        EventAttendee attendee = attendeeRepository.findByEventIdAndUserIdForUpdate(eventId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Attendee not found for this event"));
+
+        var existing = ledgerRepository.findByEventIdAndIdempotencyKey(eventId, request.idempotencyKey());
+        if (existing.isPresent()) {
+            PaymentLedgerEntry entry = existing.get();
+            if (!entry.getAttendee().getId().equals(attendee.getId())
+                    || entry.getAmount().compareTo(request.amount()) != 0) {
+                throw new IllegalStateException("Idempotency key has already been used for a different payment");
+            }
+            log.info("Replayed payment {} for user {} in event {}", entry.getId(), userId, eventId);
+            return toResponse(entry, attendee, userId, true);
+        }
+
+        if (!attendee.isApproved()) {
+            throw new BadRequestException("Payments can only be recorded for approved attendees");
+        }
+
+        attendee.recordPayment(request.amount());
+
+        PaymentLedgerEntry entry = ledgerRepository.save(PaymentLedgerEntry.builder()
+            .event(event)
+            .attendee(attendee)
+            .amount(request.amount())
+            .idempotencyKey(request.idempotencyKey())
+            .reference(request.reference())
+            .recordedBy(organizerId)
+            .build());
+
+        totalsRepository.insertIfAbsent(eventId);
+        totalsRepository.increment(eventId, request.amount(), 1, Instant.now());
+        settlementService.paymentRecorded(eventId, userId, request.amount());
+
+        log.info("Organizer {} recorded payment {} of {} for user {} in event {}",
+            organizerId, entry.getId(), request.amount(), userId, eventId);
+        return toResponse(entry, attendee, userId, false);
+    }
+
+    @Override
+    public PaymentImportResponse importPayments(Long eventId, Long organizerId, InputStream input,
+                                                PaymentImportFormat format) {
+        Event event = findEventOrThrow(eventId);
+        verifyOrganizer(event, organizerId);
+
+        PaymentImportReader reader = new PaymentImportReader(input, format);
+        List<PaymentImportRowResult> results = new ArrayList<>();
+        Set<String> importedKeys = new HashSet<>();
+        BigDecimal amountApplied = BigDecimal.ZERO;
+        Instant now = Instant.now();
+
+        try {
+            List<Row> chunk;
+            while (!(chunk = reader.nextChunk(IMPORT_CHUNK_SIZE)).isEmpty()) {
+                amountApplied = amountApplied.add(
+                    importChunk(eventId, organizerId, chunk, importedKeys, results, now));
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file");
+        }
+
+        long applied = results.stream().filter(r -> r.status() == PaymentImportRowStatus.APPLIED).count();
+        long duplicates = results.stream().filter(r -> r.status() == PaymentImportRowStatus.DUPLICATE).count();
+        if (applied > 0) {
+            settlementService.invalidate(eventId);
+        }
+
+        log.info("Organizer {} imported {} payment rows for event {}: {} applied ({}), {} duplicates",
+            organizerId, results.size(), eventId, applied, amountApplied, duplicates);
+        return new PaymentImportResponse(
+            results.size(), applied, duplicates, results.size() - applied - duplicates, amountApplied, results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventPaymentTotalsResponse getPaymentTotals(Long eventId, Long organizerId) {
+        Event event = findEventOrThrow(eventId);
+        verifyOrganizer(event, organizerId);
+
+        return totalsRepository.findById(eventId)
+            .map(totals -> new EventPaymentTotalsResponse(
+                eventId, totals.getTotalPaid(), totals.getEntryCount(), totals.getUpdatedAt()))
+            .orElseGet(() -> new EventPaymentTotalsResponse(eventId, BigDecimal.ZERO, 0, null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PaymentLedgerEntryResponse> getLedger(Long eventId, Long organizerId, Pageable pageable) {
+        Event event = findEventOrThrow(eventId);
+        verifyOrganizer(event, organizerId);
+
+        return ledgerRepository.findByEventIdOrderByIdDesc(eventId, pageable)
+            .map(entry -> new PaymentLedgerEntryResponse(
+                entry.getId(),
+                entry.getAttendee().getId(),
+                entry.getAmount(),
+                entry.getReference(),
+                entry.getIdempotencyKey(),
+                entry.getRecordedBy(),
+                entry.getCreatedAt()
+            ));
+    }
+
+    @Override
+    public long reconcileTotals() {
+        long corrected = 0;
+
+        for (LedgerAggregate aggregate : ledgerRepository.aggregateByEvent()) {
+            Long eventId = aggregate.getEventId();
+            EventPaymentTotals totals = totalsRepository.findById(eventId)
+                .orElseGet(() -> EventPaymentTotals.builder().eventId(eventId).build());
+
+            if (totals.getTotalPaid().compareTo(aggregate.getTotal()) != 0
+                    || totals.getEntryCount() != aggregate.getEntryCount()) {
+                log.warn("Payment totals drift for event {}: stored {} ({} entries), ledger {} ({} entries)",
+                    eventId, totals.getTotalPaid(), totals.getEntryCount(),
+                    aggregate.getTotal(), aggregate.getEntryCount());
+                totals.setTotalPaid(aggregate.getTotal());
+                totals.setEntryCount(aggregate.getEntryCount());
+                totalsRepository.save(totals);
+                corrected++;
+            }
+
+            corrected += reconcileAttendees(eventId);
+        }
+
+        return corrected;
+    }
+
+    // ===== Helper methods =====
+
+    /**
+     * Matches and applies one chunk of import rows with a fixed number of queries:
+     * one attendee lookup, one ledger key lookup, and batched ledger and attendee writes.
+     * @return the total amount applied from this chunk
+     */
+    private BigDecimal importChunk(Long eventId, Long organizerId, List<Row> chunk, Set<String> importedKeys,
+                                   List<PaymentImportRowResult> results, Instant now) {
+        Set<Long> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> references = new HashSet<>();
+        for (Row row : chunk) {
+            if (row.isValid()) {
+                if (row.attendeeId() != null) {
+                    ids.add(row.attendeeId());
+                } else {
+                    emails.add(row.email());
+                }
+                references.add(row.reference());
+            }
+        }
+        if (references.isEmpty()) {
+            chunk.forEach(row -> results.add(rowResult(row, PaymentImportRowStatus.INVALID, null, row.error())));
+            return BigDecimal.ZERO;
+        }
+
+        // Sentinels keep the IN lists non-empty without matching anything
+        Map<Long, AttendeeMatch> byId = new HashMap<>();
+        Map<String, AttendeeMatch> byEmail = new HashMap<>();
+        for (AttendeeMatch match : attendeeRepository.findImportMatches(eventId,
+                ids.isEmpty() ? Set.of(-1L) : ids, emails.isEmpty() ? Set.of("") : emails)) {
+            byId.put(match.getId(), match);
+            byEmail.put(match.getEmail(), match);
+        }
+
+        Set<String> existingKeys = new HashSet<>();
+        for (LedgerKey key : ledgerRepository.findExistingKeys(eventId, references)) {
+            existingKeys.add(key.getIdempotencyKey());
+            if (key.getReference() != null) {
+                existingKeys.add(key.getReference());
+            }
+        }
+
+        List<LedgerInsert> inserts = new ArrayList<>();
+        Map<Long, BigDecimal> amountsByAttendee = new LinkedHashMap<>();
+        BigDecimal chunkTotal = BigDecimal.ZERO;
+
+        for (Row row : chunk) {
+            if (!row.isValid()) {
+                results.add(rowResult(row, PaymentImportRowStatus.INVALID, null, row.error()));
+                continue;
+            }
+            if (existingKeys.contains(row.reference()) || importedKeys.contains(row.reference())) {
+                results.add(rowResult(row, PaymentImportRowStatus.DUPLICATE, null,
+                    "Payment with this reference has already been recorded"));
+                continue;
+            }
+
+            AttendeeMatch match = row.attendeeId() != null ? byId.get(row.attendeeId()) : byEmail.get(row.email());
+            if (match == null) {
+                results.add(rowResult(row, PaymentImportRowStatus.NOT_FOUND, null, "Attendee not found for this event"));
+                continue;
+            }
+            if (match.getStatus() != AttendeeStatus.APPROVED) {
+                results.add(rowResult(row, PaymentImportRowStatus.NOT_APPROVED, match.getId(),
+                    "Payments can only be recorded for approved attendees"));
+                continue;
+            }
+
+            importedKeys.add(row.reference());
+            inserts.add(new LedgerInsert(match.getId(), row.amount(), row.reference(), row.reference()));
+            amountsByAttendee.merge(match.getId(), row.amount(), BigDecimal::add);
+            chunkTotal = chunkTotal.add(row.amount());
+            results.add(rowResult(row, PaymentImportRowStatus.APPLIED, match.getId(), null));
+        }
+
+        if (!inserts.isEmpty()) {
+            batchRepository.insertLedgerEntries(eventId, organizerId, inserts, now);
+            batchRepository.applyAttendeePayments(amountsByAttendee);
+            totalsRepository.insertIfAbsent(eventId);
+            totalsRepository.increment(eventId, chunkTotal, inserts.size(), now);
+        }
+        return chunkTotal;
+    }
+
+    private PaymentImportRowResult rowResult(Row row, PaymentImportRowStatus status, Long attendeeId, String message) {
+        return new PaymentImportRowResult(row.line(), status, attendeeId, row.amount(), row.reference(), message);
+    }
+
+    private long reconcileAttendees(Long eventId) {
+        Map<Long, BigDecimal> ledgerTotals = ledgerRepository.aggregateByAttendee(eventId).stream()
+            .collect(Collectors.toMap(AttendeeLedgerAggregate::getAttendeeId, AttendeeLedgerAggregate::getTotal));
+
+        Map<Long, EventAttendee> attendees = attendeeRepository.findAllById(ledgerTotals.keySet()).stream()
+            .collect(Collectors.toMap(EventAttendee::getId, Function.identity()));
+
+        long corrected = 0;
+        for (Map.Entry<Long, BigDecimal> ledgerTotal : ledgerTotals.entrySet()) {
+            EventAttendee attendee = attendees.get(ledgerTotal.getKey());
+            if (attendee != null && attendee.getAmountPaid().compareTo(ledgerTotal.getValue()) != 0) {
+                log.warn("Amount paid drift for attendee {} in event {}: stored {}, ledger {}",
+                    attendee.getId(), eventId, attendee.getAmountPaid(), ledgerTotal.getValue());
+                attendee.applyLedgerTotal(ledgerTotal.getValue());
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            settlementService.invalidate(eventId);
+        }
+        return corrected;
+    }
+
+    private Event findEventOrThrow(Long eventId) {
+        return eventRepository.findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+    }
+
+    private void verifyOrganizer(Event event, Long userId) {
+        if (!event.getOrganizer().getId().equals(userId)) {
+            throw new UnauthorizedException("Only the organizer can manage payments");
+        }
+    }
+
+    private PaymentResponse toResponse(PaymentLedgerEntry entry, EventAttendee attendee, Long userId, boolean replayed) {
+        return new PaymentResponse(
+            entry.getId(),
+            attendee.getEvent().getId(),
+            userId,
+            entry.getAmount(),
+            entry.getReference(),
+            entry.getIdempotencyKey(),
+            entry.getCreatedAt(),
+            attendee.getAmountPaid(),
+            attendee.getPaymentStatus(),
+            replayed
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.SettlementResponse;
+
+import java.math.BigDecimal;
+
+/**
+ * Service interface for event cost splitting.
+ * Settlements are cached per event and kept current as payments and contributions change.
+ */
+public interface SettlementService {
+
+    /**
+     * Get who owes whom for an event. Available to the organizer and approved attendees.
+     */
+    SettlementResponse getSettlement(Long eventId, Long userId);
+
+    /**
+     * Apply a recorded payment to the cached settlement once the current transaction commits.
+     */
+    void paymentRecorded(Long eventId, Long userId, BigDecimal amount);
+
+    /**
+     * Drop the cached settlement once the current transaction commits, so the next read rebuilds it.
+     */
+    void invalidate(Long eventId);
+}
@@ -0,0 +1,191 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.SettlementResponse;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.ContributionItemRepository.UserCostTotal;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventAttendeeRepository.SettlementInput;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.service.access.EventAccessResolver;
+import com.theinside.partii.service.settlement.EventBalances;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Settlements are computed from balances cached per event. Changes made through this instance update or drop
+ * them as they commit; {@code partii.settlement.ttl} bounds how long payments and contribution changes made on
+ * other instances take to show here.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SettlementServiceImpl implements SettlementService {
+
+    private final EventRepository eventRepository;
+    private final EventAttendeeRepository attendeeRepository;
+    private final ContributionItemRepository contributionItemRepository;
+    private final EventAccessResolver accessResolver;
+
+    private static final int MAX_EVENTS = 10_000;
+
+    @Value("${partii.settlement.ttl:PT1M}")
+    private Duration ttl;
+
+    private final Map<Long, CachedSettlement> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every change so a rebuild that raced with a change is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private static final class CachedSettlement {
+        final EventBalances balances;
+        final long loadedGeneration;
+        final long expiresAt;
+        SettlementResponse result;
+
+        CachedSettlement(EventBalances balances, long loadedGeneration, long expiresAt) {
+            this.balances = balances;
+            this.loadedGeneration = loadedGeneration;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Override
+    public SettlementResponse getSettlement(Long eventId, Long userId) {
+        Event event = eventRepository.findById(eventId)
+            .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        verifyParticipant(event, userId);
+
+        CachedSettlement cached = cache.get(eventId);
+        if (cached == null || cached.expiresAt - System.nanoTime() <= 0) {
+            long startGeneration = generation.get();
+            cached = new CachedSettlement(loadBalances(event), startGeneration, System.nanoTime() + ttl.toNanos());
+            remember(eventId, cached, startGeneration);
+        }
+
+        synchronized (cached) {
+            if (cached.result == null) {
+                cached.result = cached.balances.settle();
+            }
+            return cached.result;
+        }
+    }
+
+    /**
+     * Applies the payment to the cached balances once it commits. Balances loaded after the commit began may
+     * already include it, so only those loaded before get the delta; later ones are dropped and rebuilt.
+     */
+    @Override
+    public void paymentRecorded(Long eventId, Long userId, BigDecimal amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.incrementAndGet();
+            cache.remove(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long committingGeneration;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committingGeneration = generation.incrementAndGet();
+            }
+
+            @Override
+            public void afterCommit() {
+                applyPayment(eventId, userId, amount, committingGeneration);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long eventId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            cache.remove(eventId);
+        });
+    }
+
+    // ===== Helper methods =====
+
+    /**
+     * Caches freshly loaded balances unless a change committed since they were loaded. The generation is checked
+     * again after the put: a payment that completes before it would find no entry to correct, so the entry is
+     * dropped instead, while one that starts after it sees the entry and corrects it.
+     */
+    private void remember(Long eventId, CachedSettlement loaded, long startGeneration) {
+        if (!ttl.isPositive() || generation.get() != startGeneration) {
+            return;
+        }
+        if (cache.size() >= MAX_EVENTS) {
+            log.debug("Settlement cache full, clearing {} events", cache.size());
+            cache.clear();
+        }
+        cache.put(eventId, loaded);
+        if (generation.get() != startGeneration) {
+            cache.remove(eventId, loaded);
+        }
+    }
+
+    private void applyPayment(Long eventId, Long userId, BigDecimal amount, long committingGeneration) {
+        generation.incrementAndGet();
+        CachedSettlement cached = cache.get(eventId);
+        if (cached == null) {
+            return;
+        }
+        synchronized (cached) {
+            if (cached.loadedGeneration < committingGeneration && cached.balances.applyPayment(userId, amount)) {
+                cached.result = null;
+                return;
+            }
+        }
+        cache.remove(eventId, cached);
+    }
+
+    private EventBalances loadBalances(Event event) {
+        EventBalances balances = new EventBalances(
+            event.getId(), event.getOrganizer().getId(), event.getCurrency(), event.getEstimatedBudget());
+
+        for (SettlementInput input : attendeeRepository.findSettlementInputs(event.getId())) {
+            balances.addAttendee(input.getUserId(), input.getPaymentAmount(), input.getAmountPaid());
+        }
+        for (UserCostTotal brought : contributionItemRepository.sumConfirmedCostByUser(event.getId())) {
+            balances.addBroughtCost(brought.getUserId(), brought.getTotal());
+        }
+
+        log.debug("Rebuilt settlement balances for event {}", event.getId());
+        return balances;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void verifyParticipant(Event event, Long userId) {
+        accessResolver.resolve(event, userId)
+            .requireParticipant("Only the organizer and approved attendees can view the settlement");
+    }
+}
@@ -0,0 +1,120 @@
+package com.theinside.partii.service.access;
+
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approved attendee ids per event, so membership checks are in-memory lookups.
+ * <p>
+ * An event's set is loaded from the database the first time it is checked and then kept in step
+ * write-through: approvals are added after their transaction commits, while removals take effect
+ * immediately as well, so access is never granted before the database grants it. Nothing is persisted,
+ * so a restarted instance starts from the database.
+ * <p>
+ * Write-through only reaches this instance. Sets are reloaded after {@code partii.event-access.member-ttl},
+ * which bounds how long a removal made on another instance (or by a bulk update) leaves access in place here.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ApprovedMemberCache {
+
+    private static final int MAX_EVENTS = 10_000;
+
+    private final EventAttendeeRepository attendeeRepository;
+
+    @Value("${partii.event-access.member-ttl:PT15S}")
+    private Duration memberTtl;
+
+    private final Map<Long, Entry> members = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every change so a load that raced with a change is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Entry(LongHashSet approved, long expiresAt) {
+
+        Entry with(Long userId) {
+            return new Entry(approved.with(userId), expiresAt);
+        }
+
+        Entry without(Long userId) {
+            return new Entry(approved.without(userId), expiresAt);
+        }
+    }
+
+    public boolean contains(Long eventId, Long userId) {
+        Entry entry = members.get(eventId);
+        LongHashSet approved = entry != null && entry.expiresAt() - System.nanoTime() > 0
+                ? entry.approved()
+                : load(eventId);
+        return approved.contains(userId);
+    }
+
+    public void add(Long eventId, Long userId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            members.computeIfPresent(eventId, (id, entry) -> entry.with(userId));
+        });
+    }
+
+    public void remove(Long eventId, Long userId) {
+        Runnable removal = () -> {
+            generation.incrementAndGet();
+            members.computeIfPresent(eventId, (id, entry) -> entry.without(userId));
+        };
+        removal.run();
+        afterCommit(removal);
+    }
+
+    public void evict(Long eventId) {
+        Runnable eviction = () -> {
+            generation.incrementAndGet();
+            members.remove(eventId);
+        };
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    // ===== Helper methods =====
+
+    private LongHashSet load(Long eventId) {
+        long startGeneration = generation.get();
+        LongHashSet approved = LongHashSet.of(
+            attendeeRepository.findUserIdsByEventIdAndStatus(eventId, AttendeeStatus.APPROVED));
+
+        if (generation.get() == startGeneration) {
+            if (members.size() >= MAX_EVENTS) {
+                log.debug("Approved member cache full, clearing {} events", members.size());
+                members.clear();
+            }
+            members.put(eventId, new Entry(approved, System.nanoTime() + memberTtl.toNanos()));
+        }
+        return approved;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package com.theinside.partii.service.access;
+
+import com.theinside.partii.enums.EventRole;
+import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.exception.UnauthorizedException;
+
+/**
+ * A user's role on an event together with the event facts most checks need next to it.
+ */
+public record EventAccess(Long eventId, Long organizerId, EventStatus eventStatus, EventRole role) {
+
+    public boolean isOrganizer() {
+        return role == EventRole.ORGANIZER;
+    }
+
+    public boolean isApproved() {
+        return role == EventRole.APPROVED;
+    }
+
+    public boolean isParticipant() {
+        return isOrganizer() || isApproved();
+    }
+
+    public void requireOrganizer(String message) {
+        if (!isOrganizer()) {
+            throw new UnauthorizedException(message);
+        }
+    }
+
+    public void requireApproved(String message) {
+        if (!isApproved()) {
+            throw new UnauthorizedException(message);
+        }
+    }
+
+    public void requireParticipant(String message) {
+        if (!isParticipant()) {
+            throw new UnauthorizedException(message);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.theinside.partii.service.access;
+
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.enums.EventRole;
+import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.EventRepository.AccessRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Resolves a user's role on an event once per request.
+ * <p>
+ * Results are memoized on the current HTTP request, so the several checks one call makes (and any services it
+ * calls) share a single lookup. Across requests, each event's organizer and status are kept for
+ * {@code partii.event-access.event-ttl} and approved attendees come from {@link ApprovedMemberCache}, so an
+ * organizer or approved attendee is resolved without touching the database. Event and membership changes made
+ * through the services update both write-through on this instance; the TTLs bound how long changes made on
+ * other instances, or by bulk updates that bypass the services, take to apply here.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EventAccessResolver {
+
+    private static final String REQUEST_MEMO = EventAccessResolver.class.getName() + ".MEMO";
+    private static final int MAX_EVENTS = 10_000;
+
+    private final EventRepository eventRepository;
+    private final EventAttendeeRepository attendeeRepository;
+    private final ApprovedMemberCache approvedMembers;
+
+    @Value("${partii.event-access.event-ttl:PT1M}")
+    private Duration eventTtl;
+
+    private final Map<Long, EventFacts> events = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every eviction so a lookup that raced with a change is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Key(Long eventId, Long userId) { }
+
+    private record EventFacts(Long organizerId, EventStatus status, long expiresAt) { }
+
+    /**
+     * The user's access to the event, or {@link ResourceNotFoundException} if there is no event.
+     * Costs at most one query, and none once the event is cached and the user organizes it or is approved.
+     */
+    public EventAccess resolve(Long eventId, Long userId) {
+        Key key = new Key(eventId, userId);
+        Map<Key, EventAccess> memo = requestMemo();
+        EventAccess access = memo != null ? memo.get(key) : null;
+        if (access != null) {
+            return access;
+        }
+
+        EventFacts facts = cachedFacts(eventId);
+        if (facts != null) {
+            access = new EventAccess(eventId, facts.organizerId(), facts.status(),
+                roleOf(eventId, facts.organizerId(), userId));
+        } else {
+            long startGeneration = generation.get();
+            AccessRow row = eventRepository.findAccess(eventId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+            rememberFacts(eventId, row.getOrganizerId(), row.getEventStatus(), startGeneration);
+            EventRole role = row.getOrganizerId().equals(userId) ? EventRole.ORGANIZER : EventRole.of(row.getAttendeeStatus());
+            access = new EventAccess(eventId, row.getOrganizerId(), row.getEventStatus(), role);
+        }
+
+        if (memo != null) {
+            memo.put(key, access);
+        }
+        return access;
+    }
+
+    /**
+     * The user's access to an event the caller has already loaded, which also refreshes the cached event.
+     */
+    public EventAccess resolve(Event event, Long userId) {
+        Key key = new Key(event.getId(), userId);
+        Map<Key, EventAccess> memo = requestMemo();
+        EventAccess access = memo != null ? memo.get(key) : null;
+        if (access != null && access.eventStatus() == event.getStatus()) {
+            return access;
+        }
+
+        Long organizerId = event.getOrganizer().getId();
+        rememberFacts(event.getId(), organizerId, event.getStatus(), generation.get());
+        access = new EventAccess(event.getId(), organizerId, event.getStatus(), roleOf(event.getId(), organizerId, userId));
+
+        if (memo != null) {
+            memo.put(key, access);
+        }
+        return access;
+    }
+
+    /**
+     * Records an approval; the user gains access once the transaction commits.
+     */
+    public void approved(Long eventId, Long userId) {
+        evict(eventId, userId);
+        approvedMembers.add(eventId, userId);
+    }
+
+    /**
+     * Records that the user is no longer approved, e.g. after a removal or decline; access ends immediately.
+     */
+    public void unapproved(Long eventId, Long userId) {
+        evict(eventId, userId);
+        approvedMembers.remove(eventId, userId);
+    }
+
+    /**
+     * Forgets this request's answer for one user, e.g. after their open request changed.
+     */
+    public void evict(Long eventId, Long userId) {
+        Key key = new Key(eventId, userId);
+        forgetInRequest(memo -> memo.remove(key));
+    }
+
+    /**
+     * Forgets everything known about an event, e.g. after its status changed or it was deleted.
+     */
+    public void evictEvent(Long eventId) {
+        forgetInRequest(memo -> memo.keySet().removeIf(key -> key.eventId().equals(eventId)));
+        approvedMembers.evict(eventId);
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            events.remove(eventId);
+        });
+    }
+
+    // ===== Helper methods =====
+
+    private EventRole roleOf(Long eventId, Long organizerId, Long userId) {
+        if (organizerId.equals(userId)) {
+            return EventRole.ORGANIZER;
+        }
+        if (approvedMembers.contains(eventId, userId)) {
+            return EventRole.APPROVED;
+        }
+        // Only callers the cache would turn away pay for a query, which also tells pending from none
+        return EventRole.of(attendeeRepository.findStatusByEventIdAndUserId(eventId, userId).orElse(null));
+    }
+
+    private EventFacts cachedFacts(Long eventId) {
+        EventFacts facts = events.get(eventId);
+        if (facts != null && facts.expiresAt() - System.nanoTime() <= 0) {
+            events.remove(eventId, facts);
+            return null;
+        }
+        return facts;
+    }
+
+    private void rememberFacts(Long eventId, Long organizerId, EventStatus status, long startGeneration) {
+        if (!eventTtl.isPositive() || generation.get() != startGeneration) {
+            return;
+        }
+        if (events.size() >= MAX_EVENTS) {
+            long now = System.nanoTime();
+            events.values().removeIf(facts -> facts.expiresAt() - now <= 0);
+            if (events.size() >= MAX_EVENTS) {
+                log.debug("Event access cache full, clearing {} events", events.size());
+                events.clear();
+            }
+        }
+        events.put(eventId, new EventFacts(organizerId, status, System.nanoTime() + eventTtl.toNanos()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, EventAccess> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Key, EventAccess> memo = (Map<Key, EventAccess>) attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo;
+    }
+
+    private void forgetInRequest(Consumer<Map<Key, EventAccess>> action) {
+        Map<Key, EventAccess> memo = requestMemo();
+        if (memo != null) {
+            action.accept(memo);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        // Drop it now too, so nothing in this transaction reuses an entry it is about to make stale
+        action.run();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.theinside.partii.service.access;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of positive longs in a single open-addressed {@code long[]}, without boxing.
+ * <p>
+ * Zero marks an empty slot, so only ids greater than zero can be stored. Updates return a copy,
+ * which suits sets that are read far more often than they change.
+ */
+final class LongHashSet {
+
+    static final LongHashSet EMPTY = new LongHashSet(new long[4], 0);
+
+    private final long[] slots;
+    private final int size;
+
+    private LongHashSet(long[] slots, int size) {
+        this.slots = slots;
+        this.size = size;
+    }
+
+    static LongHashSet of(Collection<Long> values) {
+        long[] slots = new long[capacityFor(values.size())];
+        int size = 0;
+        for (Long value : values) {
+            if (insert(slots, value)) {
+                size++;
+            }
+        }
+        return new LongHashSet(slots, size);
+    }
+
+    boolean contains(long value) {
+        int mask = slots.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            long slot = slots[i];
+            if (slot == value) {
+                return value != 0;
+            }
+            if (slot == 0) {
+                return false;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    LongHashSet with(long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Only positive values can be stored: " + value);
+        }
+        if (contains(value)) {
+            return this;
+        }
+        long[] copy = rehash(capacityFor(size + 1), 0);
+        insert(copy, value);
+        return new LongHashSet(copy, size + 1);
+    }
+
+    LongHashSet without(long value) {
+        if (!contains(value)) {
+            return this;
+        }
+        return new LongHashSet(rehash(capacityFor(size - 1), value), size - 1);
+    }
+
+    // ===== Helper methods =====
+
+    private long[] rehash(int capacity, long skip) {
+        long[] copy = new long[capacity];
+        for (long slot : slots) {
+            if (slot != 0 && slot != skip) {
+                insert(copy, slot);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Power of two with the load factor at or below one half, so every probe meets an empty slot.
+     */
+    private static int capacityFor(int size) {
+        int capacity = 4;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static boolean insert(long[] slots, long value) {
+        int mask = slots.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            if (slots[i] == value) {
+                return false;
+            }
+            if (slots[i] == 0) {
+                slots[i] = value;
+                return true;
+            }
+        }
+    }
+
+    private static int hash(long value) {
+        int h = (int) (value ^ (value >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,109 @@
+package com.theinside.partii.service.board;
+
+import com.theinside.partii.dto.ContributionBoardDelta;
+import com.theinside.partii.dto.ContributionItemResponse;
+import com.theinside.partii.enums.ContributionBoardChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Publishes committed contribution changes to {@code /topic/events/{eventId}/contributions}.
+ * <p>
+ * Each event has its own sequence, assigned after commit and sent under a per-event lock
+ * so topic order matches sequence order. Sequences live in memory, so the epoch changes
+ * on restart and tells clients to reload the snapshot.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ContributionBoardBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    public static String topic(Long eventId) {
+        return "/topic/events/" + eventId + "/contributions";
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * The sequence of the last delta broadcast for the event.
+     */
+    public long currentSequence(Long eventId) {
+        AtomicLong sequence = sequences.get(eventId);
+        return sequence != null ? sequence.get() : 0;
+    }
+
+    /**
+     * Broadcasts the item's new state once the current transaction commits.
+     */
+    public void itemChanged(ContributionBoardChange change, ContributionItemResponse item) {
+        boolean carriesItem = change == ContributionBoardChange.CREATED || change == ContributionBoardChange.UPDATED;
+        afterCommit(item.eventId(), sequence -> new ContributionBoardDelta(
+            item.eventId(), epoch, sequence, change, item.id(), item.status(),
+            item.assignedToUserId(), item.assignedToDisplayName(), item.completed(),
+            carriesItem ? item : null
+        ));
+    }
+
+    /**
+     * Broadcasts the item's removal once the current transaction commits.
+     */
+    public void itemDeleted(Long eventId, Long itemId) {
+        afterCommit(eventId, sequence -> new ContributionBoardDelta(
+            eventId, epoch, sequence, ContributionBoardChange.DELETED, itemId, null, null, null, false, null
+        ));
+    }
+
+    /**
+     * Tells subscribers to reload the snapshot once the current transaction commits,
+     * for set-based changes that touch too many items to send one delta each.
+     */
+    public void boardReloaded(Long eventId) {
+        afterCommit(eventId, sequence -> new ContributionBoardDelta(
+            eventId, epoch, sequence, ContributionBoardChange.RELOAD, null, null, null, null, false, null
+        ));
+    }
+
+    // ===== Helper methods =====
+
+    private void afterCommit(Long eventId, LongFunction<ContributionBoardDelta> factory) {
+        Runnable publish = () -> publish(eventId, factory);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+
+    private void publish(Long eventId, LongFunction<ContributionBoardDelta> factory) {
+        AtomicLong sequence = sequences.computeIfAbsent(eventId, id -> new AtomicLong());
+        try {
+            synchronized (sequence) {
+                messagingTemplate.convertAndSend(topic(eventId), factory.apply(sequence.incrementAndGet()));
+            }
+        } catch (Exception e) {
+            // The change is committed; subscribers detect the sequence gap and resync
+            log.warn("Failed to broadcast contribution change for event {}: {}", eventId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.theinside.partii.service.contribution;
+
+import com.theinside.partii.dto.CursorPage;
+import com.theinside.partii.dto.MyContributionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * First page of each user's "my contributions" view, which the app loads every time it opens.
+ * <p>
+ * A user's page is dropped whenever an item they hold changes hands or status (claim, assign, accept,
+ * decline, release, confirm, complete) and whenever an event on it is edited or cancelled, both immediately
+ * and again once the transaction commits. Later pages always come from the database.
+ * {@code partii.my-contributions.ttl} only bounds bulk status updates that bypass the services.
+ */
+@Component
+@Slf4j
+public class MyContributionsCache {
+
+    private static final int MAX_USERS = 10_000;
+
+    @Value("${partii.my-contributions.ttl:PT5M}")
+    private Duration ttl;
+
+    private final Map<Long, Entry> pages = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every eviction so a load that raced with a change is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Entry(int limit, CursorPage<MyContributionResponse> page, long expiresAt) {
+
+        boolean mentions(Long eventId) {
+            return page.content().stream().anyMatch(item -> item.eventId().equals(eventId));
+        }
+    }
+
+    /**
+     * The user's cached first page if it was loaded with the same limit, otherwise the loader's result.
+     */
+    public CursorPage<MyContributionResponse> firstPage(Long userId, int limit,
+                                                        Supplier<CursorPage<MyContributionResponse>> loader) {
+        Entry entry = pages.get(userId);
+        if (entry != null && entry.limit() == limit && entry.expiresAt() - System.nanoTime() > 0) {
+            return entry.page();
+        }
+
+        long startGeneration = generation.get();
+        CursorPage<MyContributionResponse> page = loader.get();
+        if (ttl.isPositive() && generation.get() == startGeneration) {
+            if (pages.size() >= MAX_USERS) {
+                log.debug("My contributions cache full, clearing {} users", pages.size());
+                pages.clear();
+            }
+            pages.put(userId, new Entry(limit, page, System.nanoTime() + ttl.toNanos()));
+        }
+        return page;
+    }
+
+    public void evict(Long userId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            pages.remove(userId);
+        });
+    }
+
+    /**
+     * Drops every page that shows an item for the event, e.g. after it was rescheduled or cancelled.
+     */
+    public void evictEvent(Long eventId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            pages.values().removeIf(entry -> entry.mentions(eventId));
+        });
+    }
+
+    // ===== Helper methods =====
+
+    private void afterCommit(Runnable action) {
+        action.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Again at commit, in case a concurrent request reloaded the page from the pre-commit state
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
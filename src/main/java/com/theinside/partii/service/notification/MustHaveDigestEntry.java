@@ -0,0 +1,18 @@
+package com.theinside.partii.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One event's line in an organizer's must-have digest.
+ *
+ * @param missingCount how many MUST_HAVE items are still unclaimed
+ * @param itemNames    the first few of those items, for display
+ */
+public record MustHaveDigestEntry(
+    Long eventId,
+    String eventTitle,
+    LocalDateTime eventDate,
+    int missingCount,
+    List<String> itemNames
+) {}
@@ -1,5 +1,7 @@
 package com.theinside.partii.service.notification;
 
+import java.util.List;
+
 /**
  * Service interface for sending notifications (email, SMS, push).
  * Implementations can use different providers (Resend, SendGrid, Twilio, etc.)
@@ -31,4 +33,14 @@ public interface NotificationService {
      * @param userName   the user's display name
      */
     void sendPasswordResetEmail(String to, String resetToken, String userName);
+
+    /**
+     * Sends an organizer one digest of the MUST_HAVE items still unclaimed on their upcoming events.
+     *
+     * @param to       recipient email address
+     * @param userName the organizer's display name
+     * @param events   the affected events, soonest first
+     * @return whether the email was accepted for delivery; sent synchronously so the caller can retry it later
+     */
+    boolean sendMustHaveDigestEmail(String to, String userName, List<MustHaveDigestEntry> events);
 }
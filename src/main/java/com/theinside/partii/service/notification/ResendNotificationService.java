@@ -10,7 +10,11 @@ import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.HtmlUtils;
 
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -27,6 +31,7 @@ public class ResendNotificationService implements NotificationService {
     private final AppProperties appProperties;
 
     private static final String RESEND_API_URL = "https://api.resend.com/emails";
+    private static final DateTimeFormatter DIGEST_DATE_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM, HH:mm", Locale.ENGLISH);
 
     @Override
     @Async
@@ -60,7 +65,25 @@ public class ResendNotificationService implements NotificationService {
         log.info("Password reset email sent to: {}", to);
     }
 
-    private void sendEmail(String toEmail, String subject, String htmlContent) {
+    @Override
+    public boolean sendMustHaveDigestEmail(String to, String userName, List<MustHaveDigestEntry> events) {
+        int missing = events.stream().mapToInt(MustHaveDigestEntry::missingCount).sum();
+        String subject = missing == 1
+                ? "1 must-have item is still unclaimed"
+                : missing + " must-have items are still unclaimed";
+        String htmlContent = buildMustHaveDigestEmailHtml(userName, events);
+
+        if (!sendEmail(to, subject, htmlContent)) {
+            return false;
+        }
+        log.info("Must-have digest sent to: {} ({} events)", to, events.size());
+        return true;
+    }
+
+    /**
+     * @return whether Resend accepted the email
+     */
+    private boolean sendEmail(String toEmail, String subject, String htmlContent) {
         try {
             RestClient restClient = RestClient.create();
 
@@ -80,9 +103,11 @@ public class ResendNotificationService implements NotificationService {
                     .toBodilessEntity();
 
             log.debug("Email sent successfully to: {}", toEmail);
+            return true;
         } catch (Exception e) {
             log.error("Failed to send email to {}: {}", toEmail, e.getMessage());
             // Don't throw - email sending should not block the main flow
+            return false;
         }
     }
 
@@ -161,4 +186,41 @@ public class ResendNotificationService implements NotificationService {
             </html>
             """.formatted(userName, resetLink, resetLink);
     }
+
+    private String buildMustHaveDigestEmailHtml(String userName, List<MustHaveDigestEntry> events) {
+        StringBuilder rows = new StringBuilder();
+        for (MustHaveDigestEntry event : events) {
+            int hidden = event.missingCount() - event.itemNames().size();
+            rows.append("""
+                    <div style="border-top: 1px solid #eee; padding: 16px 0;">
+                        <p style="margin: 0 0 4px; font-weight: 600; color: #111;">%s</p>
+                        <p style="margin: 0 0 8px; color: #999; font-size: 14px;">%s &middot; %d unclaimed</p>
+                        <p style="margin: 0; color: #666; font-size: 14px;">%s%s</p>
+                    </div>
+                """.formatted(
+                    HtmlUtils.htmlEscape(event.eventTitle()),
+                    event.eventDate().format(DIGEST_DATE_FORMAT),
+                    event.missingCount(),
+                    HtmlUtils.htmlEscape(String.join(", ", event.itemNames())),
+                    hidden > 0 ? " and " + hidden + " more" : ""));
+        }
+
+        return """
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="utf-8">
+                <meta name="viewport" content="width=device-width, initial-scale=1.0">
+            </head>
+            <body style="font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, sans-serif; margin: 0; padding: 40px 20px; background-color: #f5f5f5;">
+                <div style="max-width: 480px; margin: 0 auto; background: white; border-radius: 12px; padding: 40px; box-shadow: 0 2px 8px rgba(0,0,0,0.08);">
+                    <h1 style="margin: 0 0 8px; font-size: 24px; color: #111;">Must-haves still open</h1>
+                    <p style="margin: 0 0 24px; color: #666; font-size: 16px;">Hi %s, these upcoming events still have must-have items nobody has claimed yet:</p>
+                    %s
+                    <p style="margin: 24px 0 0; color: #999; font-size: 14px;">Assign them to attendees or bring them yourself so nothing is missing on the day.</p>
+                </div>
+            </body>
+            </html>
+            """.formatted(HtmlUtils.htmlEscape(userName), rows);
+    }
 }
@@ -0,0 +1,162 @@
+package com.theinside.partii.service.settlement;
+
+import com.theinside.partii.dto.ParticipantBalanceResponse;
+import com.theinside.partii.dto.SettlementResponse;
+import com.theinside.partii.dto.SettlementTransferResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settlement inputs for one event, held in cents so payments can be applied as deltas.
+ * <p>
+ * The event's total cost is the organizer's budget plus the estimated cost of confirmed items.
+ * Every participant's contribution is what they put in: money paid to the organizer, items they
+ * brought, and for the organizer the budget they fronted less the payments they collected.
+ * Attendees with a payment amount owe exactly that; the rest of the cost is split evenly between
+ * the organizer and attendees without one. Balance is contribution minus share, so balances always sum to zero.
+ * <p>
+ * Not thread-safe; callers synchronize on the instance.
+ */
+public class EventBalances {
+
+    private final Long eventId;
+    private final Long organizerId;
+    private final String currency;
+    private final long budgetCents;
+    private final Map<Long, Participant> participants = new HashMap<>();
+
+    private static final class Participant {
+        long paidCents;
+        long broughtCents;
+        long fixedShareCents;
+    }
+
+    public EventBalances(Long eventId, Long organizerId, String currency, BigDecimal budget) {
+        this.eventId = eventId;
+        this.organizerId = organizerId;
+        this.currency = currency;
+        this.budgetCents = toCents(budget);
+        participants.put(organizerId, new Participant());
+    }
+
+    /**
+     * Adds an approved attendee with their agreed payment amount and amount paid so far.
+     */
+    public void addAttendee(Long userId, BigDecimal paymentAmount, BigDecimal amountPaid) {
+        Participant participant = participants.computeIfAbsent(userId, id -> new Participant());
+        participant.fixedShareCents = Math.max(0, toCents(paymentAmount));
+        participant.paidCents += toCents(amountPaid);
+    }
+
+    /**
+     * Records the estimated cost of items a participant has confirmed bringing.
+     */
+    public void addBroughtCost(Long userId, BigDecimal cost) {
+        Participant participant = participants.get(userId);
+        if (participant != null) {
+            participant.broughtCents += toCents(cost);
+        }
+    }
+
+    /**
+     * Applies a payment from an attendee to the organizer.
+     * @return false if the attendee is not a participant, in which case the balances must be rebuilt
+     */
+    public boolean applyPayment(Long userId, BigDecimal amount) {
+        Participant participant = participants.get(userId);
+        if (participant == null || userId.equals(organizerId)) {
+            return false;
+        }
+        participant.paidCents += toCents(amount);
+        return true;
+    }
+
+    /**
+     * Computes every participant's balance and the minimal transfers that settle them.
+     */
+    public SettlementResponse settle() {
+        int n = participants.size();
+        long[] userIds = new long[n];
+        int i = 0;
+        for (Long userId : participants.keySet()) {
+            userIds[i++] = userId;
+        }
+        Arrays.sort(userIds);
+
+        long totalCost = budgetCents;
+        long collected = 0;
+        long fixedShares = 0;
+        int splitCount = 0;
+        for (Participant participant : participants.values()) {
+            totalCost += participant.broughtCents;
+            collected += participant.paidCents;
+            fixedShares += participant.fixedShareCents;
+        }
+        for (long userId : userIds) {
+            if (userId == organizerId || participants.get(userId).fixedShareCents == 0) {
+                splitCount++;
+            }
+        }
+
+        // Remainder cents go to the lowest user ids so shares sum exactly to the total cost
+        long remainder = totalCost - fixedShares;
+        long baseShare = Math.floorDiv(remainder, splitCount);
+        long extraCents = Math.floorMod(remainder, splitCount);
+
+        long[] contributed = new long[n];
+        long[] shares = new long[n];
+        long[] balances = new long[n];
+        for (int k = 0; k < n; k++) {
+            Participant participant = participants.get(userIds[k]);
+            boolean isOrganizer = userIds[k] == organizerId;
+
+            contributed[k] = isOrganizer
+                ? budgetCents + participant.broughtCents - collected + participant.paidCents
+                : participant.paidCents + participant.broughtCents;
+
+            if (isOrganizer || participant.fixedShareCents == 0) {
+                shares[k] = baseShare + (extraCents-- > 0 ? 1 : 0);
+            } else {
+                shares[k] = participant.fixedShareCents;
+            }
+            balances[k] = contributed[k] - shares[k];
+        }
+
+        List<ParticipantBalanceResponse> balanceResponses = new ArrayList<>(n);
+        for (int k = 0; k < n; k++) {
+            balanceResponses.add(new ParticipantBalanceResponse(
+                userIds[k],
+                userIds[k] == organizerId,
+                fromCents(contributed[k]),
+                fromCents(shares[k]),
+                fromCents(balances[k])
+            ));
+        }
+
+        List<SettlementTransferResponse> transfers = SettlementCalculator.settle(userIds, balances).stream()
+            .map(t -> new SettlementTransferResponse(t.fromUserId(), t.toUserId(), fromCents(t.cents())))
+            .toList();
+
+        return new SettlementResponse(eventId, currency, fromCents(totalCost), balanceResponses, transfers, Instant.now());
+    }
+
+    // ===== Helper methods =====
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,137 @@
+package com.theinside.partii.service.settlement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Min-cash-flow netting of participant balances into transfers.
+ * Works on primitive cent amounts; a run over 10k participants is a sort plus a linear pass.
+ */
+public final class SettlementCalculator {
+
+    private SettlementCalculator() {
+    }
+
+    /**
+     * A payment of {@code cents} from one participant to another.
+     */
+    public record Transfer(long fromUserId, long toUserId, long cents) {}
+
+    /**
+     * Nets balances into transfers. Positive balances are owed to the participant,
+     * negative balances are owed by them, and the balances must sum to zero.
+     * Produces at most {@code n - 1} transfers: debtors and creditors with exactly matching
+     * amounts are paired first, then the largest debtor pays the largest creditor until both sides clear.
+     *
+     * @param userIds participant ids, parallel to {@code balances}
+     * @param balances net balance per participant in cents
+     */
+    public static List<Transfer> settle(long[] userIds, long[] balances) {
+        if (userIds.length != balances.length) {
+            throw new IllegalArgumentException("User ids and balances must have the same length");
+        }
+        long net = 0;
+        for (long balance : balances) {
+            net += balance;
+        }
+        if (net != 0) {
+            throw new IllegalArgumentException("Balances must sum to zero, got " + net);
+        }
+
+        long[] remaining = balances.clone();
+        List<Transfer> transfers = new ArrayList<>();
+        pairExactMatches(userIds, remaining, transfers);
+
+        int[] creditors = indicesWhere(remaining, true);
+        int[] debtors = indicesWhere(remaining, false);
+
+        int c = 0;
+        int d = 0;
+        while (c < creditors.length && d < debtors.length) {
+            int creditor = creditors[c];
+            int debtor = debtors[d];
+            long amount = Math.min(remaining[creditor], -remaining[debtor]);
+
+            transfers.add(new Transfer(userIds[debtor], userIds[creditor], amount));
+            remaining[creditor] -= amount;
+            remaining[debtor] += amount;
+
+            if (remaining[creditor] == 0) {
+                c++;
+            }
+            if (remaining[debtor] == 0) {
+                d++;
+            }
+        }
+        return transfers;
+    }
+
+    // ===== Helper methods =====
+
+    /**
+     * Settles every debtor whose debt exactly matches some creditor's credit with a single transfer.
+     */
+    private static void pairExactMatches(long[] userIds, long[] remaining, List<Transfer> transfers) {
+        Map<Long, Deque<Integer>> creditorsByAmount = new HashMap<>();
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0) {
+                creditorsByAmount.computeIfAbsent(remaining[i], k -> new ArrayDeque<>()).add(i);
+            }
+        }
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] < 0) {
+                Deque<Integer> matches = creditorsByAmount.get(-remaining[i]);
+                if (matches != null && !matches.isEmpty()) {
+                    int creditor = matches.poll();
+                    transfers.add(new Transfer(userIds[i], userIds[creditor], remaining[creditor]));
+                    remaining[creditor] = 0;
+                    remaining[i] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indices of positive (or negative) balances, ordered by largest absolute amount first.
+     */
+    private static int[] indicesWhere(long[] remaining, boolean positive) {
+        // Pack |balance| and index into one long so a primitive sort orders by amount
+        int count = 0;
+        long[] packed = new long[remaining.length];
+        for (int i = 0; i < remaining.length; i++) {
+            long balance = remaining[i];
+            if (positive ? balance > 0 : balance < 0) {
+                long magnitude = Math.abs(balance);
+                if (magnitude >= (1L << 31)) {
+                    return indicesWhereBoxed(remaining, positive);
+                }
+                packed[count++] = (magnitude << 32) | i;
+            }
+        }
+        Arrays.sort(packed, 0, count);
+
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = (int) packed[count - 1 - i];
+        }
+        return indices;
+    }
+
+    /**
+     * Fallback for balances too large to pack, above roughly 21 million in currency units.
+     */
+    private static int[] indicesWhereBoxed(long[] remaining, boolean positive) {
+        return IntStream.range(0, remaining.length)
+            .filter(i -> positive ? remaining[i] > 0 : remaining[i] < 0)
+            .boxed()
+            .sorted((a, b) -> Long.compare(Math.abs(remaining[b]), Math.abs(remaining[a])))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+}
@@ -0,0 +1,93 @@
+package com.theinside.partii.specification;
+
+import com.theinside.partii.dto.ContributionCursor;
+import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.enums.ContributionSort;
+import com.theinside.partii.enums.ContributionStatus;
+import com.theinside.partii.enums.ContributionType;
+import com.theinside.partii.enums.Priority;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JPA Specifications for filtering contribution items within an event.
+ * Filters are null-tolerant so any combination can be chained onto {@link #forEvent}.
+ */
+public class ContributionItemSpecifications {
+
+    /**
+     * Items belonging to the given event.
+     */
+    public static Specification<ContributionItem> forEvent(Long eventId) {
+        return (root, query, cb) -> cb.equal(root.get("event").get("id"), eventId);
+    }
+
+    /**
+     * Filter by status.
+     */
+    public static Specification<ContributionItem> hasStatus(ContributionStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Filter by category (exact match).
+     */
+    public static Specification<ContributionItem> hasCategory(String category) {
+        return (root, query, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    /**
+     * Filter by contribution type.
+     */
+    public static Specification<ContributionItem> hasType(ContributionType type) {
+        return (root, query, cb) -> type == null ? null : cb.equal(root.get("type"), type);
+    }
+
+    /**
+     * Filter by priority.
+     */
+    public static Specification<ContributionItem> hasPriority(Priority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Items strictly after the cursor in the cursor's sort order.
+     * Priority is stored as its name, and MUST_HAVE sorts before NICE_TO_HAVE as text.
+     */
+    public static Specification<ContributionItem> after(ContributionCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            var createdAfter = cb.or(
+                cb.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                    cb.equal(root.get("createdAt"), cursor.createdAt()),
+                    cb.greaterThan(root.get("id"), cursor.id())
+                )
+            );
+            if (cursor.sort() == ContributionSort.CREATED_AT) {
+                return createdAfter;
+            }
+            List<Priority> laterPriorities = Arrays.stream(Priority.values())
+                .filter(p -> p.name().compareTo(cursor.priority().name()) > 0)
+                .toList();
+            var samePriorityAfter = cb.and(cb.equal(root.get("priority"), cursor.priority()), createdAfter);
+            return laterPriorities.isEmpty()
+                ? samePriorityAfter
+                : cb.or(root.get("priority").in(laterPriorities), samePriorityAfter);
+        };
+    }
+
+    /**
+     * The ordering matching {@link #after} for the given sort.
+     */
+    public static Sort orderFor(ContributionSort sort) {
+        return sort == ContributionSort.CREATED_AT
+            ? Sort.by("createdAt", "id")
+            : Sort.by("priority", "createdAt", "id");
+    }
+}
@@ -52,5 +52,6 @@ public class CustomMessages {
     public static final String UNDER_AGE = "You must be at least 18 years old to use this service";
     public static final String PASSWORD_RESET_EMAIL_SENT = "Password reset email sent. Please check your inbox.";
     public static final String INVALID_OR_EXPIRED_RESET_TOKEN = "Invalid or expired reset token";
+    public static final String TOO_MANY_REQUESTS = "Too many requests. Please try again later.";
 
 }
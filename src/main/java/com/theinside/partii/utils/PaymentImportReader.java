@@ -0,0 +1,229 @@
+package com.theinside.partii.utils;
+
+import com.theinside.partii.enums.PaymentImportFormat;
+import com.theinside.partii.exception.BadRequestException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams payment rows out of a CSV or NDJSON upload a chunk at a time,
+ * so an import never holds more than one chunk of parsed rows in memory.
+ * Rows that fail to parse are returned with an error rather than aborting the import.
+ */
+public class PaymentImportReader {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final int MAX_REFERENCE_LENGTH = 100;
+
+    private final BufferedReader reader;
+    private final PaymentImportFormat format;
+    private long lineNumber;
+    private int attendeeIdColumn = -1;
+    private int emailColumn = -1;
+    private int amountColumn = -1;
+    private int referenceColumn = -1;
+
+    /**
+     * A single parsed upload row. {@code error} is set when the row is unusable.
+     */
+    public record Row(long line, Long attendeeId, String email, BigDecimal amount, String reference, String error) {
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    public PaymentImportReader(InputStream input, PaymentImportFormat format) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * Reads up to {@code maxRows} rows, skipping blank lines.
+     * @return the next chunk of rows, or an empty list once the upload is exhausted
+     */
+    public List<Row> nextChunk(int maxRows) throws IOException {
+        if (format == PaymentImportFormat.CSV && amountColumn < 0) {
+            readCsvHeader();
+        }
+
+        List<Row> rows = new ArrayList<>(maxRows);
+        String line;
+        while (rows.size() < maxRows && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            rows.add(format == PaymentImportFormat.CSV ? parseCsvRow(line) : parseJsonRow(line));
+        }
+        return rows;
+    }
+
+    // ===== CSV =====
+
+    private void readCsvHeader() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+
+        if (line == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+
+        List<String> header = splitCsvLine(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "attendee_id", "attendeeid" -> attendeeIdColumn = i;
+                case "email" -> emailColumn = i;
+                case "amount" -> amountColumn = i;
+                case "reference" -> referenceColumn = i;
+                default -> { }
+            }
+        }
+
+        if (amountColumn < 0 || referenceColumn < 0 || (attendeeIdColumn < 0 && emailColumn < 0)) {
+            throw new BadRequestException(
+                "CSV header must include amount, reference and either attendee_id or email");
+        }
+    }
+
+    private Row parseCsvRow(String line) {
+        List<String> fields = splitCsvLine(line);
+        return toRow(
+            column(fields, attendeeIdColumn),
+            column(fields, emailColumn),
+            column(fields, amountColumn),
+            column(fields, referenceColumn)
+        );
+    }
+
+    private static String column(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    /**
+     * Splits a single CSV line, honouring double-quoted fields and escaped quotes.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // ===== NDJSON =====
+
+    private Row parseJsonRow(String line) {
+        JsonNode node;
+        try {
+            node = JSON.readTree(line);
+        } catch (JacksonException e) {
+            return invalid("Malformed JSON");
+        }
+        if (!node.isObject()) {
+            return invalid("Each line must be a JSON object");
+        }
+        return toRow(
+            text(node, node.has("attendeeId") ? "attendeeId" : "attendee_id"),
+            text(node, "email"),
+            text(node, "amount"),
+            text(node, "reference")
+        );
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asString();
+    }
+
+    // ===== Validation =====
+
+    private Row toRow(String rawAttendeeId, String rawEmail, String rawAmount, String rawReference) {
+        String attendeeIdText = trimToNull(rawAttendeeId);
+        String email = trimToNull(rawEmail);
+        String amountText = trimToNull(rawAmount);
+        String reference = trimToNull(rawReference);
+
+        Long attendeeId = null;
+        if (attendeeIdText != null) {
+            try {
+                attendeeId = Long.valueOf(attendeeIdText);
+            } catch (NumberFormatException e) {
+                return invalid("Invalid attendee id");
+            }
+        }
+        if (attendeeId == null && email == null) {
+            return invalid("Attendee id or email is required");
+        }
+
+        BigDecimal amount;
+        try {
+            amount = amountText == null ? null : new BigDecimal(amountText);
+        } catch (NumberFormatException e) {
+            return invalid("Invalid amount format");
+        }
+        if (amount == null || amount.signum() <= 0) {
+            return invalid("Amount must be positive");
+        }
+        if (amount.scale() > 2 || amount.precision() - amount.scale() > 10) {
+            return invalid("Invalid amount format");
+        }
+
+        if (reference == null) {
+            return invalid("Reference is required");
+        }
+        if (reference.length() > MAX_REFERENCE_LENGTH) {
+            return invalid("Reference cannot exceed 100 characters");
+        }
+
+        return new Row(lineNumber, attendeeId, email != null ? email.toLowerCase(Locale.ROOT) : null,
+            amount, reference, null);
+    }
+
+    private Row invalid(String error) {
+        return new Row(lineNumber, null, null, null, null, error);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
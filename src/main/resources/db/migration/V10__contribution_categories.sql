@@ -0,0 +1,33 @@
+-- =============================================
+-- V10: Per-event contribution category index with totals
+-- =============================================
+
+CREATE TABLE event_contribution_categories (
+    event_id             BIGINT NOT NULL REFERENCES events(id),
+    category             VARCHAR(50) NOT NULL,
+    item_count           BIGINT NOT NULL DEFAULT 0,
+    claimed_count        BIGINT NOT NULL DEFAULT 0,
+    total_estimated_cost NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    claimed_cost         NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at           TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (event_id, category)
+);
+
+-- Backfill from existing items
+INSERT INTO event_contribution_categories (event_id, category, item_count, claimed_count,
+    total_estimated_cost, claimed_cost, updated_at)
+SELECT event_id,
+       category,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status <> 'AVAILABLE'),
+       COALESCE(SUM(estimated_cost), 0),
+       COALESCE(SUM(estimated_cost) FILTER (WHERE status <> 'AVAILABLE'), 0),
+       NOW()
+FROM contribution_items
+WHERE category IS NOT NULL
+GROUP BY event_id, category;
+
+-- Category filters always come with an event, so lead with it
+CREATE INDEX idx_contributions_event_category ON contribution_items(event_id, category);
+
+DROP INDEX IF EXISTS idx_contributions_category;
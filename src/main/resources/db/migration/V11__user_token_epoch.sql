@@ -0,0 +1,9 @@
+-- =============================================
+-- V11: Per-user token epoch for access token revocation
+-- =============================================
+
+ALTER TABLE users ADD COLUMN token_epoch BIGINT NOT NULL DEFAULT 0;
+
+-- Only users whose tokens were ever revoked are synced into memory; keep the poll off the full table
+CREATE INDEX idx_users_token_epoch_updated ON users(updated_at)
+    WHERE token_epoch > 0;
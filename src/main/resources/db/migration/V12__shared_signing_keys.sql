@@ -0,0 +1,24 @@
+-- =============================================
+-- V12: Shared JWT key ring and leader-election leases
+-- =============================================
+
+CREATE TABLE signing_keys (
+    kid                   VARCHAR(64) PRIMARY KEY,
+    status                VARCHAR(10) NOT NULL,
+    public_key            VARCHAR(4000) NOT NULL,
+    encrypted_private_key VARCHAR(4000) NOT NULL,
+    created_at            TIMESTAMP WITH TIME ZONE NOT NULL,
+    activates_at          TIMESTAMP WITH TIME ZONE,
+    activated_at          TIMESTAMP WITH TIME ZONE,
+    retired_at            TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT signing_keys_status_check CHECK (status IN ('NEXT', 'ACTIVE', 'RETIRED'))
+);
+
+-- At most one key signs and at most one waits to
+CREATE UNIQUE INDEX idx_signing_keys_single_active ON signing_keys(status) WHERE status IN ('NEXT', 'ACTIVE');
+
+CREATE TABLE scheduler_leases (
+    name       VARCHAR(50) PRIMARY KEY,
+    owner      VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
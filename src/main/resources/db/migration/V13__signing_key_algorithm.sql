@@ -0,0 +1,6 @@
+-- =============================================
+-- V13: Signing algorithm per key, so RS256 and ES256 keys can share the ring
+-- =============================================
+
+ALTER TABLE signing_keys ADD COLUMN algorithm VARCHAR(10) NOT NULL DEFAULT 'RS256';
+ALTER TABLE signing_keys ADD CONSTRAINT signing_keys_algorithm_check CHECK (algorithm IN ('RS256', 'ES256'));
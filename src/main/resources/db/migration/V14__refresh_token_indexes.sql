@@ -0,0 +1,7 @@
+-- =============================================
+-- V14: Index refresh token lookups and revocations
+-- =============================================
+
+CREATE UNIQUE INDEX idx_refresh_tokens_token ON refresh_tokens(token);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_user_id ON refresh_tokens(user_id);
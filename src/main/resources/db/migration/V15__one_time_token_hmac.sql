@@ -0,0 +1,11 @@
+-- =============================================
+-- V15: Peppered HMAC hashes for OTPs and reset tokens, with OTP attempt limits
+-- =============================================
+
+ALTER TABLE email_verification_tokens ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+-- Outstanding tokens were BCrypt hashed and can no longer be checked; they expire within the hour anyway
+UPDATE email_verification_tokens SET used = TRUE WHERE used = FALSE;
+UPDATE password_reset_tokens SET used = TRUE WHERE used = FALSE;
+
+CREATE UNIQUE INDEX idx_prt_token_hash ON password_reset_tokens(token_hash);
@@ -0,0 +1,27 @@
+-- =============================================
+-- V2: Append-only payment ledger and per-event running totals
+-- =============================================
+
+-- 1. Payment Ledger (immutable entries)
+CREATE TABLE payment_ledger (
+    id              BIGSERIAL PRIMARY KEY,
+    event_id        BIGINT NOT NULL REFERENCES events(id),
+    attendee_id     BIGINT NOT NULL REFERENCES event_attendees(id),
+    amount          NUMERIC(12, 2) NOT NULL CHECK (amount > 0),
+    idempotency_key VARCHAR(100) NOT NULL,
+    reference       VARCHAR(100),
+    recorded_by     BIGINT NOT NULL,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_payment_ledger_event_idempotency UNIQUE (event_id, idempotency_key)
+);
+
+CREATE INDEX idx_payment_ledger_event ON payment_ledger(event_id, id);
+CREATE INDEX idx_payment_ledger_attendee ON payment_ledger(attendee_id);
+
+-- 2. Event Payment Totals (one row per event, maintained with each ledger insert)
+CREATE TABLE event_payment_totals (
+    event_id        BIGINT PRIMARY KEY REFERENCES events(id),
+    total_paid      NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    entry_count     BIGINT NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP WITH TIME ZONE NOT NULL
+);
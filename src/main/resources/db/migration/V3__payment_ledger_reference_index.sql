@@ -0,0 +1,5 @@
+-- =============================================
+-- V3: Lookup of ledger entries by external reference (bulk payment import)
+-- =============================================
+
+CREATE INDEX idx_payment_ledger_event_reference ON payment_ledger(event_id, reference);
@@ -0,0 +1,14 @@
+-- =============================================
+-- V4: Automatic expiry of stale join requests
+-- =============================================
+
+ALTER TABLE event_attendees ADD COLUMN status_reason     VARCHAR(30);
+ALTER TABLE event_attendees ADD COLUMN status_changed_at TIMESTAMP WITH TIME ZONE;
+
+ALTER TABLE event_attendees DROP CONSTRAINT IF EXISTS event_attendees_status_check;
+ALTER TABLE event_attendees ADD CONSTRAINT event_attendees_status_check
+    CHECK (status IN ('PENDING', 'APPROVED', 'WAITLIST', 'DECLINED', 'REMOVED', 'EXPIRED'));
+
+-- Open requests are a small, hot subset; keep the sweeper and pending lists off the full table
+CREATE INDEX idx_event_attendees_open_requests ON event_attendees(event_id, id)
+    WHERE status IN ('PENDING', 'WAITLIST');
@@ -0,0 +1,34 @@
+-- =============================================
+-- V5: Per-event contribution counters backing the contribution summary
+-- =============================================
+
+CREATE TABLE event_contribution_counters (
+    event_id                  BIGINT PRIMARY KEY REFERENCES events(id),
+    total_items               BIGINT NOT NULL DEFAULT 0,
+    available_count           BIGINT NOT NULL DEFAULT 0,
+    claimed_count             BIGINT NOT NULL DEFAULT 0,
+    assigned_count            BIGINT NOT NULL DEFAULT 0,
+    confirmed_count           BIGINT NOT NULL DEFAULT 0,
+    completed_count           BIGINT NOT NULL DEFAULT 0,
+    unclaimed_must_have_count BIGINT NOT NULL DEFAULT 0,
+    total_estimated_cost      NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    claimed_cost              NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at                TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Backfill from existing items
+INSERT INTO event_contribution_counters (event_id, total_items, available_count, claimed_count, assigned_count,
+    confirmed_count, completed_count, unclaimed_must_have_count, total_estimated_cost, claimed_cost, updated_at)
+SELECT event_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status = 'AVAILABLE'),
+       COUNT(*) FILTER (WHERE status = 'CLAIMED'),
+       COUNT(*) FILTER (WHERE status = 'ASSIGNED'),
+       COUNT(*) FILTER (WHERE status = 'CONFIRMED'),
+       COUNT(*) FILTER (WHERE completed),
+       COUNT(*) FILTER (WHERE priority = 'MUST_HAVE' AND status = 'AVAILABLE'),
+       COALESCE(SUM(estimated_cost), 0),
+       COALESCE(SUM(estimated_cost) FILTER (WHERE status IN ('CLAIMED', 'CONFIRMED')), 0),
+       NOW()
+FROM contribution_items
+GROUP BY event_id;
@@ -0,0 +1,10 @@
+-- =============================================
+-- V6: Composite index for filtered, keyset-paginated contribution boards
+-- =============================================
+
+-- Serves event + status filters in (priority, created_at, id) order; its event_id prefix
+-- also covers every lookup the single-column event index did.
+CREATE INDEX idx_contributions_event_status_priority_created
+    ON contribution_items(event_id, status, priority, created_at, id);
+
+DROP INDEX IF EXISTS idx_contributions_event;
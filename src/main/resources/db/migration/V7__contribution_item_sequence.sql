@@ -0,0 +1,7 @@
+-- =============================================
+-- V7: Pooled sequence ids for contribution items
+-- =============================================
+
+-- Hibernate reserves 50 ids per nextval so item inserts can be JDBC-batched.
+-- The column default still draws from the same sequence, so raw inserts never collide.
+ALTER SEQUENCE contribution_items_id_seq INCREMENT BY 50;
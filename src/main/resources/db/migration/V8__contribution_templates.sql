@@ -0,0 +1,29 @@
+-- =============================================
+-- V8: Reusable contribution templates
+-- =============================================
+
+CREATE TABLE contribution_templates (
+    id          BIGSERIAL PRIMARY KEY,
+    owner_id    BIGINT NOT NULL REFERENCES users(id),
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_contribution_templates_owner_name UNIQUE (owner_id, name)
+);
+
+CREATE TABLE contribution_template_items (
+    id              BIGSERIAL PRIMARY KEY,
+    template_id     BIGINT NOT NULL REFERENCES contribution_templates(id) ON DELETE CASCADE,
+    name            VARCHAR(100) NOT NULL,
+    category        VARCHAR(50),
+    type            VARCHAR(10) NOT NULL,
+    quantity        INT DEFAULT 1,
+    time_commitment INT,
+    estimated_cost  NUMERIC(12, 2),
+    priority        VARCHAR(15) NOT NULL DEFAULT 'NICE_TO_HAVE',
+    notes           VARCHAR(500)
+);
+
+-- Template items are always read and copied in insertion order
+CREATE INDEX idx_contribution_template_items_template ON contribution_template_items(template_id, id);
@@ -0,0 +1,11 @@
+-- =============================================
+-- V9: Must-have deadline alert run state
+-- =============================================
+
+-- Set once the organizer's digest has listed the item; cleared when the item becomes available again
+ALTER TABLE contribution_items ADD COLUMN must_have_alerted_at TIMESTAMP WITH TIME ZONE;
+
+-- The alert scan only ever reads open, not-yet-alerted MUST_HAVE items, a small slice of the table
+CREATE INDEX idx_contributions_must_have_unalerted
+    ON contribution_items(event_id, id)
+    WHERE priority = 'MUST_HAVE' AND status = 'AVAILABLE' AND must_have_alerted_at IS NULL;
@@ -0,0 +1,59 @@
+package com.theinside.partii.scheduler;
+
+import com.theinside.partii.entity.SchedulerLease;
+import com.theinside.partii.repository.SchedulerLeaseRepository;
+import com.theinside.partii.service.ContributionAlertService;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MustHaveAlertSchedulerTest {
+
+    private static final String LEASE = "must-have-alerts";
+
+    @Autowired SchedulerLeases schedulerLeases;
+    @Autowired SchedulerLeaseRepository leaseRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void sendMustHaveDigests_runsOnOneInstancePerLease() {
+        leaseRepository.deleteById(LEASE);
+        ContributionAlertService alertService = mock(ContributionAlertService.class);
+        MustHaveAlertScheduler first = new MustHaveAlertScheduler(alertService, schedulerLeases);
+        MustHaveAlertScheduler second = new MustHaveAlertScheduler(alertService, anotherInstance());
+
+        first.sendMustHaveDigests();
+        second.sendMustHaveDigests();
+        verify(alertService, times(1)).sendMustHaveDigests(any(Duration.class));
+
+        // Once the lease lapses, the next hourly run may land on any instance
+        SchedulerLease lease = leaseRepository.findById(LEASE).orElseThrow();
+        lease.setExpiresAt(Instant.now().minusSeconds(1));
+        leaseRepository.save(lease);
+        second.sendMustHaveDigests();
+        verify(alertService, times(2)).sendMustHaveDigests(any(Duration.class));
+    }
+
+    /**
+     * The leases of a second instance: its own node id, in transactions like the bean's.
+     */
+    private SchedulerLeases anotherInstance() {
+        ProxyFactory factory = new ProxyFactory(new SchedulerLeases(leaseRepository));
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (SchedulerLeases) factory.getProxy();
+    }
+}
@@ -0,0 +1,47 @@
+package com.theinside.partii.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.theinside.partii.enums.RateLimitAlgorithm.SLIDING_WINDOW;
+import static com.theinside.partii.enums.RateLimitAlgorithm.TOKEN_BUCKET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore();
+
+    @Test
+    void slidingWindow_refusesOverTheLimitUntilEnoughOfTheWindowHasSlidOut() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.acquire("key", SLIDING_WINDOW, 3, MINUTE, 0).allowed()).isTrue();
+        }
+
+        RateLimitDecision refused = store.acquire("key", SLIDING_WINDOW, 3, MINUTE, 0);
+        assertThat(refused.allowed()).isFalse();
+        assertThat(refused.remaining()).isZero();
+        // The next window starts at 60s, and the three requests weigh below two once a third of it has passed
+        assertThat(refused.retryAfter()).isEqualTo(Duration.ofSeconds(80));
+
+        assertThat(store.acquire("key", SLIDING_WINDOW, 3, MINUTE, 79_999).allowed()).isFalse();
+        assertThat(store.acquire("key", SLIDING_WINDOW, 3, MINUTE, 80_000).allowed()).isTrue();
+        assertThat(store.acquire("other", SLIDING_WINDOW, 3, MINUTE, 80_000).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    void tokenBucket_allowsABurstThenRefillsEvenly() {
+        assertThat(store.acquire("key", TOKEN_BUCKET, 2, MINUTE, 0).remaining()).isEqualTo(1);
+        assertThat(store.acquire("key", TOKEN_BUCKET, 2, MINUTE, 0).remaining()).isZero();
+
+        RateLimitDecision refused = store.acquire("key", TOKEN_BUCKET, 2, MINUTE, 0);
+        assertThat(refused.allowed()).isFalse();
+        assertThat(refused.retryAfter()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(refused.reset()).isEqualTo(MINUTE);
+
+        assertThat(store.acquire("key", TOKEN_BUCKET, 2, MINUTE, 30_000).allowed()).isTrue();
+        assertThat(store.acquire("key", TOKEN_BUCKET, 2, MINUTE, 30_000).allowed()).isFalse();
+    }
+}
@@ -0,0 +1,118 @@
+package com.theinside.partii.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and verification throughput. Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class KeyManagerBenchmarkTest {
+
+    private static final int DECODES = 5_000;
+
+    @Autowired KeyManager keyManager;
+
+    @Test
+    void signAndVerify_throughputPerAlgorithm() throws Exception {
+        List<JWK> keys = List.of(
+                new RSAKeyGenerator(2048).keyID("rs").algorithm(JWSAlgorithm.RS256).generate(),
+                new ECKeyGenerator(Curve.P_256).keyID("es").algorithm(JWSAlgorithm.ES256).generate());
+
+        for (JWK key : keys) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.from(key.getAlgorithm().getName());
+            JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+            JwtDecoder decoder = NimbusJwtDecoder.withJwkSource(new ImmutableJWKSet<>(new JWKSet(key.toPublicJWK())))
+                    .jwsAlgorithm(algorithm)
+                    .build();
+            JwtEncoderParameters parameters = JwtEncoderParameters.from(JwsHeader.with(algorithm).build(), claims());
+            String token = encoder.encode(parameters).getTokenValue();
+
+            // Warm both paths so the reported throughput is steady-state
+            for (int i = 0; i < DECODES / 10; i++) {
+                encoder.encode(parameters);
+                decoder.decode(token);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < DECODES; i++) {
+                encoder.encode(parameters);
+            }
+            long signMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < DECODES; i++) {
+                decoder.decode(token);
+            }
+            long verifyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            System.out.printf("%s: %.0f signs/s, %.0f verifies/s%n", algorithm,
+                    DECODES * 1_000_000.0 / signMicros, DECODES * 1_000_000.0 / verifyMicros);
+        }
+    }
+
+    @Test
+    void decode_cachedDecodersVersusBuildingOnePerToken() throws Exception {
+        SignatureAlgorithm algorithm = keyManager.getSigningAlgorithm();
+        String token = keyManager.encode(JwtEncoderParameters.from(JwsHeader.with(algorithm).build(), claims()))
+                .getTokenValue();
+        RSAPublicKey publicKey = keyManager.getJWKSet().getKeys().getFirst().toRSAKey().toRSAPublicKey();
+
+        // Warm both paths so the reported throughput is steady-state
+        for (int i = 0; i < DECODES / 10; i++) {
+            NimbusJwtDecoder.withPublicKey(publicKey).build().decode(token);
+            keyManager.decode(token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < DECODES; i++) {
+            NimbusJwtDecoder.withPublicKey(publicKey).build().decode(token);
+        }
+        long perTokenMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < DECODES; i++) {
+            keyManager.decode(token);
+        }
+        long cachedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        System.out.printf("Decoded %d tokens: %.0f/s building a decoder per token, %.0f/s with the key ring%n",
+                DECODES, DECODES * 1_000_000.0 / perTokenMicros, DECODES * 1_000_000.0 / cachedMicros);
+    }
+
+    private static JwtClaimsSet claims() {
+        Instant now = Instant.now();
+        return JwtClaimsSet.builder()
+                .subject("guest@example.com")
+                .issuedAt(now)
+                .expiresAt(now.plus(30, ChronoUnit.MINUTES))
+                .claim("email", "guest@example.com")
+                .build();
+    }
+}
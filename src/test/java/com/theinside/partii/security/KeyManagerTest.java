@@ -0,0 +1,155 @@
+package com.theinside.partii.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyType;
+import com.theinside.partii.entity.SigningKey;
+import com.theinside.partii.enums.SigningAlgorithm;
+import com.theinside.partii.enums.SigningKeyStatus;
+import com.theinside.partii.repository.SigningKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeyManagerTest {
+
+    @Autowired KeyManager keyManager;
+    @Autowired SigningKeyStore keyStore;
+    @Autowired SigningKeyRepository signingKeyRepository;
+    @Autowired KeyEncryptor keyEncryptor;
+
+    @Test
+    void decode_tokenSignedBeforeRotation_staysValidWhileItsKeyIsRetained() {
+        String token = issue();
+        String firstKeyId = keyIdOf(token);
+        String nextKeyId = signingKeyRepository.findFirstByStatus(SigningKeyStatus.NEXT).orElseThrow().getKid();
+
+        rotate();
+
+        assertThat(keyManager.decode(token).getSubject()).isEqualTo("guest@example.com");
+        assertThat(keyManager.getJWKSet().getKeys())
+                .allSatisfy(key -> assertThat(key.isPrivate()).isFalse())
+                .extracting(JWK::getKeyID)
+                .contains(firstKeyId, nextKeyId);
+        assertThat(keyIdOf(issue())).isEqualTo(nextKeyId);
+    }
+
+    @Test
+    void decode_tokenSignedWithRetiredKey_isRejected() {
+        String token = issue();
+
+        rotate();
+        rotate();
+        rotate();
+
+        // Active, next and two retired keys
+        assertThat(keyManager.getJWKSet().getKeys()).hasSize(4);
+        assertThatThrownBy(() -> keyManager.decode(token))
+                .isInstanceOf(BadJwtException.class)
+                .hasMessageContaining("retired");
+    }
+
+    @Test
+    void secondNode_sharesTheRingAndFollowsRotations() {
+        KeyManager otherNode = new KeyManager(keyStore);
+        ReflectionTestUtils.setField(otherNode, "pollInterval", Duration.ofSeconds(30));
+        otherNode.init();
+        try {
+            String token = issue();
+            assertThat(otherNode.decode(token).getSubject()).isEqualTo("guest@example.com");
+            assertThat(otherNode.getJWKSet().toJSONObject()).isEqualTo(keyManager.getJWKSet().toJSONObject());
+
+            rotate();
+            otherNode.sync();
+
+            assertThat(otherNode.decode(issue()).getSubject()).isEqualTo("guest@example.com");
+            assertThat(otherNode.getJWKSet().toJSONObject()).isEqualTo(keyManager.getJWKSet().toJSONObject());
+        } finally {
+            otherNode.shutdown();
+        }
+    }
+
+    @Test
+    void privateKeys_areStoredEncryptedAndBoundToTheirKeyId() {
+        SigningKey active = signingKeyRepository.findFirstByStatus(SigningKeyStatus.ACTIVE).orElseThrow();
+        String plaintext = Base64.getEncoder().encodeToString(
+                keyEncryptor.decrypt(active.getKid(), active.getEncryptedPrivateKey()));
+
+        assertThat(active.getEncryptedPrivateKey()).isNotEqualTo(plaintext);
+        assertThat(keyStore.loadRing().getFirst().getKeyID()).isEqualTo(active.getKid());
+        assertThatThrownBy(() -> keyEncryptor.decrypt("another-kid", active.getEncryptedPrivateKey()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void signingAlgorithmChange_migratesThroughRotationsAndKeepsEarlierTokensValid() {
+        String rsaToken = issue();
+        ReflectionTestUtils.setField(keyStore, "signingAlgorithm", SigningAlgorithm.ES256);
+        try {
+            rotate(); // the pending RS256 key activates and its successor is generated for ES256
+            rotate();
+
+            assertThat(keyManager.getSigningAlgorithm()).isEqualTo(SignatureAlgorithm.ES256);
+            assertThat(keyManager.getJWKSet().getKeys()).extracting(JWK::getKeyType)
+                    .contains(KeyType.RSA, KeyType.EC);
+            assertThat(keyManager.decode(rsaToken).getSubject()).isEqualTo("guest@example.com");
+            // A header built just before the switch is signed with the new key, not rejected
+            assertThat(keyManager.decode(issue(SignatureAlgorithm.RS256)).getHeaders().get("alg"))
+                    .hasToString("ES256");
+        } finally {
+            ReflectionTestUtils.setField(keyStore, "signingAlgorithm", SigningAlgorithm.RS256);
+            rotate();
+            rotate();
+        }
+        assertThat(keyManager.getSigningAlgorithm()).isEqualTo(SignatureAlgorithm.RS256);
+    }
+
+    /**
+     * Makes the next key due and lets the leader promote it, as if its activation time had passed.
+     */
+    private void rotate() {
+        SigningKey next = signingKeyRepository.findFirstByStatus(SigningKeyStatus.NEXT).orElseThrow();
+        next.setActivatesAt(Instant.now().minusSeconds(1));
+        signingKeyRepository.save(next);
+        keyManager.sync();
+    }
+
+    private String issue() {
+        return issue(keyManager.getSigningAlgorithm());
+    }
+
+    private String issue(SignatureAlgorithm algorithm) {
+        return keyManager.encode(JwtEncoderParameters.from(JwsHeader.with(algorithm).build(), claims()))
+                .getTokenValue();
+    }
+
+    private static JwtClaimsSet claims() {
+        Instant now = Instant.now();
+        return JwtClaimsSet.builder()
+                .subject("guest@example.com")
+                .issuedAt(now)
+                .expiresAt(now.plus(30, ChronoUnit.MINUTES))
+                .claim("email", "guest@example.com")
+                .build();
+    }
+
+    private String keyIdOf(String token) {
+        return keyManager.decode(token).getHeaders().get("kid").toString();
+    }
+}
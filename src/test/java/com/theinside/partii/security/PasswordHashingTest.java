@@ -0,0 +1,118 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PasswordHashingTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashing passwordHashing;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashing.shutdown();
+    }
+
+    @Test
+    void verify_rehashesLegacyAndCheaperHashesOnlyWhenThePasswordMatches() {
+        passwordHashing = new PasswordHashing(SecurityConfig.delegatingPasswordEncoder("bcrypt", 5),
+                2, 4, 2, 8, Duration.ofSeconds(5));
+        String legacy = new BCryptPasswordEncoder(4).encode("Secret-Passw0rd");
+
+        assertThat(passwordHashing.verify("wrong", legacy, "guest@example.com"))
+                .isEqualTo(new PasswordHashing.Verification(false, null));
+
+        PasswordHashing.Verification verification =
+                passwordHashing.verify("Secret-Passw0rd", legacy, "guest@example.com");
+        assertThat(verification.matches()).isTrue();
+        assertThat(verification.upgradedHash()).startsWith("{bcrypt}$2a$05$");
+
+        assertThat(passwordHashing.verify("Secret-Passw0rd", verification.upgradedHash(), "guest@example.com"))
+                .isEqualTo(new PasswordHashing.Verification(true, null));
+    }
+
+    @Test
+    void verify_refusesAtOnceWhenThePoolAndQueueAreFull() {
+        passwordHashing = new PasswordHashing(blockingEncoder(), 1, 1, 2, 8, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> passwordHashing.verify("a", "hash", "first@example.com"));
+        CompletableFuture.runAsync(() -> passwordHashing.verify("b", "hash", "second@example.com"));
+        await().atMost(5, TimeUnit.SECONDS).until(() ->
+                passwordHashing.stats().active() == 1 && passwordHashing.stats().queued() == 1);
+
+        assertThatThrownBy(() -> passwordHashing.verify("c", "hash", "third@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(passwordHashing.stats().rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_limitsPendingHashesPerAccount() {
+        passwordHashing = new PasswordHashing(blockingEncoder(), 1, 10, 1, 8, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> passwordHashing.verify("a", "hash", "guest@example.com"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> passwordHashing.stats().active() == 1);
+
+        assertThatThrownBy(() -> passwordHashing.verify("b", "hash", "Guest@Example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(passwordHashing.stats().throttled()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_limitsPendingHashesPerPublicClientIpOnly() {
+        passwordHashing = new PasswordHashing(blockingEncoder(), 2, 10, 2, 1, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> verifyFrom("203.0.113.7", "first@example.com"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> passwordHashing.stats().active() == 1);
+
+        assertThatThrownBy(() -> verifyFrom("203.0.113.7", "second@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // A private address is the proxy or an internal caller, not a client to limit
+        CompletableFuture.runAsync(() -> verifyFrom("10.0.0.5", "third@example.com"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> passwordHashing.stats().active() == 2);
+        assertThat(passwordHashing.stats().throttled()).isEqualTo(1);
+    }
+
+    private void verifyFrom(String address, String account) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(address);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            passwordHashing.verify("password", "hash", account);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+}
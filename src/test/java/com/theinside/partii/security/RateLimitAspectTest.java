@@ -0,0 +1,116 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.AccountStatus;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.notification.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitAspectTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired RateLimiter rateLimiter;
+    @Autowired UserRepository userRepository;
+
+    @MockitoBean NotificationService notificationService;
+    @MockitoSpyBean RateLimitStore rateLimitStore;
+
+    @Test
+    void login_isLimitedPerEmailWithRateLimitHeaders() throws Exception {
+        String email = "guest-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+
+        for (int remaining = 9; remaining >= 0; remaining--) {
+            login(email)
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(header().string("RateLimit-Limit", "10"))
+                    .andExpect(header().string("RateLimit-Remaining", Integer.toString(remaining)));
+        }
+
+        // The same address in another case is the same key
+        login(email.toUpperCase())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(jsonPath("$.title").value("Too Many Requests"));
+
+        login("other-" + email).andExpect(status().isUnauthorized());
+        assertThat(rateLimiter.stats().get("login-email").limited()).isEqualTo(1);
+    }
+
+    @Test
+    void resendOtp_leavesThePerEmailQuotaToTheTokenTableWithTheInMemoryStore() throws Exception {
+        String email = pendingUser();
+
+        resendOtp(email)
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "20"));
+        assertThat(rateLimiter.stats()).doesNotContainKey("resend-otp-email");
+    }
+
+    @Test
+    void resendOtp_isLimitedPerEmailByTheSharedStore() throws Exception {
+        doReturn(true).when(rateLimitStore).isShared();
+        String email = pendingUser();
+
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            resendOtp(email)
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "5"))
+                    .andExpect(header().string("RateLimit-Remaining", Integer.toString(remaining)));
+        }
+
+        resendOtp(email)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Limit", "5"));
+        assertThat(rateLimiter.stats().get("resend-otp-email").limited()).isEqualTo(1);
+    }
+
+    private String pendingUser() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email("guest-" + run + "@example.com")
+                .displayName("guest")
+                .provider("local")
+                .providerId("guest-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.PENDING)
+                .isEnabled(true)
+                .build()).getEmail();
+    }
+
+    private ResultActions resendOtp(String email) throws Exception {
+        return mockMvc.perform(post("/partii/api/v1/auth/resend-otp")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + email + "\"}"));
+    }
+
+    private ResultActions login(String email) throws Exception {
+        return mockMvc.perform(post("/partii/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + email + "\", \"password\": \"Wrong-Passw0rd\"}"));
+    }
+}
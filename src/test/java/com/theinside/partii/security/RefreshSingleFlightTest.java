@@ -0,0 +1,98 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.AuthToken;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshSingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock TokenManager tokenManager;
+
+    private RefreshSingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new RefreshSingleFlight(tokenManager);
+        ReflectionTestUtils.setField(singleFlight, "reuseGrace", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void refresh_parallelCallsWithSameToken_rotateOnceAndShareTheResult() throws Exception {
+        RefreshedTokens refreshed = new RefreshedTokens(User.builder().id(7L).build(),
+                AuthToken.builder().accessToken("access").refreshToken("next").build());
+        CountDownLatch callersWaiting = new CountDownLatch(1);
+        when(tokenManager.refreshAccessToken("token")).thenAnswer(invocation -> {
+            callersWaiting.await(5, TimeUnit.SECONDS);
+            return refreshed;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<RefreshedTokens>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(pool.submit(() -> singleFlight.refresh("token")));
+            }
+            Thread.sleep(200);
+            callersWaiting.countDown();
+
+            for (Future<RefreshedTokens> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(refreshed);
+            }
+            // A retry shortly after still gets the same pair instead of tripping reuse detection
+            assertThat(singleFlight.refresh("token")).isSameAs(refreshed);
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(tokenManager, times(1)).refreshAccessToken("token");
+    }
+
+    @Test
+    void refresh_stopsSharingAPairOnceItsFamilyIsRevoked() {
+        RefreshedTokens refreshed = new RefreshedTokens(User.builder().id(7L).build(),
+                AuthToken.builder().accessToken("access").refreshToken("next").build());
+        when(tokenManager.refreshAccessToken("token"))
+                .thenReturn(refreshed)
+                .thenThrow(new UnauthorizedException("Token reuse detected. All tokens in this family have been revoked."));
+        singleFlight.refresh("token");
+
+        // Logged out within the grace window: the old token is judged again instead of getting the revoked pair
+        when(tokenManager.isRefreshTokenRevoked("next")).thenReturn(true);
+
+        assertThatThrownBy(() -> singleFlight.refresh("token")).isInstanceOf(UnauthorizedException.class);
+        verify(tokenManager, times(2)).refreshAccessToken("token");
+    }
+
+    @Test
+    void refresh_failuresAreNotRemembered() {
+        when(tokenManager.refreshAccessToken("token"))
+                .thenThrow(new UnauthorizedException("Invalid refresh token"))
+                .thenReturn(new RefreshedTokens(User.builder().id(7L).build(), AuthToken.builder().build()));
+
+        assertThatThrownBy(() -> singleFlight.refresh("token")).isInstanceOf(UnauthorizedException.class);
+        assertThat(singleFlight.refresh("token").user().getId()).isEqualTo(7L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.RefreshToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenStoreTest {
+
+    @Autowired RefreshTokenStore refreshTokenStore;
+
+    @Test
+    void revocations_touchOnlyTheirFamilyOrUser_andRevokedTokensStayFindable() {
+        UUID family = UUID.randomUUID();
+        UUID otherFamily = UUID.randomUUID();
+        RefreshToken rotated = save(1001L, family);
+        RefreshToken current = save(1001L, family);
+        RefreshToken otherDevice = save(1001L, otherFamily);
+        RefreshToken otherUser = save(1002L, UUID.randomUUID());
+
+        refreshTokenStore.revoke(rotated);
+        assertThat(revoked(rotated)).isTrue();
+        assertThat(revoked(current)).isFalse();
+
+        refreshTokenStore.revokeFamily(family);
+        assertThat(revoked(current)).isTrue();
+        assertThat(revoked(otherDevice)).isFalse();
+
+        refreshTokenStore.revokeUser(1001L);
+        assertThat(revoked(otherDevice)).isTrue();
+        assertThat(revoked(otherUser)).isFalse();
+    }
+
+    private RefreshToken save(Long userId, UUID familyId) {
+        Instant now = Instant.now();
+        RefreshToken token = RefreshToken.builder()
+                .token(UUID.randomUUID())
+                .userId(userId)
+                .familyId(familyId)
+                .issuedAt(now)
+                .expiresAt(now.plus(7, ChronoUnit.DAYS))
+                .build();
+        refreshTokenStore.save(token);
+        return token;
+    }
+
+    private boolean revoked(RefreshToken token) {
+        return refreshTokenStore.findByToken(token.getToken()).orElseThrow().isRevoked();
+    }
+}
@@ -0,0 +1,114 @@
+package com.theinside.partii.security;
+
+import com.theinside.partii.entity.User;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.repository.UserRepository.TokenEpochRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenEpochsTest {
+
+    @Mock UserRepository userRepository;
+    @Mock TokenEpochNotifier notifier;
+
+    private TokenEpochs tokenEpochs;
+
+    @BeforeEach
+    void setUp() {
+        tokenEpochs = new TokenEpochs(userRepository, notifier);
+        ReflectionTestUtils.setField(tokenEpochs, "syncOverlap", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void revoke_rejectsTokensIssuedUnderEarlierEpochs() {
+        User user = User.builder().id(7L).build();
+        Jwt issuedBefore = token(7L, 0L);
+
+        assertThat(tokenEpochs.isCurrent(issuedBefore, 7L)).isTrue();
+
+        tokenEpochs.revoke(user);
+
+        assertThat(user.getTokenEpoch()).isEqualTo(1L);
+        assertThat(tokenEpochs.isCurrent(issuedBefore, 7L)).isFalse();
+        assertThat(tokenEpochs.isCurrent(token(7L, 1L), 7L)).isTrue();
+        assertThat(tokenEpochs.isCurrent(token(8L, 0L), 8L)).isTrue();
+        verify(notifier).publish(7L, 1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void notifier_appliesRevocationsPushedByOtherInstances() {
+        when(userRepository.findTokenEpochsUpdatedSince(any(Instant.class))).thenReturn(List.of());
+        tokenEpochs.init();
+        ArgumentCaptor<BiConsumer<Long, Long>> onRevoked = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(notifier).subscribe(onRevoked.capture());
+
+        onRevoked.getValue().accept(7L, 2L);
+        // A stale message cannot move the epoch back
+        onRevoked.getValue().accept(7L, 1L);
+
+        assertThat(tokenEpochs.isCurrent(7L, 1L)).isFalse();
+        assertThat(tokenEpochs.isCurrent(7L, 2L)).isTrue();
+    }
+
+    @Test
+    void sync_picksUpRevocationsFromOtherInstances() {
+        TokenEpochRow row = new TokenEpochRow() {
+            @Override public Long getUserId() { return 7L; }
+            @Override public Long getTokenEpoch() { return 3L; }
+        };
+        when(userRepository.findTokenEpochsUpdatedSince(any(Instant.class))).thenReturn(List.of(row));
+
+        tokenEpochs.sync();
+
+        assertThat(tokenEpochs.isCurrent(7L, 2L)).isFalse();
+        assertThat(tokenEpochs.isCurrent(7L, 3L)).isTrue();
+    }
+
+    @Test
+    void fromToken_buildsUserFromClaimsAndRejectsTokensWithoutThem() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("guest@example.com")
+                .claim(TokenManager.CLAIM_USER_ID, 7L)
+                .claim(TokenManager.CLAIM_ROLES, List.of(TokenManager.ROLE_USER, TokenManager.ROLE_ADMIN))
+                .claim(TokenManager.CLAIM_ENABLED, true)
+                .claim(TokenManager.CLAIM_PROFILE_COMPLETED, false)
+                .build();
+
+        SecurityUser user = SecurityUser.fromToken(jwt);
+
+        assertThat(user.getUserId()).isEqualTo(7L);
+        assertThat(user.getUsername()).isEqualTo("guest@example.com");
+        assertThat(user.isEnabled()).isTrue();
+        assertThat(user.getAuthorities()).extracting(Object::toString).contains("ROLE_ADMIN");
+        assertThatThrownBy(() -> SecurityUser.fromToken(token(7L, 0L))).isInstanceOf(BadJwtException.class);
+    }
+
+    private Jwt token(Long userId, long epoch) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim(TokenManager.CLAIM_USER_ID, userId)
+                .claim(TokenManager.CLAIM_TOKEN_EPOCH, epoch)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.BulkCreateContributionItemsRequest;
+import com.theinside.partii.dto.ContributionItemResponse;
+import com.theinside.partii.dto.CreateContributionItemRequest;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ContributionBulkCreateTest {
+
+    private static final int ITEMS = 120;
+
+    @Autowired ContributionService contributionService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void bulkCreateItems_forLargeEvent_insertsInJdbcBatches() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(User.builder()
+                .email("organizer-" + run + "@example.com")
+                .displayName("Organizer")
+                .provider("google")
+                .providerId("organizer-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build());
+        Event event = eventRepository.save(event(organizer));
+
+        List<CreateContributionItemRequest> items = IntStream.range(0, ITEMS)
+                .mapToObj(i -> new CreateContributionItemRequest("Item " + i, "Food", ContributionType.MATERIAL,
+                        1, null, new BigDecimal("5.00"), i % 4 == 0 ? Priority.MUST_HAVE : Priority.NICE_TO_HAVE, null))
+                .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ContributionItemResponse> created = contributionService.bulkCreateItems(
+                event.getId(), organizer.getId(), new BulkCreateContributionItemsRequest(items));
+
+        assertThat(created).hasSize(ITEMS).allSatisfy(item -> assertThat(item.id()).isNotNull());
+        assertThat(created).extracting(ContributionItemResponse::id).doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEMS);
+        // 120 rows at a batch size of 50 plus a handful of sequence and lookup statements, not one statement per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+        assertThat(contributionService.getSummary(event.getId(), organizer.getId()).totalItems()).isEqualTo(ITEMS);
+        assertThat(contributionService.getCategorySummaries(event.getId(), organizer.getId()))
+                .singleElement()
+                .satisfies(food -> {
+                    assertThat(food.category()).isEqualTo("Food");
+                    assertThat(food.itemCount()).isEqualTo(ITEMS);
+                    assertThat(food.totalEstimatedCost()).isEqualByComparingTo(new BigDecimal("600.00"));
+                });
+    }
+
+    private Event event(User organizer) {
+        return Event.builder()
+                .organizer(organizer)
+                .title("Big Potluck")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .status(EventStatus.ACTIVE)
+                .build();
+    }
+}
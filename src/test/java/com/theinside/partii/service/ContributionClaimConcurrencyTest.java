@@ -0,0 +1,203 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.ContributionSummaryResponse;
+import com.theinside.partii.dto.CreateContributionItemRequest;
+import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ContributionClaimConcurrencyTest {
+
+    private static final int CLAIMANTS = 100;
+
+    @Autowired ContributionService contributionService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired ContributionItemRepository contributionItemRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void claimItem_underContention_hasExactlyOneWinner() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Contention Party")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .maxAttendees(CLAIMANTS + 1)
+                .status(EventStatus.ACTIVE)
+                .build());
+
+        List<Long> claimantIds = new ArrayList<>();
+        for (int i = 0; i < CLAIMANTS; i++) {
+            User claimant = userRepository.save(user(run, "claimant" + i));
+            attendeeRepository.save(EventAttendee.builder()
+                    .event(event)
+                    .user(claimant)
+                    .status(AttendeeStatus.APPROVED)
+                    .joinedAt(Instant.now())
+                    .build());
+            claimantIds.add(claimant.getId());
+        }
+
+        ContributionItem item = contributionItemRepository.save(ContributionItem.builder()
+                .event(event)
+                .name("Ice")
+                .type(ContributionType.MATERIAL)
+                .priority(Priority.MUST_HAVE)
+                .status(ContributionStatus.AVAILABLE)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMANTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (Long claimantId : claimantIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    contributionService.claimItem(event.getId(), item.getId(), claimantId);
+                    return claimantId;
+                }));
+            }
+            start.countDown();
+
+            List<Long> winners = new ArrayList<>();
+            int conflicts = 0;
+            for (Future<Long> result : results) {
+                try {
+                    winners.add(result.get(30, TimeUnit.SECONDS));
+                } catch (java.util.concurrent.ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+                    conflicts++;
+                }
+            }
+
+            assertThat(winners).hasSize(1);
+            assertThat(conflicts).isEqualTo(CLAIMANTS - 1);
+
+            ContributionItem claimed = contributionItemRepository.findById(item.getId()).orElseThrow();
+            assertThat(claimed.getStatus()).isEqualTo(ContributionStatus.CLAIMED);
+            assertThat(contributionService.getSummary(event.getId(), organizer.getId()).claimedCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releaseItem_onlyReleasesFromTheStateItsCounterDeltaWasTakenFrom() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User claimant = userRepository.save(user(run, "claimant"));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Release Party")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .status(EventStatus.ACTIVE)
+                .build());
+        attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(claimant)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+        Long itemId = contributionService.createItem(event.getId(), organizer.getId(),
+                new CreateContributionItemRequest("Ice", null, ContributionType.MATERIAL, 1, null, null,
+                        Priority.MUST_HAVE, null)).id();
+        contributionService.claimItem(event.getId(), itemId, claimant.getId());
+        contributionService.confirmItem(event.getId(), itemId, organizer.getId());
+
+        // A release that read the item while it was still claimed must not apply once it is confirmed
+        Integer released = transactionTemplate.execute(status -> contributionItemRepository.releaseIfHeld(
+                itemId, ContributionStatus.CLAIMED, false, Instant.now()));
+        assertThat(released).isZero();
+        assertThat(contributionItemRepository.findById(itemId).orElseThrow().getStatus())
+                .isEqualTo(ContributionStatus.CONFIRMED);
+
+        contributionService.releaseItem(event.getId(), itemId, organizer.getId());
+        ContributionSummaryResponse summary = contributionService.getSummary(event.getId(), organizer.getId());
+        assertThat(summary.availableCount()).isEqualTo(1);
+        assertThat(summary.claimedCount()).isZero();
+        assertThat(summary.confirmedCount()).isZero();
+    }
+
+    @Test
+    void editsAndDeletes_onlyApplyToItemsStillAvailable() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User claimant = userRepository.save(user(run, "claimant"));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Edit Party")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .status(EventStatus.ACTIVE)
+                .build());
+        attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(claimant)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+        Long itemId = contributionService.createItem(event.getId(), organizer.getId(),
+                new CreateContributionItemRequest("Ice", null, ContributionType.MATERIAL, 1, null, null,
+                        Priority.MUST_HAVE, null)).id();
+        contributionService.claimItem(event.getId(), itemId, claimant.getId());
+
+        // An edit or delete that read the item while it was still available must not apply once it is claimed
+        Integer touched = transactionTemplate.execute(status ->
+                contributionItemRepository.touchIfAvailable(List.of(itemId), Instant.now()));
+        Integer deleted = transactionTemplate.execute(status ->
+                contributionItemRepository.deleteIfAvailable(List.of(itemId)));
+        assertThat(touched).isZero();
+        assertThat(deleted).isZero();
+
+        assertThat(contributionItemRepository.findById(itemId).orElseThrow().getStatus())
+                .isEqualTo(ContributionStatus.CLAIMED);
+        ContributionSummaryResponse summary = contributionService.getSummary(event.getId(), organizer.getId());
+        assertThat(summary.totalItems()).isEqualTo(1);
+        assertThat(summary.claimedCount()).isEqualTo(1);
+        assertThat(summary.availableCount()).isZero();
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build();
+    }
+}
@@ -1,19 +1,29 @@
 package com.theinside.partii.service;
 
+import com.theinside.partii.dto.ContributionCursor;
 import com.theinside.partii.dto.ContributionItemResponse;
+import com.theinside.partii.dto.ContributionSummaryResponse;
 import com.theinside.partii.dto.CreateContributionItemRequest;
 import com.theinside.partii.dto.UpdateContributionItemRequest;
 import com.theinside.partii.entity.ContributionItem;
 import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventContributionCounters;
 import com.theinside.partii.entity.User;
 import com.theinside.partii.enums.*;
 import com.theinside.partii.exception.BadRequestException;
 import com.theinside.partii.exception.ResourceNotFoundException;
 import com.theinside.partii.exception.UnauthorizedException;
 import com.theinside.partii.repository.ContributionItemRepository;
-import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.ContributionTemplateItemRepository;
+import com.theinside.partii.repository.ContributionTemplateRepository;
+import com.theinside.partii.repository.EventContributionCategoryRepository;
+import com.theinside.partii.repository.EventContributionCountersRepository;
 import com.theinside.partii.repository.EventRepository;
 import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.access.EventAccess;
+import com.theinside.partii.service.access.EventAccessResolver;
+import com.theinside.partii.service.board.ContributionBoardBroadcaster;
+import com.theinside.partii.service.contribution.MyContributionsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +32,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,8 +47,15 @@ class ContributionServiceImplTest {
 
     @Mock EventRepository eventRepository;
     @Mock ContributionItemRepository contributionItemRepository;
-    @Mock EventAttendeeRepository attendeeRepository;
     @Mock UserRepository userRepository;
+    @Mock SettlementService settlementService;
+    @Mock EventContributionCountersRepository countersRepository;
+    @Mock EventContributionCategoryRepository categoryRepository;
+    @Mock ContributionBoardBroadcaster boardBroadcaster;
+    @Mock ContributionTemplateRepository templateRepository;
+    @Mock ContributionTemplateItemRepository templateItemRepository;
+    @Mock EventAccessResolver accessResolver;
+    @Mock MyContributionsCache myContributions;
     @InjectMocks ContributionServiceImpl service;
 
     private User organizer;
@@ -50,6 +69,10 @@ class ContributionServiceImplTest {
         event = Event.builder().id(1L).organizer(organizer).status(EventStatus.ACTIVE).build();
     }
 
+    private void grant(Long userId, EventRole role) {
+        when(accessResolver.resolve(1L, userId)).thenReturn(new EventAccess(1L, organizer.getId(), event.getStatus(), role));
+    }
+
     private ContributionItem availableItem() {
         return ContributionItem.builder()
                 .id(10L)
@@ -75,7 +98,8 @@ class ContributionServiceImplTest {
 
     @Test
     void createItem_asOrganizer_success() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
+        when(eventRepository.getReferenceById(1L)).thenReturn(event);
         when(contributionItemRepository.save(any(ContributionItem.class)))
                 .thenAnswer(invocation -> {
                     ContributionItem item = invocation.getArgument(0);
@@ -99,7 +123,7 @@ class ContributionServiceImplTest {
 
     @Test
     void createItem_asNonOrganizer_throwsUnauthorized() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(2L, EventRole.APPROVED);
 
         assertThatThrownBy(() -> service.createItem(1L, 2L, createRequest()))
                 .isInstanceOf(UnauthorizedException.class)
@@ -108,27 +132,43 @@ class ContributionServiceImplTest {
 
     @Test
     void createItem_eventNotActive_throwsBadRequest() {
-        Event draftEvent = Event.builder().id(2L).organizer(organizer).status(EventStatus.DRAFT).build();
-        when(eventRepository.findById(2L)).thenReturn(Optional.of(draftEvent));
+        when(accessResolver.resolve(2L, 1L)).thenReturn(new EventAccess(2L, 1L, EventStatus.DRAFT, EventRole.ORGANIZER));
 
         assertThatThrownBy(() -> service.createItem(2L, 1L, createRequest()))
                 .isInstanceOf(BadRequestException.class)
                 .hasMessageContaining("not accepting contribution changes");
     }
 
+    // ===== getSummary =====
+
+    @Test
+    void getSummary_readsCountersRowWithoutAggregating() {
+        EventContributionCounters counters = EventContributionCounters.builder()
+                .eventId(1L).totalItems(5).availableCount(2).claimedCount(1).confirmedCount(2)
+                .unclaimedMustHaveCount(1).totalEstimatedCost(new BigDecimal("80.00"))
+                .claimedCost(new BigDecimal("30.00"))
+                .build();
+        grant(1L, EventRole.ORGANIZER);
+        when(countersRepository.findById(1L)).thenReturn(Optional.of(counters));
+
+        ContributionSummaryResponse summary = service.getSummary(1L, 1L);
+
+        assertThat(summary.totalItems()).isEqualTo(5);
+        assertThat(summary.confirmedCount()).isEqualTo(2);
+        assertThat(summary.claimedCost()).isEqualByComparingTo("30.00");
+        verify(contributionItemRepository, never()).aggregateByEventId(any());
+    }
+
     // ===== claimItem =====
 
     @Test
     void claimItem_asApprovedAttendee_success() {
         ContributionItem item = availableItem();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(attendeeRepository.existsByEventIdAndUserIdAndStatus(1L, 2L, AttendeeStatus.APPROVED))
-                .thenReturn(true);
+        grant(2L, EventRole.APPROVED);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
         when(userRepository.findById(2L)).thenReturn(Optional.of(attendee));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.claimIfAvailable(eq(10L), eq(attendee), any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.claimItem(1L, 10L, 2L);
 
@@ -136,16 +176,33 @@ class ContributionServiceImplTest {
         assertThat(response.assignedToUserId()).isEqualTo(2L);
         assertThat(response.assignedToDisplayName()).isEqualTo("Attendee");
         assertThat(response.claimedAt()).isNotNull();
+        verify(countersRepository).applyDelta(eq(1L), eq(0L), eq(-1L), eq(1L), eq(0L), eq(0L), eq(0L), eq(0L),
+                any(BigDecimal.class), any(BigDecimal.class), any(Instant.class));
+        verify(myContributions).evict(2L);
+    }
+
+    @Test
+    void claimItem_whenClaimedConcurrently_throwsConflict() {
+        ContributionItem item = availableItem();
+
+        grant(2L, EventRole.APPROVED);
+        when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(attendee));
+        // Another request claimed the item between the read and the conditional update
+        when(contributionItemRepository.claimIfAvailable(eq(10L), eq(attendee), any(Instant.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> service.claimItem(1L, 10L, 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not available for claiming");
+        assertThat(item.getStatus()).isEqualTo(ContributionStatus.AVAILABLE);
+        verifyNoInteractions(countersRepository);
     }
 
     @Test
     void claimItem_asOrganizer_throwsBadRequest() {
         ContributionItem item = availableItem();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        // Organizer is also registered as approved attendee for the purpose of this check
-        when(attendeeRepository.existsByEventIdAndUserIdAndStatus(1L, 1L, AttendeeStatus.APPROVED))
-                .thenReturn(true);
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> service.claimItem(1L, 10L, 1L))
@@ -155,9 +212,7 @@ class ContributionServiceImplTest {
 
     @Test
     void claimItem_asNonAttendee_throwsUnauthorized() {
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(attendeeRepository.existsByEventIdAndUserIdAndStatus(1L, 3L, AttendeeStatus.APPROVED))
-                .thenReturn(false);
+        grant(3L, EventRole.NONE);
 
         assertThatThrownBy(() -> service.claimItem(1L, 10L, 3L))
                 .isInstanceOf(UnauthorizedException.class)
@@ -170,13 +225,11 @@ class ContributionServiceImplTest {
     void assignItem_asOrganizer_success() {
         ContributionItem item = availableItem();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
-        when(attendeeRepository.existsByEventIdAndUserIdAndStatus(1L, 2L, AttendeeStatus.APPROVED))
-                .thenReturn(true);
+        grant(2L, EventRole.APPROVED);
         when(userRepository.findById(2L)).thenReturn(Optional.of(attendee));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.assignIfAvailable(eq(10L), eq(attendee), any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.assignItem(1L, 10L, 1L, 2L);
 
@@ -194,8 +247,7 @@ class ContributionServiceImplTest {
 
         when(userRepository.findById(2L)).thenReturn(Optional.of(attendee));
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.acceptIfAssignedTo(eq(10L), eq(2L), any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.acceptAssignment(1L, 10L, 2L);
 
@@ -227,8 +279,7 @@ class ContributionServiceImplTest {
 
         when(userRepository.findById(2L)).thenReturn(Optional.of(attendee));
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.declineIfAssignedTo(eq(10L), eq(2L), any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.declineAssignment(1L, 10L, 2L);
 
@@ -244,16 +295,17 @@ class ContributionServiceImplTest {
         item.claim(attendee);
         item.confirmClaim(); // now CONFIRMED
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.releaseIfHeld(eq(10L), eq(ContributionStatus.CONFIRMED), eq(false),
+                any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.releaseItem(1L, 10L, 1L);
 
         assertThat(response.status()).isEqualTo(ContributionStatus.AVAILABLE);
         assertThat(response.assignedToUserId()).isNull();
         assertThat(response.claimedAt()).isNull();
+        verify(myContributions).evict(attendee.getId());
     }
 
     // ===== completeItem =====
@@ -264,7 +316,7 @@ class ContributionServiceImplTest {
         item.claim(attendee);
         item.confirmClaim(); // now CONFIRMED
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
         when(contributionItemRepository.save(any(ContributionItem.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -282,7 +334,7 @@ class ContributionServiceImplTest {
         ContributionItem item = availableItem();
         item.claim(attendee); // now CLAIMED, not AVAILABLE
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> service.deleteItem(1L, 10L, 1L))
@@ -294,12 +346,29 @@ class ContributionServiceImplTest {
     void deleteItem_whenAvailable_success() {
         ContributionItem item = availableItem();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
 
+        when(contributionItemRepository.deleteIfAvailable(List.of(10L))).thenReturn(1);
+
         service.deleteItem(1L, 10L, 1L);
 
-        verify(contributionItemRepository).delete(item);
+        verify(contributionItemRepository).deleteIfAvailable(List.of(10L));
+    }
+
+    @Test
+    void deleteItem_whenClaimedConcurrently_throwsConflict() {
+        ContributionItem item = availableItem();
+
+        grant(1L, EventRole.ORGANIZER);
+        when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
+        // A claim committed between the read and the conditional delete
+        when(contributionItemRepository.deleteIfAvailable(List.of(10L))).thenReturn(0);
+
+        assertThatThrownBy(() -> service.deleteItem(1L, 10L, 1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no longer available to delete");
+        verifyNoInteractions(countersRepository);
     }
 
     // ===== updateItem =====
@@ -309,7 +378,7 @@ class ContributionServiceImplTest {
         ContributionItem item = availableItem();
         item.claim(attendee); // now CLAIMED
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
 
         UpdateContributionItemRequest request = new UpdateContributionItemRequest(
@@ -324,10 +393,11 @@ class ContributionServiceImplTest {
     void updateItem_partialUpdate_success() {
         ContributionItem item = availableItem();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
         when(contributionItemRepository.save(any(ContributionItem.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.touchIfAvailable(eq(List.of(10L)), any(Instant.class))).thenReturn(1);
 
         UpdateContributionItemRequest request = new UpdateContributionItemRequest(
                 "Basmati Rice", "Food", null, null, null, new BigDecimal("20.00"), null, null);
@@ -342,6 +412,31 @@ class ContributionServiceImplTest {
         assertThat(response.priority()).isEqualTo(Priority.NICE_TO_HAVE);
     }
 
+    @Test
+    void updateItem_changingCategory_movesCategoryTotals() {
+        ContributionItem item = availableItem();
+        item.setCategory("Food");
+        item.setEstimatedCost(new BigDecimal("15.00"));
+
+        grant(1L, EventRole.ORGANIZER);
+        when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
+        when(contributionItemRepository.save(any(ContributionItem.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.touchIfAvailable(eq(List.of(10L)), any(Instant.class))).thenReturn(1);
+        when(categoryRepository.applyDelta(eq(1L), eq("Food"), eq(-1L), eq(0L), any(), any(), any())).thenReturn(1);
+        when(categoryRepository.applyDelta(eq(1L), eq("Drinks"), eq(1L), eq(0L), any(), any(), any())).thenReturn(0, 1);
+
+        UpdateContributionItemRequest request = new UpdateContributionItemRequest(
+                null, "Drinks", null, null, null, null, null, null);
+        service.updateItem(1L, 10L, 1L, request);
+
+        verify(categoryRepository).insertIfAbsent(1L, "Drinks");
+        verify(categoryRepository, never()).insertIfAbsent(1L, "Food");
+        verify(categoryRepository).deleteUnreferenced(1L);
+        // Moving an item between categories leaves the event's summary counters untouched
+        verifyNoInteractions(countersRepository);
+    }
+
     // ===== confirmItem =====
 
     @Test
@@ -349,10 +444,9 @@ class ContributionServiceImplTest {
         ContributionItem item = availableItem();
         item.claim(attendee); // CLAIMED
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
-        when(contributionItemRepository.save(any(ContributionItem.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(contributionItemRepository.confirmIfClaimed(eq(10L), any(Instant.class))).thenReturn(1);
 
         ContributionItemResponse response = service.confirmItem(1L, 10L, 1L);
 
@@ -360,6 +454,27 @@ class ContributionServiceImplTest {
         assertThat(response.confirmedAt()).isNotNull();
     }
 
+    // ===== listItemsKeyset =====
+
+    @Test
+    void listItemsKeyset_cursorFromDifferentSort_throwsBadRequest() {
+        grant(1L, EventRole.ORGANIZER);
+        String cursor = new ContributionCursor(ContributionSort.CREATED_AT, Priority.MUST_HAVE, Instant.now(), 10L).encode();
+
+        assertThatThrownBy(() -> service.listItemsKeyset(1L, 1L, null, null, null, null, "priority", cursor, 20))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("different sort");
+    }
+
+    @Test
+    void listItems_invalidFilter_throwsBadRequest() {
+        grant(1L, EventRole.ORGANIZER);
+
+        assertThatThrownBy(() -> service.listItems(1L, 1L, "available", null, "gadget", null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid type");
+    }
+
     // ===== getItem =====
 
     @Test
@@ -374,11 +489,25 @@ class ContributionServiceImplTest {
                 .status(ContributionStatus.AVAILABLE)
                 .build();
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        grant(1L, EventRole.ORGANIZER);
         when(contributionItemRepository.findById(10L)).thenReturn(Optional.of(item));
 
         assertThatThrownBy(() -> service.getItem(1L, 10L, 1L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("not found for this event");
     }
+
+    // ===== applyTemplate =====
+
+    @Test
+    void applyTemplate_notOwnedByOrganizer_throwsResourceNotFound() {
+        grant(1L, EventRole.ORGANIZER);
+        when(templateRepository.findByIdAndOwnerId(5L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.applyTemplate(1L, 5L, 1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(contributionItemRepository, never()).copyFromTemplate(any(), any(), any());
+        verify(countersRepository, never()).applyDelta(any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), any(), any(), any());
+    }
 }
@@ -0,0 +1,150 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.BulkCreateContributionItemsRequest;
+import com.theinside.partii.dto.CloneEventRequest;
+import com.theinside.partii.dto.ContributionItemResponse;
+import com.theinside.partii.dto.ContributionSummaryResponse;
+import com.theinside.partii.dto.ContributionTemplateResponse;
+import com.theinside.partii.dto.CreateContributionItemRequest;
+import com.theinside.partii.dto.EventResponse;
+import com.theinside.partii.dto.SaveEventAsTemplateRequest;
+import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class EventCloneTest {
+
+    private static final int ITEMS = 40;
+
+    @Autowired EventService eventService;
+    @Autowired ContributionService contributionService;
+    @Autowired ContributionTemplateService templateService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired ContributionItemRepository contributionItemRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void cloneEvent_copiesItemsWithFreshStateInOneStatementPerTable() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User attendee = userRepository.save(user(run, "attendee"));
+        Event source = eventRepository.save(event(organizer));
+        attendeeRepository.save(EventAttendee.builder()
+                .event(source)
+                .user(attendee)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+
+        List<ContributionItemResponse> created = contributionService.bulkCreateItems(
+                source.getId(), organizer.getId(), new BulkCreateContributionItemsRequest(items()));
+        contributionService.claimItem(source.getId(), created.getFirst().id(), attendee.getId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        EventResponse clone = eventService.cloneEvent(source.getId(), organizer.getId(),
+                new CloneEventRequest(null, source.getEventDate().plusDays(7)));
+
+        // Source lookup, event insert, item copy, counters insert, plus the lazy organizer fetch for the response
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+
+        List<ContributionItem> copied = contributionItemRepository.findByEventId(clone.id());
+        assertThat(copied).hasSize(ITEMS).allSatisfy(item -> {
+            assertThat(item.getStatus()).isEqualTo(ContributionStatus.AVAILABLE);
+            assertThat(item.getAssignedTo()).isNull();
+            assertThat(item.getClaimedAt()).isNull();
+            assertThat(item.isCompleted()).isFalse();
+        });
+        assertThat(copied).extracting(ContributionItem::getId).doesNotHaveDuplicates();
+
+        ContributionSummaryResponse summary = contributionService.getSummary(clone.id(), organizer.getId());
+        assertThat(summary.totalItems()).isEqualTo(ITEMS);
+        assertThat(summary.availableCount()).isEqualTo(ITEMS);
+        assertThat(summary.claimedCount()).isZero();
+        assertThat(summary.unclaimedMustHaveCount()).isEqualTo(ITEMS / 4);
+        assertThat(summary.totalEstimatedCost()).isEqualByComparingTo(new BigDecimal("5.00").multiply(BigDecimal.valueOf(ITEMS)));
+
+        // Entity inserts still work after ids were drawn by the set-based copy
+        contributionService.bulkCreateItems(source.getId(), organizer.getId(),
+                new BulkCreateContributionItemsRequest(items().subList(0, 10)));
+        assertThat(contributionItemRepository.countByEventId(source.getId())).isEqualTo(ITEMS + 10);
+    }
+
+    @Test
+    void saveAsTemplateThenApply_copiesItemDefinitions() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        Event source = eventRepository.save(event(organizer));
+        Event target = eventRepository.save(event(organizer));
+        contributionService.bulkCreateItems(source.getId(), organizer.getId(),
+                new BulkCreateContributionItemsRequest(items().subList(0, 20)));
+
+        ContributionTemplateResponse template = templateService.saveEventAsTemplate(
+                source.getId(), organizer.getId(), new SaveEventAsTemplateRequest("Potluck basics", null));
+        assertThat(template.items()).hasSize(20);
+        assertThat(template.items().getFirst().name()).isEqualTo("Item 0");
+
+        ContributionSummaryResponse summary = contributionService.applyTemplate(target.getId(), template.id(), organizer.getId());
+        assertThat(summary.totalItems()).isEqualTo(20);
+        assertThat(summary.availableCount()).isEqualTo(20);
+        assertThat(summary.unclaimedMustHaveCount()).isEqualTo(5);
+        assertThat(contributionItemRepository.countByEventId(target.getId())).isEqualTo(20);
+    }
+
+    private List<CreateContributionItemRequest> items() {
+        return IntStream.range(0, ITEMS)
+                .mapToObj(i -> new CreateContributionItemRequest("Item " + i, "Food", ContributionType.MATERIAL,
+                        1, null, new BigDecimal("5.00"), i % 4 == 0 ? Priority.MUST_HAVE : Priority.NICE_TO_HAVE, null))
+                .toList();
+    }
+
+    private Event event(User organizer) {
+        return Event.builder()
+                .organizer(organizer)
+                .title("Monthly Potluck")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .joinDeadline(LocalDateTime.now().plusDays(5))
+                .status(EventStatus.ACTIVE)
+                .build();
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build();
+    }
+}
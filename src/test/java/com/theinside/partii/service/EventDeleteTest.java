@@ -0,0 +1,82 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.BulkContributionItemIdsRequest;
+import com.theinside.partii.dto.ContributionItemResponse;
+import com.theinside.partii.dto.CreateContributionItemRequest;
+import com.theinside.partii.dto.CreateEventRequest;
+import com.theinside.partii.dto.EventResponse;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.EventContributionCategoryRepository;
+import com.theinside.partii.repository.EventContributionCountersRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventDeleteTest {
+
+    @Autowired EventService eventService;
+    @Autowired ContributionService contributionService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventContributionCountersRepository countersRepository;
+    @Autowired EventContributionCategoryRepository categoryRepository;
+
+    @Test
+    void deleteEvent_dropsCountersAndCategoriesLeftByRemovedItems() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(User.builder()
+                .email("organizer-" + run + "@example.com")
+                .displayName("organizer")
+                .provider("google")
+                .providerId("organizer-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build());
+
+        EventResponse created = eventService.createEvent(organizer.getId(), new CreateEventRequest(
+                "Monthly Potluck", null, EventType.PARTY, null, null, null, LocalDateTime.now().plusDays(7),
+                null, null, null, null, null, null, LocalDateTime.now().plusDays(5), EventVisibility.PUBLIC,
+                List.of(item("Jollof"), item("Plantain"))));
+        Long eventId = created.id();
+
+        // Initial items go through the counters like any other insert
+        assertThat(contributionService.getSummary(eventId, organizer.getId()).totalItems()).isEqualTo(2);
+        assertThat(categoryRepository.findByEventIdOrderByCategoryAsc(eventId)).hasSize(1);
+
+        eventService.publishEvent(eventId, organizer.getId());
+        List<Long> itemIds = contributionService.listItems(eventId, organizer.getId(), null, null, null, null,
+                        Pageable.unpaged())
+                .map(ContributionItemResponse::id)
+                .toList();
+        contributionService.bulkDeleteItems(eventId, organizer.getId(), new BulkContributionItemIdsRequest(itemIds));
+        assertThat(countersRepository.findById(eventId)).isPresent();
+
+        eventService.cancelEvent(eventId, organizer.getId(), "Rescheduled");
+        eventService.deleteEvent(eventId, organizer.getId());
+
+        assertThat(eventRepository.findById(eventId)).isEmpty();
+        assertThat(countersRepository.findById(eventId)).isEmpty();
+        assertThat(categoryRepository.findByEventIdOrderByCategoryAsc(eventId)).isEmpty();
+    }
+
+    private CreateContributionItemRequest item(String name) {
+        return new CreateContributionItemRequest(name, "Food", ContributionType.MATERIAL, 1, null,
+                new BigDecimal("5.00"), Priority.NICE_TO_HAVE, null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.AttendeeResponse;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JoinRequestExpiryTest {
+
+    @Autowired AttendeeService attendeeService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        // Start from a sweep that has nothing left to do, whatever other tests left behind
+        while (attendeeService.expireStaleRequests(500) > 0) {
+        }
+        organizer = user();
+    }
+
+    @Test
+    void expireStaleRequests_closesOpenRequestsOfClosedEventsThenPastDeadlines() {
+        Event cancelled = event(EventStatus.CANCELLED, LocalDateTime.now().plusDays(1));
+        EventAttendee closedPending = attendee(cancelled, AttendeeStatus.PENDING);
+        EventAttendee closedWaitlisted = attendee(cancelled, AttendeeStatus.WAITLIST);
+        EventAttendee closedApproved = attendee(cancelled, AttendeeStatus.APPROVED);
+        Event past = event(EventStatus.PAST, null);
+        EventAttendee pastPending = attendee(past, AttendeeStatus.PENDING);
+
+        Event late = event(EventStatus.ACTIVE, LocalDateTime.now().minusHours(1));
+        EventAttendee latePending = attendee(late, AttendeeStatus.PENDING);
+        EventAttendee lateApproved = attendee(late, AttendeeStatus.APPROVED);
+
+        Event open = event(EventStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+        EventAttendee openPending = attendee(open, AttendeeStatus.PENDING);
+
+        // Closed events fill the batch first; the deadline query only gets what is left of it
+        assertThat(attendeeService.expireStaleRequests(2)).isEqualTo(2);
+        assertThat(reload(latePending).getStatus()).isEqualTo(AttendeeStatus.PENDING);
+        assertThat(attendeeService.expireStaleRequests(2)).isEqualTo(2);
+        assertThat(attendeeService.expireStaleRequests(2)).isZero();
+
+        for (EventAttendee attendee : new EventAttendee[]{closedPending, closedWaitlisted, pastPending}) {
+            EventAttendee expired = reload(attendee);
+            assertThat(expired.getStatus()).isEqualTo(AttendeeStatus.EXPIRED);
+            assertThat(expired.getStatusReason()).isEqualTo(AttendeeStatusReason.EVENT_CLOSED);
+            assertThat(expired.getStatusChangedAt()).isNotNull();
+        }
+        assertThat(reload(latePending).getStatus()).isEqualTo(AttendeeStatus.EXPIRED);
+        assertThat(reload(latePending).getStatusReason()).isEqualTo(AttendeeStatusReason.JOIN_DEADLINE_PASSED);
+
+        assertThat(reload(closedApproved).getStatus()).isEqualTo(AttendeeStatus.APPROVED);
+        assertThat(reload(lateApproved).getStatus()).isEqualTo(AttendeeStatus.APPROVED);
+        assertThat(reload(openPending).getStatus()).isEqualTo(AttendeeStatus.PENDING);
+        assertThat(reload(closedApproved).getStatusReason()).isNull();
+    }
+
+    @Test
+    void requestToJoin_reopensAnExpiredRequestOnceTheEventAcceptsAgain() {
+        Event event = event(EventStatus.ACTIVE, LocalDateTime.now().minusHours(1));
+        EventAttendee request = attendee(event, AttendeeStatus.PENDING);
+        attendeeService.expireStaleRequests(500);
+
+        event.setJoinDeadline(LocalDateTime.now().plusDays(1));
+        eventRepository.save(event);
+        AttendeeResponse reopened = attendeeService.requestToJoin(event.getId(), request.getUser().getId());
+
+        EventAttendee saved = reload(request);
+        assertThat(reopened.id()).isEqualTo(request.getId());
+        assertThat(saved.getStatus()).isEqualTo(AttendeeStatus.PENDING);
+        assertThat(saved.getStatusReason()).isNull();
+
+        // An open request still counts as a duplicate
+        assertThatThrownBy(() -> attendeeService.requestToJoin(event.getId(), request.getUser().getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private EventAttendee reload(EventAttendee attendee) {
+        return attendeeRepository.findById(attendee.getId()).orElseThrow();
+    }
+
+    private EventAttendee attendee(Event event, AttendeeStatus status) {
+        return attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(user())
+                .status(status)
+                .build());
+    }
+
+    private Event event(EventStatus status, LocalDateTime joinDeadline) {
+        return eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Monthly Potluck")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .joinDeadline(joinDeadline)
+                .status(status)
+                .build());
+    }
+
+    private User user() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email("user-" + run + "@example.com")
+                .displayName("user")
+                .provider("google")
+                .providerId("user-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build());
+    }
+}
@@ -0,0 +1,189 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.service.notification.MustHaveDigestEntry;
+import com.theinside.partii.service.notification.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MustHaveAlertDigestTest {
+
+    private static final int ORGANIZERS = 3;
+    private static final int EVENTS_PER_ORGANIZER = 2;
+    private static final int ITEMS_PER_EVENT = 12;
+    private static final Duration HORIZON = Duration.ofDays(2);
+
+    @Autowired ContributionAlertService alertService;
+    @Autowired ContributionService contributionService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired ContributionItemRepository contributionItemRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @MockitoBean NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        when(notificationService.sendMustHaveDigestEmail(anyString(), anyString(), anyList())).thenReturn(true);
+    }
+
+    @Test
+    void sendMustHaveDigests_sendsOneDigestPerOrganizerOnce() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<User> organizers = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        for (int o = 0; o < ORGANIZERS; o++) {
+            User organizer = userRepository.save(user(run, "organizer" + o));
+            organizers.add(organizer);
+            for (int e = 0; e < EVENTS_PER_ORGANIZER; e++) {
+                // Later event first, to check digests list events soonest first
+                Event event = eventRepository.save(event(organizer, LocalDateTime.now().plusHours(40 - e * 10)));
+                events.add(event);
+                insertMustHaveItems(event.getId(), ITEMS_PER_EVENT);
+            }
+            // Outside the horizon: never alerted
+            insertMustHaveItems(eventRepository.save(event(organizer, LocalDateTime.now().plusDays(10))).getId(), 5);
+        }
+
+        alertService.sendMustHaveDigests(HORIZON);
+
+        Map<String, List<MustHaveDigestEntry>> digests = captureDigests(organizers);
+        assertThat(digests).hasSize(ORGANIZERS);
+        assertThat(digests.values()).allSatisfy(entries -> {
+            assertThat(entries).hasSize(EVENTS_PER_ORGANIZER);
+            assertThat(entries).extracting(MustHaveDigestEntry::missingCount).containsOnly(ITEMS_PER_EVENT);
+            assertThat(entries.get(0).eventDate()).isBefore(entries.get(1).eventDate());
+            assertThat(entries.get(0).itemNames()).hasSize(10);
+        });
+
+        // Already alerted items are not sent again
+        clearInvocations(notificationService);
+        alertService.sendMustHaveDigests(HORIZON);
+        assertThat(captureDigests(organizers)).isEmpty();
+
+        // A released item is open again and gets alerted on the next run
+        Event event = events.getFirst();
+        User attendee = userRepository.save(user(run, "attendee"));
+        attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(attendee)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+        Long itemId = contributionItemRepository.findByEventId(event.getId()).getFirst().getId();
+        contributionService.claimItem(event.getId(), itemId, attendee.getId());
+        contributionService.releaseItem(event.getId(), itemId, organizers.getFirst().getId());
+
+        clearInvocations(notificationService);
+        alertService.sendMustHaveDigests(HORIZON);
+        assertThat(captureDigests(organizers))
+                .containsOnlyKeys(organizers.getFirst().getEmail())
+                .allSatisfy((email, entries) -> assertThat(entries).singleElement()
+                        .satisfies(entry -> assertThat(entry.missingCount()).isEqualTo(1)));
+    }
+
+    @Test
+    void sendMustHaveDigests_keepsItemsUnalertedWhenTheDigestIsNotDelivered() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        insertMustHaveItems(eventRepository.save(event(organizer, LocalDateTime.now().plusHours(12))).getId(), 3);
+        when(notificationService.sendMustHaveDigestEmail(eq(organizer.getEmail()), anyString(), anyList()))
+                .thenReturn(false);
+
+        alertService.sendMustHaveDigests(HORIZON);
+        assertThat(captureDigests(List.of(organizer))).containsOnlyKeys(organizer.getEmail());
+
+        // Delivered on the next run, and only then marked
+        when(notificationService.sendMustHaveDigestEmail(eq(organizer.getEmail()), anyString(), anyList()))
+                .thenReturn(true);
+        clearInvocations(notificationService);
+        alertService.sendMustHaveDigests(HORIZON);
+        assertThat(captureDigests(List.of(organizer))).containsOnlyKeys(organizer.getEmail());
+
+        clearInvocations(notificationService);
+        alertService.sendMustHaveDigests(HORIZON);
+        assertThat(captureDigests(List.of(organizer))).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<MustHaveDigestEntry>> captureDigests(List<User> organizers) {
+        ArgumentCaptor<String> to = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<MustHaveDigestEntry>> entries = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, atLeast(0)).sendMustHaveDigestEmail(to.capture(), anyString(), entries.capture());
+
+        List<String> ours = organizers.stream().map(User::getEmail).toList();
+        Map<String, List<MustHaveDigestEntry>> digests = new HashMap<>();
+        for (int i = 0; i < to.getAllValues().size(); i++) {
+            if (ours.contains(to.getAllValues().get(i))) {
+                assertThat(digests.put(to.getAllValues().get(i), entries.getAllValues().get(i)))
+                        .as("one digest per organizer").isNull();
+            }
+        }
+        return digests;
+    }
+
+    private void insertMustHaveItems(Long eventId, int count) {
+        jdbcTemplate.update("""
+                INSERT INTO contribution_items (id, event_id, name, type, quantity, priority, status, completed,
+                    created_at, updated_at)
+                SELECT NEXT VALUE FOR contribution_items_id_seq, ?, 'Item ' || "X", 'MATERIAL', 1, 'MUST_HAVE',
+                    'AVAILABLE', FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, eventId, count);
+    }
+
+    private Event event(User organizer, LocalDateTime eventDate) {
+        return Event.builder()
+                .organizer(organizer)
+                .title("Potluck")
+                .eventType(EventType.PARTY)
+                .eventDate(eventDate)
+                .status(EventStatus.ACTIVE)
+                .build();
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.CursorPage;
+import com.theinside.partii.dto.MyContributionResponse;
+import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MyContributionsTest {
+
+    @Autowired ContributionService contributionService;
+    @Autowired EventService eventService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired ContributionItemRepository contributionItemRepository;
+
+    @Test
+    void getMyContributions_pagesByEventDateAndFollowsTransitions() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User guest = userRepository.save(user(run, "guest"));
+        Event soon = event(organizer, guest, "Soon", 3);
+        Event later = event(organizer, guest, "Later", 10);
+
+        ContributionItem ice = item(later, "Ice");
+        ContributionItem cups = item(soon, "Cups");
+        ContributionItem plates = item(soon, "Plates");
+        ContributionItem chairs = item(later, "Chairs");
+        contributionService.claimItem(later.getId(), ice.getId(), guest.getId());
+        contributionService.claimItem(soon.getId(), cups.getId(), guest.getId());
+        contributionService.claimItem(soon.getId(), plates.getId(), guest.getId());
+
+        CursorPage<MyContributionResponse> first = contributionService.getMyContributions(guest.getId(), null, 2);
+        assertThat(first.content()).extracting(MyContributionResponse::name).containsExactly("Cups", "Plates");
+        assertThat(first.content().getFirst().eventTitle()).isEqualTo("Soon");
+        assertThat(first.hasNext()).isTrue();
+
+        CursorPage<MyContributionResponse> second = contributionService.getMyContributions(guest.getId(), first.nextCursor(), 2);
+        assertThat(second.content()).extracting(MyContributionResponse::name).containsExactly("Ice");
+        assertThat(second.hasNext()).isFalse();
+
+        // Served from the cache until the guest's own items change
+        assertThat(contributionService.getMyContributions(guest.getId(), null, 2)).isSameAs(first);
+
+        contributionService.releaseItem(soon.getId(), plates.getId(), organizer.getId());
+        assertThat(contributionService.getMyContributions(guest.getId(), null, 2).content())
+                .extracting(MyContributionResponse::name).containsExactly("Cups", "Ice");
+
+        contributionService.assignItem(later.getId(), chairs.getId(), organizer.getId(), guest.getId());
+        eventService.cancelEvent(soon.getId(), organizer.getId(), "Rained out");
+        assertThat(contributionService.getMyContributions(guest.getId(), null, 2).content())
+                .extracting(MyContributionResponse::name).containsExactly("Ice", "Chairs");
+    }
+
+    private Event event(User organizer, User guest, String title, int daysAhead) {
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title(title)
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(daysAhead))
+                .status(EventStatus.ACTIVE)
+                .build());
+        attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(guest)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+        return event;
+    }
+
+    private ContributionItem item(Event event, String name) {
+        return contributionItemRepository.save(ContributionItem.builder()
+                .event(event)
+                .name(name)
+                .type(ContributionType.MATERIAL)
+                .priority(Priority.NICE_TO_HAVE)
+                .status(ContributionStatus.AVAILABLE)
+                .build());
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build();
+    }
+}
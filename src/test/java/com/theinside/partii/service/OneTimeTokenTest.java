@@ -0,0 +1,110 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.VerifyEmailRequest;
+import com.theinside.partii.entity.EmailVerificationToken;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.AccountStatus;
+import com.theinside.partii.exception.TooManyRequestsException;
+import com.theinside.partii.exception.VerificationFailedException;
+import com.theinside.partii.repository.EmailVerificationTokenRepository;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.security.TokenHasher;
+import com.theinside.partii.service.notification.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static com.theinside.partii.utils.CustomMessages.INVALID_OR_EXPIRED_RESET_TOKEN;
+import static com.theinside.partii.utils.CustomMessages.OTP_NOT_VERIFIED;
+import static com.theinside.partii.utils.CustomMessages.OTP_VERIFICATION_FAILED_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OneTimeTokenTest {
+
+    @Autowired AuthService authService;
+    @Autowired UserRepository userRepository;
+    @Autowired EmailVerificationTokenRepository emailVerificationTokenRepository;
+    @Autowired TokenHasher tokenHasher;
+
+    @MockitoBean NotificationService notificationService;
+
+    @Test
+    void verifyEmail_locksTheCodeAfterTooManyWrongAttempts() {
+        User user = userRepository.save(user(AccountStatus.PENDING));
+        emailVerificationTokenRepository.save(EmailVerificationToken.builder()
+                .email(user.getEmail())
+                .tokenHash(tokenHasher.hash(user.getEmail(), "123456"))
+                .expiresAt(Instant.now().plus(15, ChronoUnit.MINUTES))
+                .build());
+
+        for (int attempt = 0; attempt < 5; attempt++) {
+            assertThatThrownBy(() -> authService.verifyEmail(new VerifyEmailRequest(user.getEmail(), "000000")))
+                    .isInstanceOf(VerificationFailedException.class)
+                    .hasMessage(OTP_VERIFICATION_FAILED_MESSAGE);
+        }
+
+        assertThatThrownBy(() -> authService.verifyEmail(new VerifyEmailRequest(user.getEmail(), "123456")))
+                .isInstanceOf(VerificationFailedException.class)
+                .hasMessage(OTP_NOT_VERIFIED);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().isVerified()).isFalse();
+    }
+
+    @Test
+    void resetPassword_findsTheTokenByHashOnlyForItsEmailAndOnlyOnce() {
+        User user = userRepository.save(user(AccountStatus.VERIFIED));
+        User other = userRepository.save(user(AccountStatus.VERIFIED));
+        authService.forgotPassword(user.getEmail());
+        ArgumentCaptor<String> sent = ArgumentCaptor.forClass(String.class);
+        verify(notificationService).sendPasswordResetEmail(eq(user.getEmail()), sent.capture(), anyString());
+        String token = sent.getValue();
+
+        assertThatThrownBy(() -> authService.resetPassword(other.getEmail(), token, "Another-Passw0rd"))
+                .isInstanceOf(VerificationFailedException.class)
+                .hasMessage(INVALID_OR_EXPIRED_RESET_TOKEN);
+
+        authService.resetPassword(user.getEmail(), token, "New-Passw0rd");
+
+        assertThatThrownBy(() -> authService.resetPassword(user.getEmail(), token, "Again-Passw0rd"))
+                .isInstanceOf(VerificationFailedException.class)
+                .hasMessage(INVALID_OR_EXPIRED_RESET_TOKEN);
+    }
+
+    @Test
+    void resendOtp_isLimitedPerEmailFromTheTokenTable() {
+        User user = userRepository.save(user(AccountStatus.PENDING));
+        for (int i = 0; i < 5; i++) {
+            authService.resendOtp(user.getEmail());
+        }
+
+        assertThatThrownBy(() -> authService.resendOtp(user.getEmail()))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private User user(AccountStatus status) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        return User.builder()
+                .email("guest-" + run + "@example.com")
+                .displayName("guest")
+                .provider("local")
+                .providerId("guest-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(status)
+                .isEnabled(true)
+                .build();
+    }
+}
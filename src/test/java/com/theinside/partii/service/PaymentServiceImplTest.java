@@ -0,0 +1,213 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.PaymentImportResponse;
+import com.theinside.partii.dto.PaymentImportRowResult;
+import com.theinside.partii.dto.PaymentResponse;
+import com.theinside.partii.dto.RecordPaymentRequest;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.PaymentLedgerEntry;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.enums.PaymentImportFormat;
+import com.theinside.partii.enums.PaymentImportRowStatus;
+import com.theinside.partii.enums.PaymentStatus;
+import com.theinside.partii.exception.BadRequestException;
+import com.theinside.partii.exception.UnauthorizedException;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventPaymentTotalsRepository;
+import com.theinside.partii.repository.EventAttendeeRepository.AttendeeMatch;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.PaymentBatchRepository;
+import com.theinside.partii.repository.PaymentLedgerRepository;
+import com.theinside.partii.repository.PaymentLedgerRepository.LedgerKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceImplTest {
+
+    @Mock EventRepository eventRepository;
+    @Mock EventAttendeeRepository attendeeRepository;
+    @Mock PaymentLedgerRepository ledgerRepository;
+    @Mock EventPaymentTotalsRepository totalsRepository;
+    @Mock PaymentBatchRepository batchRepository;
+    @Mock SettlementService settlementService;
+    @InjectMocks PaymentServiceImpl service;
+
+    private Event event;
+    private EventAttendee attendee;
+
+    @BeforeEach
+    void setUp() {
+        User organizer = User.builder().id(1L).displayName("Organizer").build();
+        User guest = User.builder().id(2L).displayName("Guest").build();
+        event = Event.builder().id(1L).organizer(organizer).status(EventStatus.ACTIVE).build();
+        attendee = EventAttendee.builder()
+                .id(20L)
+                .event(event)
+                .user(guest)
+                .status(AttendeeStatus.APPROVED)
+                .paymentAmount(new BigDecimal("100.00"))
+                .build();
+    }
+
+    private RecordPaymentRequest request(String amount) {
+        return new RecordPaymentRequest(new BigDecimal(amount), "MOMO-123", "key-1");
+    }
+
+    @Test
+    void recordPayment_newKey_appendsEntryAndIncrementsTotals() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(attendeeRepository.findByEventIdAndUserIdForUpdate(1L, 2L)).thenReturn(Optional.of(attendee));
+        when(ledgerRepository.findByEventIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(ledgerRepository.save(any(PaymentLedgerEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PaymentResponse response = service.recordPayment(1L, 2L, 1L, request("40.00"));
+
+        assertThat(response.replayed()).isFalse();
+        assertThat(response.amountPaid()).isEqualByComparingTo("40.00");
+        assertThat(response.paymentStatus()).isEqualTo(PaymentStatus.PARTIAL);
+        verify(totalsRepository).insertIfAbsent(1L);
+        verify(totalsRepository).increment(eq(1L), eq(new BigDecimal("40.00")), eq(1L), any(Instant.class));
+        verify(settlementService).paymentRecorded(1L, 2L, new BigDecimal("40.00"));
+    }
+
+    @Test
+    void recordPayment_replayedKey_returnsOriginalWithoutTouchingTotals() {
+        PaymentLedgerEntry existing = PaymentLedgerEntry.builder()
+                .id(99L).event(event).attendee(attendee)
+                .amount(new BigDecimal("40.00")).idempotencyKey("key-1").recordedBy(1L)
+                .build();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(attendeeRepository.findByEventIdAndUserIdForUpdate(1L, 2L)).thenReturn(Optional.of(attendee));
+        when(ledgerRepository.findByEventIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(existing));
+
+        PaymentResponse response = service.recordPayment(1L, 2L, 1L, request("40.00"));
+
+        assertThat(response.replayed()).isTrue();
+        assertThat(response.entryId()).isEqualTo(99L);
+        verify(ledgerRepository, never()).save(any());
+        verify(totalsRepository, never()).increment(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void recordPayment_reusedKeyWithDifferentAmount_throwsConflict() {
+        PaymentLedgerEntry existing = PaymentLedgerEntry.builder()
+                .id(99L).event(event).attendee(attendee)
+                .amount(new BigDecimal("40.00")).idempotencyKey("key-1").recordedBy(1L)
+                .build();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(attendeeRepository.findByEventIdAndUserIdForUpdate(1L, 2L)).thenReturn(Optional.of(attendee));
+        when(ledgerRepository.findByEventIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> service.recordPayment(1L, 2L, 1L, request("50.00")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Idempotency key");
+    }
+
+    @Test
+    void recordPayment_pendingAttendee_throwsBadRequest() {
+        attendee.setStatus(AttendeeStatus.PENDING);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(attendeeRepository.findByEventIdAndUserIdForUpdate(1L, 2L)).thenReturn(Optional.of(attendee));
+        when(ledgerRepository.findByEventIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.recordPayment(1L, 2L, 1L, request("40.00")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("approved attendees");
+    }
+
+    @Test
+    void recordPayment_asNonOrganizer_throwsUnauthorized() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        assertThatThrownBy(() -> service.recordPayment(1L, 2L, 2L, request("40.00")))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void importPayments_mixedRows_appliesMatchesAndReportsEveryRow() {
+        String csv = """
+            attendee_id,email,amount,reference
+            20,,40.00,MOMO-1
+            ,guest@example.com,10.00,MOMO-2
+            21,,25.00,MOMO-3
+            20,,15.00,MOMO-OLD
+            20,,15.00,MOMO-1
+            99,,5.00,MOMO-4
+            20,,abc,MOMO-5
+            """;
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(attendeeRepository.findImportMatches(eq(1L), any(), any())).thenReturn(List.of(
+            match(20L, "guest@example.com", AttendeeStatus.APPROVED),
+            match(21L, "pending@example.com", AttendeeStatus.PENDING)
+        ));
+        when(ledgerRepository.findExistingKeys(eq(1L), any())).thenReturn(List.of(ledgerKey("manual-1", "MOMO-OLD")));
+
+        PaymentImportResponse response = service.importPayments(1L, 1L,
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), PaymentImportFormat.CSV);
+
+        assertThat(response.rows()).extracting(PaymentImportRowResult::status).containsExactly(
+            PaymentImportRowStatus.APPLIED,
+            PaymentImportRowStatus.APPLIED,
+            PaymentImportRowStatus.NOT_APPROVED,
+            PaymentImportRowStatus.DUPLICATE,
+            PaymentImportRowStatus.DUPLICATE,
+            PaymentImportRowStatus.NOT_FOUND,
+            PaymentImportRowStatus.INVALID
+        );
+        assertThat(response.applied()).isEqualTo(2);
+        assertThat(response.duplicates()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(3);
+        assertThat(response.amountApplied()).isEqualByComparingTo("50.00");
+        verify(batchRepository).insertLedgerEntries(eq(1L), eq(1L), argThat(entries -> entries.size() == 2), any(Instant.class));
+        verify(batchRepository).applyAttendeePayments(Map.of(20L, new BigDecimal("50.00")));
+        verify(totalsRepository).increment(eq(1L), eq(new BigDecimal("50.00")), eq(2L), any(Instant.class));
+    }
+
+    @Test
+    void importPayments_asNonOrganizer_throwsUnauthorized() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        assertThatThrownBy(() -> service.importPayments(1L, 2L,
+                new ByteArrayInputStream(new byte[0]), PaymentImportFormat.NDJSON))
+                .isInstanceOf(UnauthorizedException.class);
+        verifyNoInteractions(batchRepository);
+    }
+
+    private AttendeeMatch match(Long id, String email, AttendeeStatus status) {
+        return new AttendeeMatch() {
+            public Long getId() { return id; }
+            public String getEmail() { return email; }
+            public AttendeeStatus getStatus() { return status; }
+        };
+    }
+
+    private LedgerKey ledgerKey(String idempotencyKey, String reference) {
+        return new LedgerKey() {
+            public String getIdempotencyKey() { return idempotencyKey; }
+            public String getReference() { return reference; }
+        };
+    }
+}
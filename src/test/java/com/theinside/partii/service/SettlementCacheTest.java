@@ -0,0 +1,163 @@
+package com.theinside.partii.service;
+
+import com.theinside.partii.dto.ParticipantBalanceResponse;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.AccountStatus;
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.enums.EventType;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SettlementCacheTest {
+
+    private static final BigDecimal PAYMENT = new BigDecimal("20.00");
+
+    @Autowired SettlementService settlementService;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void paymentRecorded_appliesThePaymentToBalancesCachedBeforeIt() {
+        EventAttendee attendee = attendee();
+        Long eventId = attendee.getEvent().getId();
+        Long organizerId = attendee.getEvent().getOrganizer().getId();
+        settlementService.getSettlement(eventId, organizerId);
+
+        recordPayment(attendee, () -> { });
+
+        assertThat(contributed(eventId, organizerId, attendee.getUser().getId())).isEqualByComparingTo(PAYMENT);
+    }
+
+    @Test
+    void paymentRecorded_doesNotCountThePaymentTwiceWhenARebuildAlreadySawIt() {
+        EventAttendee attendee = attendee();
+        Long eventId = attendee.getEvent().getId();
+        Long organizerId = attendee.getEvent().getOrganizer().getId();
+
+        // A rebuild on another thread between the commit and the settlement service's callback
+        recordPayment(attendee, () -> CompletableFuture
+                .runAsync(() -> settlementService.getSettlement(eventId, organizerId))
+                .join());
+
+        assertThat(contributed(eventId, organizerId, attendee.getUser().getId())).isEqualByComparingTo(PAYMENT);
+    }
+
+    @Test
+    void getSettlement_doesNotCacheBalancesAPaymentCompletedWhileTheyWereBeingStored() {
+        EventAttendee attendee = attendee();
+        Long eventId = attendee.getEvent().getId();
+        Long organizerId = attendee.getEvent().getOrganizer().getId();
+
+        // The payment commits, and its callback finds nothing cached, just before the loaded balances are stored
+        AtomicBoolean raced = new AtomicBoolean();
+        Map<Long, Object> racingCache = new ConcurrentHashMap<>() {
+            @Override
+            public Object put(Long key, Object value) {
+                if (raced.compareAndSet(false, true)) {
+                    CompletableFuture.runAsync(() -> recordPayment(attendee, () -> { })).join();
+                }
+                return super.put(key, value);
+            }
+
+            @Override
+            public Object putIfAbsent(Long key, Object value) {
+                return put(key, value);
+            }
+        };
+        Object target = AopTestUtils.getTargetObject(settlementService);
+        Object cache = ReflectionTestUtils.getField(target, "cache");
+        ReflectionTestUtils.setField(target, "cache", racingCache);
+        try {
+            settlementService.getSettlement(eventId, organizerId);
+
+            assertThat(raced).isTrue();
+            assertThat(contributed(eventId, organizerId, attendee.getUser().getId())).isEqualByComparingTo(PAYMENT);
+        } finally {
+            ReflectionTestUtils.setField(target, "cache", cache);
+        }
+    }
+
+    private void recordPayment(EventAttendee attendee, Runnable afterCommit) {
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommit.run();
+                }
+            });
+            EventAttendee current = attendeeRepository.findById(attendee.getId()).orElseThrow();
+            current.recordPayment(PAYMENT);
+            attendeeRepository.save(current);
+            settlementService.paymentRecorded(attendee.getEvent().getId(), attendee.getUser().getId(), PAYMENT);
+        });
+    }
+
+    private BigDecimal contributed(Long eventId, Long organizerId, Long userId) {
+        return settlementService.getSettlement(eventId, organizerId).balances().stream()
+                .filter(balance -> balance.userId().equals(userId))
+                .map(ParticipantBalanceResponse::contributed)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private EventAttendee attendee() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User guest = userRepository.save(user(run, "guest"));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Monthly Potluck")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .estimatedBudget(new BigDecimal("100.00"))
+                .status(EventStatus.ACTIVE)
+                .build());
+        return attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(guest)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .build();
+    }
+}
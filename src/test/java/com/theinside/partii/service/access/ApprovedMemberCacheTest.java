@@ -0,0 +1,92 @@
+package com.theinside.partii.service.access;
+
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovedMemberCacheTest {
+
+    @Mock EventAttendeeRepository attendeeRepository;
+    @InjectMocks ApprovedMemberCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "memberTtl", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void contains_loadsEventOnceThenAnswersFromMemory() {
+        when(attendeeRepository.findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED))
+                .thenReturn(List.of(2L, 3L));
+
+        assertThat(cache.contains(1L, 2L)).isTrue();
+        assertThat(cache.contains(1L, 3L)).isTrue();
+        assertThat(cache.contains(1L, 4L)).isFalse();
+        verify(attendeeRepository, times(1)).findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED);
+    }
+
+    @Test
+    void addAndRemove_writeThroughToLoadedEvent() {
+        when(attendeeRepository.findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED))
+                .thenReturn(List.of(2L));
+        cache.contains(1L, 2L);
+
+        cache.add(1L, 5L);
+        cache.remove(1L, 2L);
+
+        assertThat(cache.contains(1L, 5L)).isTrue();
+        assertThat(cache.contains(1L, 2L)).isFalse();
+        verify(attendeeRepository, times(1)).findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED);
+    }
+
+    @Test
+    void evict_reloadsFromDatabase() {
+        when(attendeeRepository.findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED))
+                .thenReturn(List.of(2L), List.of());
+        assertThat(cache.contains(1L, 2L)).isTrue();
+
+        cache.evict(1L);
+
+        assertThat(cache.contains(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void contains_reloadsOnceTheSetOutlivesItsTtl() {
+        ReflectionTestUtils.setField(cache, "memberTtl", Duration.ZERO);
+        when(attendeeRepository.findUserIdsByEventIdAndStatus(1L, AttendeeStatus.APPROVED))
+                .thenReturn(List.of(2L), List.of());
+        assertThat(cache.contains(1L, 2L)).isTrue();
+
+        // Removed on another instance: nothing reached this one, but the expired set is reloaded
+        assertThat(cache.contains(1L, 2L)).isFalse();
+    }
+
+    @Test
+    void longHashSet_survivesGrowthAndRemoval() {
+        LongHashSet set = LongHashSet.of(LongStream.rangeClosed(1, 1000).boxed().toList());
+        for (long id = 1001; id <= 1100; id++) {
+            set = set.with(id);
+        }
+        set = set.without(500L).with(1L);
+
+        assertThat(set.size()).isEqualTo(1099);
+        assertThat(set.contains(1100L)).isTrue();
+        assertThat(set.contains(500L)).isFalse();
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.contains(-1L)).isFalse();
+    }
+}
@@ -0,0 +1,143 @@
+package com.theinside.partii.service.access;
+
+import com.theinside.partii.enums.AttendeeStatus;
+import com.theinside.partii.enums.EventRole;
+import com.theinside.partii.enums.EventStatus;
+import com.theinside.partii.exception.ResourceNotFoundException;
+import com.theinside.partii.exception.UnauthorizedException;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.EventRepository.AccessRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventAccessResolverTest {
+
+    @Mock EventRepository eventRepository;
+    @Mock EventAttendeeRepository attendeeRepository;
+    @Mock ApprovedMemberCache approvedMembers;
+
+    private EventAccessResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new EventAccessResolver(eventRepository, attendeeRepository, approvedMembers);
+        ReflectionTestUtils.setField(resolver, "eventTtl", Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolve_withinOneRequest_queriesOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(eventRepository.findAccess(1L, 2L)).thenReturn(Optional.of(row(AttendeeStatus.APPROVED)));
+
+        EventAccess first = resolver.resolve(1L, 2L);
+        EventAccess second = resolver.resolve(1L, 2L);
+
+        assertThat(first.role()).isEqualTo(EventRole.APPROVED);
+        assertThat(second).isSameAs(first);
+        verify(eventRepository, times(1)).findAccess(1L, 2L);
+    }
+
+    @Test
+    void resolve_afterEvict_queriesAgain() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(eventRepository.findAccess(1L, 2L))
+                .thenReturn(Optional.of(row(AttendeeStatus.PENDING)), Optional.of(row(AttendeeStatus.APPROVED)));
+
+        assertThat(resolver.resolve(1L, 2L).role()).isEqualTo(EventRole.PENDING);
+        resolver.evict(1L, 2L);
+
+        assertThat(resolver.resolve(1L, 2L).role()).isEqualTo(EventRole.APPROVED);
+    }
+
+    @Test
+    void resolve_cachedEvent_approvedMemberNeedsNoQuery() {
+        ReflectionTestUtils.setField(resolver, "eventTtl", Duration.ofMinutes(1));
+        when(eventRepository.findAccess(1L, 2L)).thenReturn(Optional.of(row(AttendeeStatus.APPROVED)));
+        when(approvedMembers.contains(1L, 3L)).thenReturn(true);
+
+        resolver.resolve(1L, 2L);
+        EventAccess access = resolver.resolve(1L, 3L);
+
+        assertThat(access.role()).isEqualTo(EventRole.APPROVED);
+        assertThat(access.eventStatus()).isEqualTo(EventStatus.ACTIVE);
+        verify(eventRepository, times(1)).findAccess(any(), any());
+        verifyNoInteractions(attendeeRepository);
+    }
+
+    @Test
+    void resolve_afterEvictEvent_reloadsEvent() {
+        ReflectionTestUtils.setField(resolver, "eventTtl", Duration.ofMinutes(1));
+        when(eventRepository.findAccess(1L, 1L)).thenReturn(Optional.of(row(null)));
+
+        assertThat(resolver.resolve(1L, 1L).role()).isEqualTo(EventRole.ORGANIZER);
+        assertThat(resolver.resolve(1L, 1L).role()).isEqualTo(EventRole.ORGANIZER);
+        verify(eventRepository, times(1)).findAccess(1L, 1L);
+
+        resolver.evictEvent(1L);
+        resolver.resolve(1L, 1L);
+        verify(eventRepository, times(2)).findAccess(1L, 1L);
+        verify(approvedMembers).evict(1L);
+    }
+
+    @Test
+    void resolve_cachedEvent_nonMemberFallsBackToAttendeeStatus() {
+        ReflectionTestUtils.setField(resolver, "eventTtl", Duration.ofMinutes(1));
+        when(eventRepository.findAccess(1L, 1L)).thenReturn(Optional.of(row(null)));
+        when(attendeeRepository.findStatusByEventIdAndUserId(1L, 4L)).thenReturn(Optional.of(AttendeeStatus.WAITLIST));
+
+        resolver.resolve(1L, 1L);
+
+        assertThat(resolver.resolve(1L, 4L).role()).isEqualTo(EventRole.PENDING);
+    }
+
+    @Test
+    void resolve_removedAttendee_hasNoRole() {
+        when(eventRepository.findAccess(1L, 2L)).thenReturn(Optional.of(row(AttendeeStatus.REMOVED)));
+
+        EventAccess access = resolver.resolve(1L, 2L);
+
+        assertThat(access.role()).isEqualTo(EventRole.NONE);
+        assertThatThrownBy(() -> access.requireParticipant("nope"))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void resolve_missingEvent_throwsResourceNotFound() {
+        when(eventRepository.findAccess(9L, 2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> resolver.resolve(9L, 2L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private AccessRow row(AttendeeStatus attendeeStatus) {
+        return new AccessRow() {
+            public Long getEventId() { return 1L; }
+            public Long getOrganizerId() { return 1L; }
+            public EventStatus getEventStatus() { return EventStatus.ACTIVE; }
+            public AttendeeStatus getAttendeeStatus() { return attendeeStatus; }
+        };
+    }
+}
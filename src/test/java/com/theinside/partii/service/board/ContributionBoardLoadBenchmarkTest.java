@@ -0,0 +1,168 @@
+package com.theinside.partii.service.board;
+
+import com.theinside.partii.config.WebSocketConfig;
+import com.theinside.partii.dto.ContributionBoardDelta;
+import com.theinside.partii.entity.ContributionItem;
+import com.theinside.partii.entity.Event;
+import com.theinside.partii.entity.EventAttendee;
+import com.theinside.partii.entity.User;
+import com.theinside.partii.enums.*;
+import com.theinside.partii.repository.ContributionItemRepository;
+import com.theinside.partii.repository.EventAttendeeRepository;
+import com.theinside.partii.repository.EventRepository;
+import com.theinside.partii.repository.UserRepository;
+import com.theinside.partii.security.TokenManager;
+import com.theinside.partii.service.ContributionService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fans one committed claim out to 1,000 live subscribers on a single event's board. Excluded from the default
+ * build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ContributionBoardLoadBenchmarkTest {
+
+    private static final int SUBSCRIBERS = 1000;
+
+    @LocalServerPort int port;
+
+    @Autowired ContributionService contributionService;
+    @Autowired TokenManager tokenManager;
+    @Autowired UserRepository userRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired EventAttendeeRepository attendeeRepository;
+    @Autowired ContributionItemRepository contributionItemRepository;
+    @Autowired SimpUserRegistry userRegistry;
+
+    @Test
+    void claim_isDeliveredToEverySubscriber() throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User organizer = userRepository.save(user(run, "organizer"));
+        User attendee = userRepository.save(user(run, "attendee"));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Board Party")
+                .eventType(EventType.PARTY)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .status(EventStatus.ACTIVE)
+                .build());
+        attendeeRepository.save(EventAttendee.builder()
+                .event(event)
+                .user(attendee)
+                .status(AttendeeStatus.APPROVED)
+                .joinedAt(Instant.now())
+                .build());
+        ContributionItem item = contributionItemRepository.save(ContributionItem.builder()
+                .event(event)
+                .name("Ice")
+                .type(ContributionType.MATERIAL)
+                .priority(Priority.MUST_HAVE)
+                .status(ContributionStatus.AVAILABLE)
+                .build());
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new JacksonJsonMessageConverter());
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + tokenManager.issueToken(organizer).getAccessToken());
+        String url = "ws://localhost:" + port + WebSocketConfig.ENDPOINT;
+        String topic = ContributionBoardBroadcaster.topic(event.getId());
+
+        ConcurrentLinkedQueue<ContributionBoardDelta> received = new ConcurrentLinkedQueue<>();
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS);
+        List<StompSession> sessions = new ArrayList<>();
+        try {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                StompSession session = stompClient
+                        .connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() { })
+                        .get(10, TimeUnit.SECONDS);
+                session.subscribe(topic, new StompFrameHandler() {
+                    @Override
+                    public Type getPayloadType(StompHeaders headers) {
+                        return ContributionBoardDelta.class;
+                    }
+
+                    @Override
+                    public void handleFrame(StompHeaders headers, Object payload) {
+                        received.add((ContributionBoardDelta) payload);
+                        delivered.countDown();
+                    }
+                });
+                sessions.add(session);
+            }
+            awaitSubscriptions(topic);
+
+            long start = System.nanoTime();
+            contributionService.claimItem(event.getId(), item.getId(), attendee.getId());
+
+            assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+            System.out.printf("Delivered claim to %d subscribers in %d ms%n",
+                    SUBSCRIBERS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            assertThat(received).hasSize(SUBSCRIBERS).allSatisfy(delta -> {
+                assertThat(delta.sequence()).isEqualTo(1);
+                assertThat(delta.change()).isEqualTo(ContributionBoardChange.STATUS_CHANGED);
+                assertThat(delta.itemId()).isEqualTo(item.getId());
+                assertThat(delta.status()).isEqualTo(ContributionStatus.CLAIMED);
+                assertThat(delta.assignedToUserId()).isEqualTo(attendee.getId());
+            });
+            assertThat(contributionService.getBoardSnapshot(event.getId(), organizer.getId()).sequence()).isEqualTo(1);
+        } finally {
+            sessions.forEach(StompSession::disconnect);
+            stompClient.stop();
+        }
+    }
+
+    /**
+     * The simple broker does not send receipts, so wait until the server has registered every subscription.
+     */
+    private void awaitSubscriptions(String topic) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (userRegistry.findSubscriptions(sub -> topic.equals(sub.getDestination())).size() < SUBSCRIBERS) {
+            assertThat(System.nanoTime()).as("all subscriptions registered").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private User user(String run, String name) {
+        return User.builder()
+                .email(name + "-" + run + "@example.com")
+                .displayName(name)
+                .provider("google")
+                .providerId(name + "-" + run)
+                .generalLocation("Accra")
+                .primaryAddress("1 Test Street")
+                .phoneNumber("0200000000")
+                .accountStatus(AccountStatus.VERIFIED)
+                .isEnabled(true)
+                .build();
+    }
+}
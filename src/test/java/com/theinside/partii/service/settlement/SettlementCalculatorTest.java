@@ -0,0 +1,101 @@
+package com.theinside.partii.service.settlement;
+
+import com.theinside.partii.dto.ParticipantBalanceResponse;
+import com.theinside.partii.dto.SettlementResponse;
+import com.theinside.partii.service.settlement.SettlementCalculator.Transfer;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementCalculatorTest {
+
+    @Test
+    void settle_exactMatches_pairedDirectly() {
+        List<Transfer> transfers = SettlementCalculator.settle(
+            new long[]{1, 2, 3, 4},
+            new long[]{500, -500, 300, -300}
+        );
+
+        assertThat(transfers).containsExactlyInAnyOrder(
+            new Transfer(2, 1, 500),
+            new Transfer(4, 3, 300)
+        );
+    }
+
+    @Test
+    void settle_unevenBalances_largestDebtorPaysLargestCreditor() {
+        List<Transfer> transfers = SettlementCalculator.settle(
+            new long[]{1, 2, 3},
+            new long[]{1000, -600, -400}
+        );
+
+        assertThat(transfers).containsExactly(
+            new Transfer(2, 1, 600),
+            new Transfer(3, 1, 400)
+        );
+    }
+
+    @Test
+    void settle_unbalancedInput_throws() {
+        assertThatThrownBy(() -> SettlementCalculator.settle(new long[]{1, 2}, new long[]{100, -50}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sum to zero");
+    }
+
+    @Test
+    void settle_tenThousandParticipants_clearsEveryBalanceWithAtMostNMinusOneTransfers() {
+        int n = 10_000;
+        long[] userIds = LongStream.rangeClosed(1, n).toArray();
+        long[] balances = new long[n];
+        Random random = new Random(42);
+        long sum = 0;
+        for (int i = 1; i < n; i++) {
+            balances[i] = random.nextInt(20_001) - 10_000;
+            sum += balances[i];
+        }
+        balances[0] = -sum;
+
+        List<Transfer> transfers = SettlementCalculator.settle(userIds, balances);
+
+        long[] settled = balances.clone();
+        for (Transfer transfer : transfers) {
+            assertThat(transfer.cents()).isPositive();
+            settled[(int) transfer.fromUserId() - 1] += transfer.cents();
+            settled[(int) transfer.toUserId() - 1] -= transfer.cents();
+        }
+        assertThat(settled).containsOnly(0L);
+        assertThat(transfers).hasSizeLessThan(n);
+    }
+
+    @Test
+    void eventBalances_attendeesPayOrganizerAndGetCreditForBroughtItems() {
+        // Organizer fronts 300 of budget; guest 2 brings a 60 item; three-way even split of 360
+        EventBalances balances = new EventBalances(1L, 1L, "GHS", new BigDecimal("300.00"));
+        balances.addAttendee(2L, BigDecimal.ZERO, BigDecimal.ZERO);
+        balances.addAttendee(3L, BigDecimal.ZERO, new BigDecimal("50.00"));
+        balances.addBroughtCost(2L, new BigDecimal("60.00"));
+
+        SettlementResponse settlement = balances.settle();
+
+        assertThat(settlement.totalCost()).isEqualByComparingTo("360.00");
+        assertThat(settlement.balances()).extracting(ParticipantBalanceResponse::balance)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("130.00"), new BigDecimal("-60.00"), new BigDecimal("-70.00"));
+        assertThat(settlement.transfers()).hasSize(2);
+
+        balances.applyPayment(3L, new BigDecimal("70.00"));
+
+        assertThat(balances.settle().transfers()).singleElement()
+            .satisfies(t -> {
+                assertThat(t.fromUserId()).isEqualTo(2L);
+                assertThat(t.toUserId()).isEqualTo(1L);
+                assertThat(t.amount()).isEqualByComparingTo("60.00");
+            });
+    }
+}